@@ -4,16 +4,25 @@ import com.aitorque.entity.AITorqueEntity;
 import com.aitorque.listeners.EntityListener;
 import com.aitorque.listeners.PlayerListener;
 import com.aitorque.phases.PhaseManager;
+import com.aitorque.performance.ParticleBudget;
+import com.aitorque.performance.QualityGovernor;
+import com.aitorque.scheduler.BossTask;
+import com.aitorque.scheduler.ComputePool;
+import com.aitorque.scheduler.TaskGroup;
+import com.aitorque.scheduler.TaskScheduler;
 import com.aitorque.util.ConfigManager;
+import com.aitorque.world.InteractiveBlockIndex;
+import com.aitorque.world.SurfaceCache;
+import com.aitorque.world.TerrainCache;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 /**
@@ -29,16 +38,45 @@ public class AITorquePlugin extends JavaPlugin {
     private static AITorquePlugin instance;
     private ConfigManager configManager;
     private Map<UUID, AITorqueEntity> activeTorques;
+    private TaskScheduler taskScheduler;
+    private ComputePool computePool;
+    private QualityGovernor qualityGovernor;
+    private ParticleBudget particleBudget;
+    private InteractiveBlockIndex interactiveBlocks;
+    private TerrainCache terrainCache;
+    private SurfaceCache surfaceCache;
 
     @Override
     public void onEnable() {
         instance = this;
-        activeTorques = new HashMap<>();
+        // Bosses in different regions tick on different threads under Folia
+        activeTorques = new ConcurrentHashMap<>();
 
         // Initialize configuration
         saveDefaultConfig();
         configManager = new ConfigManager(this);
 
+        // Bukkit scheduler on Paper, region/entity schedulers on Folia
+        taskScheduler = new TaskScheduler(this);
+
+        // Worker threads for pure boss math (terrain scans for block-heavy attacks)
+        computePool = new ComputePool(this);
+
+        // Tracks server MSPT and picks the effect quality tier
+        qualityGovernor = new QualityGovernor(this);
+
+        // Per-world particle cap shared by every boss
+        particleBudget = new ParticleBudget(this);
+
+        // Levers, buttons, doors and trapdoors the boss plays with
+        interactiveBlocks = new InteractiveBlockIndex(this);
+
+        // Chunk snapshots shared by block-heavy attacks
+        terrainCache = new TerrainCache(this);
+
+        // Ground height per column for meteors, markers, towers and statues
+        surfaceCache = new SurfaceCache(this);
+
         // Register events
         registerEvents();
 
@@ -52,7 +90,7 @@ public class AITorquePlugin extends JavaPlugin {
 
         // Spawn on start if configured
         if (getConfig().getBoolean("spawn.spawn-on-server-start", false)) {
-            Bukkit.getScheduler().runTaskLater(this, this::spawnInitialTorque, 100L);
+            taskScheduler.runAt(Bukkit.getWorlds().get(0).getSpawnLocation(), this::spawnInitialTorque, 100L);
         }
     }
 
@@ -64,6 +102,10 @@ public class AITorquePlugin extends JavaPlugin {
         }
         activeTorques.clear();
 
+        if (computePool != null) {
+            computePool.shutdown();
+        }
+
         getLogger().info("AI Torque has been deactivated.");
     }
 
@@ -73,6 +115,10 @@ public class AITorquePlugin extends JavaPlugin {
     private void registerEvents() {
         getServer().getPluginManager().registerEvents(new EntityListener(this), this);
         getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
+        getServer().getPluginManager().registerEvents(qualityGovernor, this);
+        getServer().getPluginManager().registerEvents(interactiveBlocks, this);
+        getServer().getPluginManager().registerEvents(terrainCache, this);
+        getServer().getPluginManager().registerEvents(surfaceCache, this);
     }
 
     /**
@@ -152,7 +198,7 @@ public class AITorquePlugin extends JavaPlugin {
         int ticksBetweenBlocks = Math.max(1, 20 / tunnelSpeed); // Convert blocks/second to ticks (minimum 1 tick)
         boolean showSkull = getConfig().getBoolean("spawn.show-skull-marker", true);
 
-        Bukkit.getScheduler().runTaskTimer(this, new Runnable() {
+        torque.runTimer("tunneling", new BossTask() {
             @Override
             public void run() {
                 org.bukkit.Location loc = torque.getLocation();
@@ -160,6 +206,7 @@ public class AITorquePlugin extends JavaPlugin {
                 // Check if reached surface (Y > 60)
                 if (loc.getY() >= 60) {
                     torque.setTunneling(false);
+                    cancel();
                     return;
                 }
 
@@ -167,13 +214,13 @@ public class AITorquePlugin extends JavaPlugin {
                 if (showSkull) {
                     // Spawn large skull particles above ground to mark location
                     org.bukkit.Location surfaceLoc = loc.clone();
-                    surfaceLoc.setY(loc.getWorld().getHighestBlockYAt(loc) + 2);
+                    surfaceLoc.setY(surfaceCache.getHighestY(loc) + 2);
 
-                    loc.getWorld().spawnParticle(
+                    torque.getParticles().emit(ParticleBudget.Priority.TELEGRAPH,
                         org.bukkit.Particle.SOUL,
                         surfaceLoc, 100, 1.0, 1.0, 1.0, 0.05
                     );
-                    loc.getWorld().spawnParticle(
+                    torque.getParticles().emit(ParticleBudget.Priority.TELEGRAPH,
                         org.bukkit.Particle.LARGE_SMOKE,
                         surfaceLoc, 50, 1.5, 0.5, 1.5, 0.1
                     );
@@ -186,17 +233,18 @@ public class AITorquePlugin extends JavaPlugin {
                 org.bukkit.block.Block blockAbove = newLoc.getBlock();
                 if (!blockAbove.getType().isAir()) {
                     blockAbove.breakNaturally();
+                    surfaceCache.invalidate(blockAbove.getWorld(), blockAbove.getX(), blockAbove.getZ());
 
                     // Intense particle effects
-                    loc.getWorld().spawnParticle(
+                    torque.getParticles().emit(
                         org.bukkit.Particle.EXPLOSION_EMITTER,
                         newLoc, 3, 0.5, 0.5, 0.5, 0.1
                     );
-                    loc.getWorld().spawnParticle(
+                    torque.getParticles().emit(
                         org.bukkit.Particle.LAVA,
                         newLoc, 30, 0.5, 0.5, 0.5, 0.1
                     );
-                    loc.getWorld().spawnParticle(
+                    torque.getParticles().emit(
                         org.bukkit.Particle.FLAME,
                         newLoc, 50, 1.0, 1.0, 1.0, 0.2
                     );
@@ -221,6 +269,8 @@ public class AITorquePlugin extends JavaPlugin {
             return handleAITorqueCommand(sender, args);
         } else if (command.getName().equalsIgnoreCase("spawntorque")) {
             return handleSpawnCommand(sender);
+        } else if (command.getName().equalsIgnoreCase("torqueeffects")) {
+            return handleEffectsCommand(sender, args);
         }
         return false;
     }
@@ -242,6 +292,7 @@ public class AITorquePlugin extends JavaPlugin {
             sender.sendMessage("§e/aitorque debug §7- Toggle debug mode");
             sender.sendMessage("§e/aitorque reload §7- Reload configuration");
             sender.sendMessage("§e/aitorque info §7- Show AI Torque info");
+            sender.sendMessage("§e/aitorque tasks §7- Show live scheduled tasks");
             return true;
         }
 
@@ -271,6 +322,9 @@ public class AITorquePlugin extends JavaPlugin {
             case "info":
                 return handleInfoCommand(sender);
 
+            case "tasks":
+                return handleTasksCommand(sender);
+
             default:
                 sender.sendMessage("§cUnknown subcommand. Use /aitorque for help.");
                 return true;
@@ -343,6 +397,38 @@ public class AITorquePlugin extends JavaPlugin {
         return true;
     }
 
+    /**
+     * Handle /torqueeffects - per-player particle level
+     */
+    private boolean handleEffectsCommand(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage("§cThis command can only be used by players.");
+            return true;
+        }
+
+        Player player = (Player) sender;
+        if (args.length == 0) {
+            boolean reduced = particleBudget.isReducedEffects(player);
+            sender.sendMessage("§eAI Torque effects: " + (reduced ? "§cREDUCED" : "§aFULL"));
+            sender.sendMessage("§7Usage: /torqueeffects <full|reduced>");
+            return true;
+        }
+
+        switch (args[0].toLowerCase()) {
+            case "full":
+                particleBudget.setReducedEffects(player, false);
+                sender.sendMessage("§aAI Torque effects: FULL");
+                return true;
+            case "reduced":
+                particleBudget.setReducedEffects(player, true);
+                sender.sendMessage("§eAI Torque effects: §cREDUCED §7(fewer particles, none from afar)");
+                return true;
+            default:
+                sender.sendMessage("§cUsage: /torqueeffects <full|reduced>");
+                return true;
+        }
+    }
+
     /**
      * Handle debug command
      */
@@ -362,6 +448,9 @@ public class AITorquePlugin extends JavaPlugin {
         sender.sendMessage("§6=== AI Torque Information ===");
         sender.sendMessage("§eActive Instances: §f" + activeTorques.size());
         sender.sendMessage("§eMax Instances: §f" + getConfig().getInt("spawn.max-instances"));
+        sender.sendMessage("§eQuality: §f" + qualityGovernor.getTier()
+            + String.format(" §7(%.1f mspt)", qualityGovernor.getAverageMspt()));
+        sender.sendMessage("§eParticles over world budget: §f" + particleBudget.getDropped());
 
         for (Map.Entry<UUID, AITorqueEntity> entry : activeTorques.entrySet()) {
             AITorqueEntity torque = entry.getValue();
@@ -369,6 +458,52 @@ public class AITorquePlugin extends JavaPlugin {
             sender.sendMessage("§e  Phase: §f" + torque.getCurrentPhase());
             sender.sendMessage("§e  Health: §f" + torque.getHealth() + "/" + torque.getMaxHealth());
             sender.sendMessage("§e  Form: §f" + torque.getCurrentForm());
+            sender.sendMessage("§e  Dormant: §f" + torque.isDormant());
+            sender.sendMessage("§e  Particles: §f" + torque.getParticles().getEmitted()
+                + " §7(" + torque.getParticles().getDropped() + " thinned or dropped)");
+            sender.sendMessage("§e  Body parts: §f" + torque.getRig().size()
+                + " §7(" + torque.getRig().getUpdates() + " display updates sent)");
+            if (torque.getEffectWheel().getActiveCount() > 0) {
+                sender.sendMessage("§e  Effect timelines running: §f" + torque.getEffectWheel().getActiveCount());
+            }
+            if (torque.getJobs().getPendingCount() > 0) {
+                sender.sendMessage("§e  Block scan jobs queued: §f" + torque.getJobs().getPendingCount());
+            }
+            if (torque.getBlockEdits().getPending() > 0) {
+                sender.sendMessage("§e  Block edits queued: §f" + torque.getBlockEdits().getPending());
+            }
+
+            Map<String, Long> cooling = torque.getCooldowns().getActive();
+            if (!cooling.isEmpty()) {
+                StringBuilder line = new StringBuilder("§e  Cooldowns: §f");
+                for (Map.Entry<String, Long> cooldown : cooling.entrySet()) {
+                    line.append(cooldown.getKey()).append(" §7")
+                        .append(String.format("%.1fs", cooldown.getValue() / 20.0)).append("§f ");
+                }
+                sender.sendMessage(line.toString().trim());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Handle tasks command - live scheduled tasks per boss and subsystem
+     */
+    private boolean handleTasksCommand(CommandSender sender) {
+        sender.sendMessage("§6=== AI Torque Tasks ===");
+        if (activeTorques.isEmpty()) {
+            sender.sendMessage("§7No active AI Torques.");
+            return true;
+        }
+
+        for (Map.Entry<UUID, AITorqueEntity> entry : activeTorques.entrySet()) {
+            TaskGroup tasks = entry.getValue().getTasks();
+            sender.sendMessage("§e  ID: §f" + entry.getKey() + " §7(" + tasks.getLiveCount() + " live)");
+
+            for (Map.Entry<String, Integer> subsystem : tasks.getLiveCounts().entrySet()) {
+                sender.sendMessage("§7    " + subsystem.getKey() + ": §f" + subsystem.getValue());
+            }
         }
 
         return true;
@@ -416,6 +551,55 @@ public class AITorquePlugin extends JavaPlugin {
         return configManager;
     }
 
+    /**
+     * Get the scheduler abstraction (Bukkit or Folia)
+     */
+    public TaskScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+
+    /**
+     * Get the worker pool for off-thread boss computation
+     */
+    public ComputePool getComputePool() {
+        return computePool;
+    }
+
+    /**
+     * Get the MSPT-driven quality governor
+     */
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
+    /**
+     * Get the per-world particle budget
+     */
+    public ParticleBudget getParticleBudget() {
+        return particleBudget;
+    }
+
+    /**
+     * Get the index of interactive blocks (levers, doors, ...)
+     */
+    public InteractiveBlockIndex getInteractiveBlocks() {
+        return interactiveBlocks;
+    }
+
+    /**
+     * Get the shared chunk snapshot cache
+     */
+    public TerrainCache getTerrainCache() {
+        return terrainCache;
+    }
+
+    /**
+     * Get the cached ground height per column
+     */
+    public SurfaceCache getSurfaceCache() {
+        return surfaceCache;
+    }
+
     /**
      * Get plugin instance
      */
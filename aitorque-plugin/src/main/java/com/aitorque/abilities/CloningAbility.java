@@ -106,7 +106,7 @@ public class CloningAbility {
         clone.setSize(3);
 
         // Visual effect
-        location.getWorld().spawnParticle(
+        entity.getParticles().emit(
                 Particle.PORTAL,
                 location,
                 100,
@@ -138,7 +138,7 @@ public class CloningAbility {
 
                 // Visual effect
                 if (Math.random() < 0.1) {
-                    data.cloneEntity.getWorld().spawnParticle(
+                    entity.getParticles().emit(
                             Particle.DRAGON_BREATH,
                             data.cloneEntity.getLocation(),
                             5,
@@ -164,7 +164,7 @@ public class CloningAbility {
                 data.voidEnergy = 0; // Reset after consumption
 
                 // Visual drain effect
-                data.cloneEntity.getWorld().spawnParticle(
+                entity.getParticles().emit(
                         Particle.SOUL,
                         data.cloneEntity.getLocation(),
                         20,
@@ -195,7 +195,7 @@ public class CloningAbility {
 
                 // Remove clone with effect
                 Location loc = data.cloneEntity.getLocation();
-                data.cloneEntity.getWorld().spawnParticle(
+                entity.getParticles().emit(
                         Particle.EXPLOSION_EMITTER,
                         loc,
                         5,
@@ -2,11 +2,14 @@ package com.aitorque.abilities;
 
 import com.aitorque.AITorquePlugin;
 import com.aitorque.entity.AITorqueEntity;
+import com.aitorque.entity.BeamRenderer;
+import com.aitorque.performance.ParticleBudget;
+import com.aitorque.world.BlockEditQueue;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.EntityType;
 
@@ -17,6 +20,10 @@ import java.util.*;
  */
 public class HealingTowerAbility {
 
+    // Tower-to-boss beam, two hearts per block
+    private static final BeamRenderer.Style HEALING_BEAM = new BeamRenderer.Style(ParticleBudget.Priority.AMBIENT, 0.5)
+            .layer(Particle.HEART, 1, 0, 0);
+
     private final AITorquePlugin plugin;
     private final AITorqueEntity entity;
     private final Map<Location, TowerData> towers;
@@ -66,8 +73,7 @@ public class HealingTowerAbility {
             Location towerLoc = new Location(center.getWorld(), x, y, z);
 
             // Find ground
-            Block ground = towerLoc.getWorld().getHighestBlockAt(towerLoc);
-            towerLoc.setY(ground.getY() + 1);
+            towerLoc.setY(plugin.getSurfaceCache().getHighestY(towerLoc) + 1);
 
             spawnTower(towerLoc);
         }
@@ -95,7 +101,7 @@ public class HealingTowerAbility {
         marker.setInvulnerable(false);
 
         // Visual effect
-        location.getWorld().spawnParticle(
+        entity.getParticles().emit(
                 Particle.HEART,
                 location.clone().add(0, 2, 0),
                 50,
@@ -117,25 +123,28 @@ public class HealingTowerAbility {
      * Build physical tower structure
      */
     private void buildTowerStructure(Location base) {
-        // Simple pillar tower
+        int baseX = base.getBlockX();
+        int baseY = base.getBlockY();
+        int baseZ = base.getBlockZ();
+        BlockData beacon = Material.BEACON.createBlockData();
+        BlockData obsidian = Material.OBSIDIAN.createBlockData();
+        BlockData glass = Material.GLASS.createBlockData();
+
+        // Simple pillar tower, placed through the boss's edit queue
+        BlockEditQueue.Batch tower = new BlockEditQueue.Batch(base.getWorld());
         for (int y = 0; y < 5; y++) {
-            Block block = base.clone().add(0, y, 0).getBlock();
-            block.setType(Material.BEACON);
+            tower.set(baseX, baseY + y, baseZ, beacon);
 
             // Surround with glass
             for (int x = -1; x <= 1; x++) {
                 for (int z = -1; z <= 1; z++) {
                     if (x != 0 || z != 0) {
-                        Block wall = base.clone().add(x, y, z).getBlock();
-                        if (y == 0) {
-                            wall.setType(Material.OBSIDIAN);
-                        } else {
-                            wall.setType(Material.GLASS);
-                        }
+                        tower.set(baseX + x, baseY + y, baseZ + z, y == 0 ? obsidian : glass);
                     }
                 }
             }
         }
+        entity.getBlockEdits().submit(tower);
     }
 
     /**
@@ -164,7 +173,7 @@ public class HealingTowerAbility {
 
                 // Visual healing beam
                 if (entity.getTickCounter() % 20 == 0) {
-                    drawHealingBeam(data.location, entity.getLocation());
+                    entity.getBeams().spoke(HEALING_BEAM, 2, data.location.clone().add(0, 2, 0));
                 }
             }
         }
@@ -174,32 +183,6 @@ public class HealingTowerAbility {
         }
     }
 
-    /**
-     * Draw healing beam particle effect
-     */
-    private void drawHealingBeam(Location from, Location to) {
-        double distance = from.distance(to);
-        int particles = (int) (distance * 2);
-
-        for (int i = 0; i < particles; i++) {
-            double ratio = (double) i / particles;
-
-            double x = from.getX() + (to.getX() - from.getX()) * ratio;
-            double y = from.getY() + 2 + (to.getY() - from.getY()) * ratio;
-            double z = from.getZ() + (to.getZ() - from.getZ()) * ratio;
-
-            Location particleLoc = new Location(from.getWorld(), x, y, z);
-
-            from.getWorld().spawnParticle(
-                    Particle.HEART,
-                    particleLoc,
-                    1,
-                    0, 0, 0,
-                    0
-            );
-        }
-    }
-
     /**
      * Respawn destroyed towers
      */
@@ -223,7 +206,7 @@ public class HealingTowerAbility {
                 Location towerLoc = new Location(
                         center.getWorld(),
                         x,
-                        center.getWorld().getHighestBlockYAt((int) x, (int) z) + 1,
+                        plugin.getSurfaceCache().getHighestY(center.getWorld(), (int) x, (int) z) + 1,
                         z
                 );
 
@@ -262,6 +245,14 @@ public class HealingTowerAbility {
                     }
                 }
             }
+
+            // The ground under the tower is the surface again
+            for (int x = -1; x <= 1; x++) {
+                for (int z = -1; z <= 1; z++) {
+                    plugin.getSurfaceCache().invalidate(data.location.getWorld(),
+                        data.location.getBlockX() + x, data.location.getBlockZ() + z);
+                }
+            }
         }
 
         towers.clear();
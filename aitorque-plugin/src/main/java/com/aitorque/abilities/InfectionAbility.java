@@ -2,6 +2,7 @@ package com.aitorque.abilities;
 
 import com.aitorque.AITorquePlugin;
 import com.aitorque.entity.AITorqueEntity;
+import com.aitorque.world.BlockKey;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -16,6 +17,9 @@ import java.util.*;
  */
 public class InfectionAbility {
 
+    private static final int SPREAD_RADIUS = 5;        // Blocks a parasite reaches
+    private static final double SPREAD_CHANCE = 0.05;  // Per parasite in range, per update
+
     private final AITorquePlugin plugin;
     private final AITorqueEntity entity;
     private final Set<UUID> parasiteVillagers;
@@ -90,7 +94,7 @@ public class InfectionAbility {
         ));
 
         // Particle effect
-        villager.getWorld().spawnParticle(
+        entity.getParticles().emit(
                 Particle.LARGE_SMOKE,
                 villager.getLocation(),
                 50,
@@ -108,40 +112,89 @@ public class InfectionAbility {
 
     /**
      * Update parasite spread - parasites infect other villagers
+     *
+     * Takes one snapshot of the world's villagers and buckets the healthy ones
+     * into x/z cells the size of the spread radius, so each parasite only looks
+     * at the 3x3 cells around it. Exposure is counted per villager and rolled
+     * once: with k parasites in range the chance is 1 - 0.95^k, the same as k
+     * separate 5% rolls.
      */
     public void updateParasiteSpread() {
-        if (!active) return;
+        if (!active || parasiteVillagers.isEmpty()) return;
 
         int maxParasites = plugin.getConfigManager().getMaxParasites();
         if (parasiteVillagers.size() >= maxParasites) return;
 
-        // Each parasite tries to infect nearby villagers
-        List<UUID> parasitesToCheck = new ArrayList<>(parasiteVillagers);
-
-        for (UUID parasiteId : parasitesToCheck) {
-            Entity entity = plugin.getServer().getEntity(parasiteId);
-
-            if (entity instanceof Villager) {
-                Villager parasite = (Villager) entity;
+        List<Villager> villagers = new ArrayList<>(entity.getLocation().getWorld().getEntitiesByClass(Villager.class));
+
+        // Read every position once (x, y, z per villager); bucket healthy
+        // villagers and note which parasites are still around
+        double[] positions = new double[villagers.size() * 3];
+        Location at = new Location(null, 0, 0, 0);
+        Map<Long, List<Integer>> cells = new HashMap<>();
+        List<Integer> parasites = new ArrayList<>();
+        for (int i = 0; i < villagers.size(); i++) {
+            Villager villager = villagers.get(i);
+            villager.getLocation(at);
+            positions[i * 3] = at.getX();
+            positions[i * 3 + 1] = at.getY();
+            positions[i * 3 + 2] = at.getZ();
+
+            if (parasiteVillagers.contains(villager.getUniqueId())) {
+                parasites.add(i);
+                continue;
+            }
+            cells.computeIfAbsent(cell(at.getX(), at.getZ()), key -> new ArrayList<>()).add(i);
+        }
 
-                // Find nearby uninfected villagers
-                Collection<Entity> nearby = parasite.getWorld().getNearbyEntities(
-                        parasite.getLocation(), 5, 5, 5,
-                        e -> e instanceof Villager && !parasiteVillagers.contains(e.getUniqueId())
-                );
+        // Dead, removed or gone to another world
+        if (parasites.size() < parasiteVillagers.size()) {
+            Set<UUID> alive = new HashSet<>();
+            for (int parasite : parasites) {
+                alive.add(villagers.get(parasite).getUniqueId());
+            }
+            parasiteVillagers.retainAll(alive);
+        }
 
-                for (Entity e : nearby) {
-                    if (Math.random() < 0.05) { // 5% chance per tick
-                        convertToParasite((Villager) e);
+        // Count how many parasites each healthy villager is near
+        int[] exposure = new int[villagers.size()];
+        for (int parasite : parasites) {
+            double fromX = positions[parasite * 3];
+            double fromY = positions[parasite * 3 + 1];
+            double fromZ = positions[parasite * 3 + 2];
+            int cellX = (int) Math.floor(fromX / SPREAD_RADIUS);
+            int cellZ = (int) Math.floor(fromZ / SPREAD_RADIUS);
+
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    List<Integer> bucket = cells.get(BlockKey.chunk(cellX + dx, cellZ + dz));
+                    if (bucket == null) continue;
+
+                    for (int index : bucket) {
+                        if (Math.abs(positions[index * 3] - fromX) <= SPREAD_RADIUS
+                                && Math.abs(positions[index * 3 + 1] - fromY) <= SPREAD_RADIUS
+                                && Math.abs(positions[index * 3 + 2] - fromZ) <= SPREAD_RADIUS) {
+                            exposure[index]++;
+                        }
                     }
-
-                    if (parasiteVillagers.size() >= maxParasites) return;
                 }
-            } else {
-                // Remove dead/invalid parasites
-                parasiteVillagers.remove(parasiteId);
             }
         }
+
+        // One roll per exposed villager
+        for (int i = 0; i < exposure.length; i++) {
+            if (exposure[i] == 0) continue;
+
+            double chance = 1 - Math.pow(1 - SPREAD_CHANCE, exposure[i]);
+            if (Math.random() < chance) {
+                convertToParasite(villagers.get(i));
+                if (parasiteVillagers.size() >= maxParasites) return;
+            }
+        }
+    }
+
+    private static long cell(double x, double z) {
+        return BlockKey.chunk((int) Math.floor(x / SPREAD_RADIUS), (int) Math.floor(z / SPREAD_RADIUS));
     }
 
     /**
@@ -58,7 +58,7 @@ public class StatueAbility {
         Location statueLoc = new Location(
                 entityLoc.getWorld(),
                 x,
-                entityLoc.getWorld().getHighestBlockYAt((int) x, (int) z) + 1,
+                plugin.getSurfaceCache().getHighestY(entityLoc.getWorld(), (int) x, (int) z) + 1,
                 z
         );
 
@@ -90,6 +90,7 @@ public class StatueAbility {
         // Missing wood block marker (air block with sign)
         Block woodSlot = base.clone().add(0, 4, 0).getBlock();
         woodSlot.setType(Material.AIR);
+        invalidateSurface(base);
 
         // Spawn armor stand marker
         ArmorStand marker = (ArmorStand) base.getWorld().spawnEntity(
@@ -103,7 +104,7 @@ public class StatueAbility {
         marker.setVisible(false);
 
         // Visual effect
-        base.getWorld().spawnParticle(
+        entity.getParticles().emit(
                 Particle.ENCHANT,
                 base.clone().add(0, 2, 0),
                 50,
@@ -161,7 +162,7 @@ public class StatueAbility {
         );
 
         // Massive visual effect
-        statueLoc.getWorld().spawnParticle(
+        entity.getParticles().emit(
                 Particle.EXPLOSION_EMITTER,
                 statueLoc.clone().add(0, 2, 0),
                 10,
@@ -181,7 +182,7 @@ public class StatueAbility {
 
         // Teleport AI Torque to statue location
         Location descendLoc = statueLoc.clone().add(0, 20, 0);
-        entity.getBukkitEntity().teleport(descendLoc);
+        entity.teleport(descendLoc);
 
         // Massive power boost from wood
         long powerGain = plugin.getConfigManager().getWoodPowerMultiplier();
@@ -213,7 +214,7 @@ public class StatueAbility {
 
                     if (isWoodType(block.getType())) {
                         // Remove wood with effect
-                        blockLoc.getWorld().spawnParticle(
+                        entity.getParticles().emit(
                                 Particle.LARGE_SMOKE,
                                 blockLoc.clone().add(0.5, 0.5, 0.5),
                                 5,
@@ -222,6 +223,7 @@ public class StatueAbility {
                         );
 
                         block.setType(Material.AIR);
+                        plugin.getSurfaceCache().invalidate(block.getWorld(), block.getX(), block.getZ());
 
                         // Add power per wood block
                         entity.addPower(plugin.getConfigManager().getWoodPowerMultiplier());
@@ -246,6 +248,18 @@ public class StatueAbility {
         for (int y = 1; y <= 4; y++) {
             base.clone().add(0, y, 0).getBlock().setType(Material.AIR);
         }
+        invalidateSurface(base);
+    }
+
+    /**
+     * Mark the statue's 3x3 footprint stale in the surface cache
+     */
+    private void invalidateSurface(Location base) {
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                plugin.getSurfaceCache().invalidate(base.getWorld(), base.getBlockX() + x, base.getBlockZ() + z);
+            }
+        }
     }
 
     /**
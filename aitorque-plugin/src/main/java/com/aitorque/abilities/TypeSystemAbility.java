@@ -94,7 +94,7 @@ public class TypeSystemAbility {
 
         // Visual transformation
         Location loc = entity.getLocation();
-        loc.getWorld().spawnParticle(
+        entity.getParticles().emit(
                 Particle.EXPLOSION,
                 loc,
                 20,
@@ -123,7 +123,7 @@ public class TypeSystemAbility {
         Location loc = entity.getLocation();
 
         // Spawn type particles
-        loc.getWorld().spawnParticle(
+        entity.getParticles().emit(
                 currentType.particle,
                 loc.clone().add(0, 2, 0),
                 30,
@@ -216,10 +216,10 @@ public class TypeSystemAbility {
         Location loc = entity.getLocation();
 
         // Teleport high in sky
-        entity.getBukkitEntity().teleport(loc.clone().add(0, 50, 0));
+        entity.teleport(loc.clone().add(0, 50, 0));
 
         // Fall with effect
-        loc.getWorld().spawnParticle(
+        entity.getParticles().emit(
                 Particle.EXPLOSION_EMITTER,
                 loc.clone().add(0, 50, 0),
                 50,
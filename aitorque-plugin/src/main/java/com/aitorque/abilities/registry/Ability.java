@@ -0,0 +1,95 @@
+package com.aitorque.abilities.registry;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Ability - One boss attack plus the gates that decide when it may be used
+ */
+public final class Ability {
+
+    /**
+     * Distance band the target must be in
+     */
+    public enum RangeBand {
+        CLOSE(0, 5),
+        MEDIUM(5, 15),
+        LONG(15, 30),
+        ANY(0, Double.MAX_VALUE);
+
+        private final double min;
+        private final double max;
+
+        RangeBand(double min, double max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        public boolean contains(double distance) {
+            return distance >= min && distance < max;
+        }
+    }
+
+    /**
+     * Rough server cost of running the ability once
+     */
+    public enum Cost {
+        LIGHT,      // Single-tick particles/damage
+        MODERATE,   // Spawns entities or explosions
+        HEAVY       // Multi-tick timelines or mass spawns
+    }
+
+    /**
+     * The attack itself
+     */
+    @FunctionalInterface
+    public interface Action {
+        void execute(Player target);
+    }
+
+    private final String id;
+    private final RangeBand range;
+    private final int minPhase;
+    private final int minEvolution;
+    private final int cooldown;
+    private final Cost cost;
+    private final Action action;
+
+    /**
+     * @param id           Ability id (also used for diagnostics)
+     * @param range        Target distance band
+     * @param minPhase     First phase the ability is available in
+     * @param minEvolution Minimum evolution stage
+     * @param cooldown     Ticks before the dispatcher may pick again
+     * @param cost         Estimated server cost
+     * @param action       The attack
+     */
+    public Ability(String id, RangeBand range, int minPhase, int minEvolution, int cooldown, Cost cost, Action action) {
+        this.id = id;
+        this.range = range;
+        this.minPhase = minPhase;
+        this.minEvolution = minEvolution;
+        this.cooldown = cooldown;
+        this.cost = cost;
+        this.action = action;
+    }
+
+    /**
+     * Whether the runtime gates (evolution, distance, cost) allow this ability
+     */
+    public boolean isUsable(int evolutionStage, double distance, Cost maxCost) {
+        return evolutionStage >= minEvolution
+            && range.contains(distance)
+            && cost.ordinal() <= maxCost.ordinal();
+    }
+
+    public void execute(Player target) {
+        action.execute(target);
+    }
+
+    public String getId() { return id; }
+    public RangeBand getRange() { return range; }
+    public int getMinPhase() { return minPhase; }
+    public int getMinEvolution() { return minEvolution; }
+    public int getCooldown() { return cooldown; }
+    public Cost getCost() { return cost; }
+}
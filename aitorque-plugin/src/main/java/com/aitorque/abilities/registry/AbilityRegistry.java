@@ -0,0 +1,119 @@
+package com.aitorque.abilities.registry;
+
+import java.util.*;
+
+/**
+ * Ability Registry - Table dispatch for a family of boss attacks
+ *
+ * Abilities are registered once, then {@link #build()} precomputes one
+ * candidate array per distinct unlock phase, so dispatch only has to find the
+ * table for its phase and check the cheap runtime gates (evolution, distance,
+ * cost). Tables are keyed by threshold rather than by phase - max-phase can
+ * be in the millions.
+ */
+public class AbilityRegistry {
+
+    private static final Ability[] NONE = new Ability[0];
+
+    private final List<Ability> abilities;
+    private final Random random;
+    private int[] thresholds;               // Distinct minPhase values, ascending
+    private Ability[][] candidatesByThreshold;
+    private int rotation;
+
+    public AbilityRegistry() {
+        this.abilities = new ArrayList<>();
+        this.random = new Random();
+        this.thresholds = new int[0];
+        this.candidatesByThreshold = new Ability[0][];
+        this.rotation = 0;
+    }
+
+    /**
+     * Add an ability (call {@link #build()} afterwards)
+     */
+    public AbilityRegistry register(Ability ability) {
+        abilities.add(ability);
+        return this;
+    }
+
+    /**
+     * Precompute the candidate array for every distinct unlock phase
+     */
+    public void build() {
+        TreeSet<Integer> distinct = new TreeSet<>();
+        for (Ability ability : abilities) {
+            distinct.add(ability.getMinPhase());
+        }
+
+        thresholds = new int[distinct.size()];
+        candidatesByThreshold = new Ability[distinct.size()][];
+        int index = 0;
+        for (int threshold : distinct) {
+            List<Ability> candidates = new ArrayList<>();
+            for (Ability ability : abilities) {
+                if (ability.getMinPhase() <= threshold) {
+                    candidates.add(ability);
+                }
+            }
+            thresholds[index] = threshold;
+            candidatesByThreshold[index] = candidates.toArray(NONE);
+            index++;
+        }
+    }
+
+    /**
+     * Get the abilities unlocked in a phase (the table of the highest threshold reached)
+     */
+    public Ability[] getCandidates(int phase) {
+        int found = Arrays.binarySearch(thresholds, phase);
+        int index = found >= 0 ? found : -found - 2;    // Insertion point - 1
+        return index < 0 ? NONE : candidatesByThreshold[index];
+    }
+
+    /**
+     * Pick the next usable ability in registration order, cycling through the table
+     *
+     * @return the ability, or null if none is usable right now
+     */
+    public Ability next(int phase, int evolutionStage, double distance, Ability.Cost maxCost) {
+        Ability[] candidates = getCandidates(phase);
+        for (int i = 0; i < candidates.length; i++) {
+            Ability ability = candidates[(rotation + i) % candidates.length];
+            if (ability.isUsable(evolutionStage, distance, maxCost)) {
+                rotation = (rotation + i + 1) % candidates.length;
+                return ability;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Pick a random usable ability
+     *
+     * @return the ability, or null if none is usable right now
+     */
+    public Ability pickRandom(int phase, int evolutionStage, double distance, Ability.Cost maxCost) {
+        Ability[] candidates = getCandidates(phase);
+        int usable = 0;
+        for (Ability ability : candidates) {
+            if (ability.isUsable(evolutionStage, distance, maxCost)) usable++;
+        }
+        if (usable == 0) return null;
+
+        int pick = random.nextInt(usable);
+        for (Ability ability : candidates) {
+            if (ability.isUsable(evolutionStage, distance, maxCost) && pick-- == 0) {
+                return ability;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the number of registered abilities
+     */
+    public int size() {
+        return abilities.size();
+    }
+}
@@ -2,8 +2,24 @@ package com.aitorque.entity;
 
 import com.aitorque.AITorquePlugin;
 import com.aitorque.abilities.*;
+import com.aitorque.abilities.registry.Ability;
+import com.aitorque.abilities.registry.AbilityRegistry;
+import com.aitorque.performance.ParticleBudget;
+import com.aitorque.performance.QualityGovernor;
 import com.aitorque.phases.PhaseManager;
+import com.aitorque.scheduler.BossTask;
+import com.aitorque.scheduler.ComputeStage;
+import com.aitorque.scheduler.JobScheduler;
+import com.aitorque.scheduler.TaskGroup;
+import com.aitorque.scheduler.TaskHandle;
+import com.aitorque.scheduler.TimingWheel;
 import com.aitorque.transformations.TransformationForm;
+import com.aitorque.world.BlockEditQueue;
+import com.aitorque.world.BlockFrontier;
+import com.aitorque.world.BlockKey;
+import com.aitorque.world.BlockShape;
+import com.aitorque.world.TerrainSnapshot;
+import io.papermc.paper.entity.TeleportFlag;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -15,10 +31,10 @@ import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.entity.*;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * AI Torque Entity - OMEGA Classification Mega Boss
@@ -61,8 +77,7 @@ public class AITorqueEntity {
     private boolean isTractorBeamEnabled;
 
     // Attack Systems
-    private List<ArmorStand> tentacles;
-    private int attackCooldown;
+    private List<DisplayRig.Part> tentacles;
     private Player currentTarget;
     private boolean isMaskTeethEnabled;
     private boolean isSoulGrabbingEnabled;
@@ -77,7 +92,7 @@ public class AITorqueEntity {
     private double chargeLevel;
     private boolean isReflecting;
     private Set<String> immunities;
-    private List<ArmorStand> teeth;
+    private List<DisplayRig.Part> teeth;
     private List<Entity> tractorBeamTargets;
     private List<org.bukkit.block.Block> orbitingBlocks;
     private List<org.bukkit.inventory.ItemStack> heldTools;
@@ -86,7 +101,7 @@ public class AITorqueEntity {
     private int chargeTime;
 
     // Avatar Head - custom player skull with glowing eyes
-    private ArmorStand avatarHead;
+    private DisplayRig.Part avatarHead;
 
     // ULTIMATE LIFE FORM SYSTEM
     private double lifePower = 0;           // Total absorbed life energy
@@ -104,18 +119,18 @@ public class AITorqueEntity {
     private int shapeshiftCooldown = 0;
 
     // COMPOSITE BODY PARTS - Overlord Ultimate Form
-    private List<ArmorStand> krakenTentacles = new ArrayList<>(); // 8 tentacles
-    private List<ArmorStand> dragonWings = new ArrayList<>();     // 2 wings
-    private List<ArmorStand> masks = new ArrayList<>();           // Multiple floating masks
-    private List<ArmorStand> shulkerCannons = new ArrayList<>();  // Shoulder cannons
-    private ArmorStand hood;                                       // Dark overlord hood
+    private List<DisplayRig.Part> krakenTentacles = new ArrayList<>(); // 8 tentacles
+    private List<DisplayRig.Part> dragonWings = new ArrayList<>();     // 2 wings
+    private List<DisplayRig.Part> masks = new ArrayList<>();           // Multiple floating masks
+    private List<DisplayRig.Part> shulkerCannons = new ArrayList<>();  // Shoulder cannons
+    private DisplayRig.Part hood;                                       // Dark overlord hood
+    private double[] compositePoses = new double[0];                    // Part offsets, reused each frame
     private String currentEyeColor = "§c"; // Red by default
 
     // ATTACK SYSTEMS
-    private int laserEyeCooldown = 0;
-    private int teethBiteCooldown = 0;
-    private int fireballMaskCooldown = 0;
-    private int cannonCooldown = 0;
+    private final CooldownTable cooldowns;           // Ability id -> ready tick
+    private AbilityRegistry specialAttacks;          // 60 rotating special attacks
+    private AbilityRegistry primaryAttacks;          // Range-banded primary attacks
 
     // ADAPTIVE FORM STATE
     private String currentFormMode = "BALANCED"; // BALANCED, OFFENSE, DEFENSE, SPEED, TANK
@@ -125,6 +140,73 @@ public class AITorqueEntity {
 
     // Timers
     private int abilityTickCounter;
+    private final TickPipeline tickPipeline;
+    private final TimingWheel effectWheel;          // Multi-step attack timelines
+    private final JobScheduler jobs;                // Budgeted block scans
+    private final BlockEditQueue blockEdits;        // Budgeted bulk block writes
+    private final ComputeStage compute;             // Off-thread math, applied next tick
+    private final TaskGroup tasks;                  // Every scheduled task this boss owns
+    private final EntitySnapshot entitySnapshot;    // Per-tick entity grid for proximity queries
+    private final TargetService targetService;      // Per-tick nearest-player cache
+    private final ForceAccumulator forces;          // Pulls summed into one velocity write per tick
+    private final ParticleEmitter particles;        // Budgeted, intensity-scaled particle spawns
+    private final BeamRenderer beams;               // Particle lines for beams, lasers and tethers
+    private final DisplayRig rig;                   // Floating body parts, animated client-side
+    private TaskHandle tickTask;
+    private long lastDriveNanos;    // Start of the previous driven tick, 0 after dormancy
+    private boolean isRebirthPending;
+
+    // Dormancy - pipeline is frozen while no player is nearby
+    private boolean isDormant;
+    private boolean wasAIEnabled;
+    private int dormancyCheckTicks;
+    private int ticksWithoutPlayers;
+
+    // Budgeted block jobs (one in flight of each kind)
+    private final BlockFrontier consumeFrontier;   // Where the last bite stopped
+    private static final int CONSUME_BAND = 8;     // Shells read per bite snapshot
+    private JobScheduler.ScheduledJob terrainJob;
+
+    // Points on the warp spheres - each burst draws the next few, so a few bursts cover it evenly
+    private static final int WARP_SPHERE_POINTS = 120;
+    private static final int INFINITY_SPHERE_POINTS = 182;     // Same count as the old 36 x 7 grid without its pole repeats
+
+    private static final Particle.DustOptions TENTACLE_DUST = new Particle.DustOptions(org.bukkit.Color.fromRGB(128, 0, 128), 0.8f);
+
+    // Beam styles (spokes share their last stretch into the boss per style)
+    private static final BeamRenderer.Style TENTACLE_BEAM = new BeamRenderer.Style(ParticleBudget.Priority.AMBIENT, 0.2)
+        .layer(Particle.SCULK_SOUL, 1, 0, 0)
+        .layer(Particle.SOUL, 1, 0.05, 0);
+    private static final BeamRenderer.Style TRACTOR_BEAM = new BeamRenderer.Style(0.5)
+        .layer(Particle.END_ROD, 1, 0.1, 0)
+        .layer(Particle.ELECTRIC_SPARK, 1, 0.1, 0);
+    private static final BeamRenderer.Style DRAIN_BEAM = new BeamRenderer.Style(0.3)
+        .layer(Particle.DUST, 1, 0, 0, new Particle.DustOptions(org.bukkit.Color.RED, 1.0f));
+    private static final BeamRenderer.Style PULL_BEAM = new BeamRenderer.Style(0.3)
+        .layer(Particle.DUST, 1, 0, 0, new Particle.DustOptions(org.bukkit.Color.fromRGB(64, 0, 128), 0.8f));
+    private static final BeamRenderer.Style SOUL_BEAM = new BeamRenderer.Style(0.3)
+        .layer(Particle.SOUL, 1, 0, 0);
+    private static final BeamRenderer.Style LIGHT_BEAM = new BeamRenderer.Style(0.3)
+        .layer(Particle.END_ROD, 1, 0, 0);
+    private static final BeamRenderer.Style DEATH_BEAM = new BeamRenderer.Style(0.3)
+        .layer(Particle.END_ROD, 20, 0, 0)
+        .layer(Particle.FLAME, 20, 0, 0);
+    private static final BeamRenderer.Style SWEEP_LASER = new BeamRenderer.Style(0.5)
+        .layer(Particle.END_ROD, 3, 0, 0)
+        .layer(Particle.ELECTRIC_SPARK, 2, 0.1, 0);
+    private static final BeamRenderer.Style VOID_BEAM = new BeamRenderer.Style(0.3)
+        .layer(Particle.SCULK_SOUL, 5, 0, 0)
+        .layer(Particle.SONIC_BOOM, 1, 0, 0);
+    private static final BeamRenderer.Style QUASAR_BEAM = new BeamRenderer.Style(1.0)
+        .layer(Particle.END_ROD, 20, 0.3, 0.1)
+        .layer(Particle.GLOW, 10, 0.2, 0);
+    private static final BeamRenderer.Style PHOTON_RAY = new BeamRenderer.Style(1.0)
+        .layer(Particle.GLOW_SQUID_INK, 1, 0, 0);
+    private static final BeamRenderer.Style GAMMA_RAY = new BeamRenderer.Style(0.5)
+        .layer(Particle.ELECTRIC_SPARK, 50, 0.5, 0.5);
+    private static final BeamRenderer.Style STORM_LASER = new BeamRenderer.Style(1.0)
+        .layer(Particle.END_ROD, 1, 0, 0)
+        .layer(Particle.FLAME, 1, 0.1, 0);
 
     /**
      * Create a new AI Torque entity
@@ -149,7 +231,6 @@ public class AITorqueEntity {
         this.tractorBeamTargets = new ArrayList<>();
         this.orbitingBlocks = new ArrayList<>();
         this.heldTools = new ArrayList<>();
-        this.attackCooldown = 0;
         this.currentTarget = null;
 
         // Initialize god systems
@@ -181,6 +262,25 @@ public class AITorqueEntity {
         this.hasForcefield = false;
         this.forcefieldStrength = 0.0;
 
+        // Every subsystem registers its work here; driven from startEntityTick()
+        this.tickPipeline = new TickPipeline(plugin);
+        this.cooldowns = new CooldownTable(tickPipeline);
+        this.effectWheel = new TimingWheel(plugin);
+        this.jobs = new JobScheduler(plugin);
+        this.blockEdits = new BlockEditQueue(plugin);
+        this.compute = new ComputeStage(plugin);
+        this.tasks = new TaskGroup(plugin, "AI Torque " + uniqueId.toString().substring(0, 8));
+        this.entitySnapshot = new EntitySnapshot(plugin.getConfigManager().getEntitySnapshotMinRadius(),
+            plugin.getConfigManager().getEntitySnapshotMaxRadius(), plugin.getConfigManager().getEntitySnapshotCellSize());
+        this.targetService = new TargetService(playersThatDamagedMe);
+        this.forces = new ForceAccumulator();
+        this.particles = new ParticleEmitter(plugin, this::getLocation);
+        this.beams = new BeamRenderer(plugin, particles, this::getLocation);
+        this.rig = new DisplayRig(plugin, () -> bukkitEntity);
+        this.consumeFrontier = new BlockFrontier(plugin.getConfigManager().getConsumeFrontierResetDistance());
+        registerAbilities();
+        cooldowns.start("special-attack", 300); // First special after 15 seconds
+
         // Spawn the entity
         spawnEntity();
 
@@ -287,176 +387,174 @@ public class AITorqueEntity {
      * Unique floating behavior - entity hovers and drifts smoothly
      */
     private void startFloatingBehavior() {
-        new BukkitRunnable() {
+        tickPipeline.register("floating", 1, new TickPipeline.Stage() {
             private double floatPhase = 0;
 
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
                 floatPhase += 0.05;
 
                 // Smooth floating motion (up and down)
                 double yOffset = Math.sin(floatPhase) * 0.1;
                 Location currentLoc = bukkitEntity.getLocation();
                 Location newLoc = currentLoc.clone().add(0, yOffset, 0);
-                bukkitEntity.teleport(newLoc);
+                bukkitEntity.teleport(newLoc, TeleportFlag.EntityState.RETAIN_PASSENGERS);
 
                 // Slight rotation
                 newLoc.setYaw((float)(newLoc.getYaw() + 1));
                 location = newLoc;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        });
     }
 
     /**
      * Reality warping effects - unique visual distortion
      */
     private void startRealityWarp() {
-        new BukkitRunnable() {
+        tickPipeline.register("reality-warp", 1, new TickPipeline.Stage() {
             private int tick = 0;
 
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
-                Location loc = bukkitEntity.getLocation().add(0, 1, 0);
-
-                // Warping sphere effect
+                // Warping sphere effect - 20 points a burst, walking round the sphere burst by burst
                 if (tick % 10 == 0) {
-                    for (int i = 0; i < 20; i++) {
-                        double theta = Math.random() * 2 * Math.PI;
-                        double phi = Math.random() * Math.PI;
-                        double r = 3.0;
-
-                        double x = r * Math.sin(phi) * Math.cos(theta);
-                        double y = r * Math.sin(phi) * Math.sin(theta);
-                        double z = r * Math.cos(phi);
+                    Location loc = bukkitEntity.getLocation();
+                    World world = loc.getWorld();
+                    double[] sphere = GeometryTables.sphere(WARP_SPHERE_POINTS);
+                    int first = (tick / 10 * 20) % WARP_SPHERE_POINTS;
+                    double r = 3.0;
 
-                        Location particleLoc = loc.clone().add(x, y, z);
-                        loc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, particleLoc, 1, 0, 0, 0, 0);
+                    for (int i = 0; i < 20; i++) {
+                        int p = ((first + i) % WARP_SPHERE_POINTS) * 3;
+                        particles.emit(ParticleBudget.Priority.AMBIENT, Particle.REVERSE_PORTAL, world,
+                            loc.getX() + sphere[p] * r, loc.getY() + 1 + sphere[p + 1] * r, loc.getZ() + sphere[p + 2] * r,
+                            1, 0, 0, 0, 0, null);
                     }
                 }
 
                 tick++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        });
     }
 
     /**
      * Otherworldly particle aura - changes based on phase/form
+     *
+     * A few dozen table lookups per frame - cheaper than a worker handoff, so
+     * the geometry is computed and spawned in place into one reused batch.
      */
     private void startAuraEffects() {
-        new BukkitRunnable() {
+        tickPipeline.register("aura", 2, new TickPipeline.Stage() {
+            private final ParticleBatch batch = new ParticleBatch();
             private int tick = 0;
 
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
-                int phase = getCurrentPhase();
-                Location loc = bukkitEntity.getLocation().add(0, 1, 0);
-
-                // Base form (Phase 1-2): Purple cosmic energy
-                if (phase < 3) {
-                    double radius = 2.0;
-                    for (int i = 0; i < 8; i++) {
-                        double angle = Math.toRadians(i * 45 + tick * 10);
-                        double height = Math.sin(tick * 0.1 + i) * 2;
-                        double x = radius * Math.cos(angle);
-                        double z = radius * Math.sin(angle);
-                        Location spiralLoc = loc.clone().add(x, height, z);
-
-                        loc.getWorld().spawnParticle(Particle.DRAGON_BREATH, spiralLoc, 3, 0.05, 0.05, 0.05, 0.01);
-                        loc.getWorld().spawnParticle(Particle.PORTAL, spiralLoc, 5, 0.1, 0.1, 0.1, 0.5);
-                    }
-                    loc.getWorld().spawnParticle(Particle.SOUL, loc, 8, 2.0, 2.0, 2.0, 0.02);
-                }
-                // Void Form (Phase 3-5): Dark void energy with lightning
-                else if (phase < 6) {
-                    double radius = 2.5;
-                    for (int i = 0; i < 12; i++) {
-                        double angle = Math.toRadians(i * 30 + tick * 15);
-                        double x = radius * Math.cos(angle);
-                        double z = radius * Math.sin(angle);
-                        Location voidLoc = loc.clone().add(x, 0, z);
+                Location loc = bukkitEntity.getLocation();
+                // Under server load only every Nth point of each ring is drawn
+                int stride = getQualityTier().getAuraStride();
 
-                        voidLoc.getWorld().spawnParticle(Particle.SCULK_SOUL, voidLoc, 5, 0.1, 0.5, 0.1, 0.05);
-                        voidLoc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, voidLoc, 8, 0.2, 0.2, 0.2, 0.1);
+                computeAura(batch, getCurrentPhase(), tick++, stride, loc.getX(), loc.getY() + 1, loc.getZ());
+                batch.spawn(loc.getWorld(), particles, ParticleBudget.Priority.AMBIENT);
+                batch.clear();
+            }
+        });
+    }
 
-                        if (tick % 30 == 0) {
-                            voidLoc.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, voidLoc, 10, 0.3, 0.3, 0.3, 0.1);
-                        }
-                    }
-                    loc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, loc, 15, 1.0, 1.0, 1.0, 0.05);
-                }
-                // Chaos Form (Phase 6-10): Red chaos energy, fire
-                else if (phase < 11) {
-                    double radius = 3.0;
-                    for (int i = 0; i < 16; i++) {
-                        double angle = Math.toRadians(i * 22.5 + tick * 20);
-                        double height = Math.sin(tick * 0.15 + i) * 3;
-                        double x = radius * Math.cos(angle);
-                        double z = radius * Math.sin(angle);
-                        Location chaosLoc = loc.clone().add(x, height, z);
+    /**
+     * Aura particle geometry (pure - no Bukkit calls)
+     */
+    private static void computeAura(ParticleBatch batch, int phase, int tick, int stride,
+                                    double cx, double cy, double cz) {
+
+        // Base form (Phase 1-2): Purple cosmic energy
+        if (phase < 3) {
+            double radius = 2.0;
+            int spin = GeometryTables.step(tick * 10);
+            for (int i = 0; i < 8; i += stride) {
+                int angle = GeometryTables.ringStep(i, 8) + spin;
+                double height = GeometryTables.sinRadians(tick * 0.1 + i) * 2;
+                double x = cx + radius * GeometryTables.cos(angle);
+                double y = cy + height;
+                double z = cz + radius * GeometryTables.sin(angle);
+
+                batch.add(Particle.DRAGON_BREATH, x, y, z, 3, 0.05, 0.05, 0.05, 0.01);
+                batch.add(Particle.PORTAL, x, y, z, 5, 0.1, 0.1, 0.1, 0.5);
+            }
+            batch.add(Particle.SOUL, cx, cy, cz, 8, 2.0, 2.0, 2.0, 0.02);
+        }
+        // Void Form (Phase 3-5): Dark void energy with lightning
+        else if (phase < 6) {
+            double radius = 2.5;
+            int spin = GeometryTables.step(tick * 15);
+            for (int i = 0; i < 12; i += stride) {
+                int angle = GeometryTables.ringStep(i, 12) + spin;
+                double x = cx + radius * GeometryTables.cos(angle);
+                double z = cz + radius * GeometryTables.sin(angle);
 
-                        chaosLoc.getWorld().spawnParticle(Particle.FLAME, chaosLoc, 8, 0.2, 0.2, 0.2, 0.05);
-                        chaosLoc.getWorld().spawnParticle(Particle.LAVA, chaosLoc, 3, 0.1, 0.1, 0.1, 0);
-                        chaosLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, chaosLoc, 5, 0.1, 0.1, 0.1, 0.05);
-                    }
+                batch.add(Particle.SCULK_SOUL, x, cy, z, 5, 0.1, 0.5, 0.1, 0.05);
+                batch.add(Particle.REVERSE_PORTAL, x, cy, z, 8, 0.2, 0.2, 0.2, 0.1);
 
-                    if (tick % 10 == 0) {
-                        loc.getWorld().spawnParticle(Particle.EXPLOSION, loc, 5, 1.5, 1.5, 1.5, 0);
-                    }
+                if (tick % 30 == 0) {
+                    batch.add(Particle.ELECTRIC_SPARK, x, cy, z, 10, 0.3, 0.3, 0.3, 0.1);
                 }
-                // Reality Warp Form (Phase 11+): Warping reality, end crystals, wardens
-                else {
-                    double radius = 4.0;
-                    for (int i = 0; i < 20; i++) {
-                        double angle = Math.toRadians(i * 18 + tick * 25);
-                        double height = Math.cos(tick * 0.2 + i) * 4;
-                        double x = radius * Math.cos(angle);
-                        double z = radius * Math.sin(angle);
-                        Location warpLoc = loc.clone().add(x, height, z);
-
-                        warpLoc.getWorld().spawnParticle(Particle.END_ROD, warpLoc, 3, 0, 0, 0, 0.1);
-                        warpLoc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, warpLoc, 10, 0.2, 0.2, 0.2, 0.2);
-                        warpLoc.getWorld().spawnParticle(Particle.SONIC_BOOM, warpLoc, 1, 0, 0, 0, 0);
-                    }
+            }
+            batch.add(Particle.SOUL_FIRE_FLAME, cx, cy, cz, 15, 1.0, 1.0, 1.0, 0.05);
+        }
+        // Chaos Form (Phase 6-10): Red chaos energy, fire
+        else if (phase < 11) {
+            double radius = 3.0;
+            int spin = GeometryTables.step(tick * 20);
+            for (int i = 0; i < 16; i += stride) {
+                int angle = GeometryTables.ringStep(i, 16) + spin;
+                double height = GeometryTables.sinRadians(tick * 0.15 + i) * 3;
+                double x = cx + radius * GeometryTables.cos(angle);
+                double y = cy + height;
+                double z = cz + radius * GeometryTables.sin(angle);
+
+                batch.add(Particle.FLAME, x, y, z, 8, 0.2, 0.2, 0.2, 0.05);
+                batch.add(Particle.LAVA, x, y, z, 3, 0.1, 0.1, 0.1, 0);
+                batch.add(Particle.SOUL_FIRE_FLAME, x, y, z, 5, 0.1, 0.1, 0.1, 0.05);
+            }
 
-                    // Reality distortion sphere
-                    if (tick % 5 == 0) {
-                        for (int i = 0; i < 15; i++) {
-                            double theta = Math.random() * 2 * Math.PI;
-                            double phi = Math.random() * Math.PI;
-                            double r = 5.0;
-                            double x = r * Math.sin(phi) * Math.cos(theta);
-                            double y = r * Math.sin(phi) * Math.sin(theta);
-                            double z = r * Math.cos(phi);
-                            Location sphereLoc = loc.clone().add(x, y, z);
-                            loc.getWorld().spawnParticle(Particle.SCULK_CHARGE, sphereLoc, 1, 0, 0, 0, 0);
-                        }
-                    }
-                }
+            if (tick % 10 == 0) {
+                batch.add(Particle.EXPLOSION, cx, cy, cz, 5, 1.5, 1.5, 1.5, 0);
+            }
+        }
+        // Reality Warp Form (Phase 11+): Warping reality, end crystals, wardens
+        else {
+            double radius = 4.0;
+            int spin = GeometryTables.step(tick * 25);
+            for (int i = 0; i < 20; i += stride) {
+                int angle = GeometryTables.ringStep(i, 20) + spin;
+                double height = GeometryTables.cosRadians(tick * 0.2 + i) * 4;
+                double x = cx + radius * GeometryTables.cos(angle);
+                double y = cy + height;
+                double z = cz + radius * GeometryTables.sin(angle);
+
+                batch.add(Particle.END_ROD, x, y, z, 3, 0, 0, 0, 0.1);
+                batch.add(Particle.REVERSE_PORTAL, x, y, z, 10, 0.2, 0.2, 0.2, 0.2);
+                batch.add(Particle.SONIC_BOOM, x, y, z, 1, 0, 0, 0, 0);
+            }
 
-                // Pulsing core (all phases)
-                if (tick % 20 == 0) {
-                    loc.getWorld().spawnParticle(Particle.END_ROD, loc, 30, 0, 0, 0, 0.3);
-                    loc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, loc, 50, 1.5, 1.5, 1.5, 0.05);
+            // Reality distortion sphere - 15 points a burst, walking round the sphere
+            if (tick % 5 == 0) {
+                double[] sphere = GeometryTables.sphere(WARP_SPHERE_POINTS);
+                int first = (tick / 5 * 15) % WARP_SPHERE_POINTS;
+                double r = 5.0;
+                for (int i = 0; i < 15; i += stride) {
+                    int p = ((first + i) % WARP_SPHERE_POINTS) * 3;
+                    batch.add(Particle.SCULK_CHARGE, cx + sphere[p] * r, cy + sphere[p + 1] * r, cz + sphere[p + 2] * r,
+                        1, 0, 0, 0, 0);
                 }
-
-                tick++;
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+        }
+
+        // Pulsing core (all phases)
+        if (tick % 20 == 0) {
+            batch.add(Particle.END_ROD, cx, cy, cz, 30, 0, 0, 0, 0.3);
+            batch.add(Particle.SOUL_FIRE_FLAME, cx, cy, cz, 50, 1.5, 1.5, 1.5, 0.05);
+        }
     }
 
     /**
@@ -465,27 +563,19 @@ public class AITorqueEntity {
     private void spawnTentacles() {
         int tentacleCount = 6;
         for (int i = 0; i < tentacleCount; i++) {
-            ArmorStand tentacle = location.getWorld().spawn(location, ArmorStand.class);
-            tentacle.setInvisible(true);
-            tentacle.setMarker(true);
-            tentacle.setGravity(false);
-            tentacle.setInvulnerable(true);
-            tentacles.add(tentacle);
+            tentacles.add(rig.point());
         }
 
         // Animate tentacles
-        new BukkitRunnable() {
+        tickPipeline.register("tentacles", 1, new TickPipeline.Stage() {
             private int tick = 0;
 
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
+                if (!isAnimationFrame()) return;
 
                 for (int i = 0; i < tentacles.size(); i++) {
-                    ArmorStand tentacle = tentacles.get(i);
+                    DisplayRig.Part tentacle = tentacles.get(i);
                     if (tentacle == null || !tentacle.isValid()) continue;
 
                     double angle = Math.toRadians(i * 60 + tick * 3);
@@ -496,10 +586,10 @@ public class AITorqueEntity {
                     double z = distance * Math.sin(angle);
 
                     Location tentacleLoc = bukkitEntity.getLocation().add(x, height, z);
-                    tentacle.teleport(tentacleLoc);
+                    tentacle.move(x, height, z);
 
                     // Tentacle particle trail
-                    drawTentacleLine(bukkitEntity.getLocation().add(0, 1, 0), tentacleLoc);
+                    beams.spoke(TENTACLE_BEAM, 1, tentacleLoc);
 
                     // Grab nearby entities with tentacles
                     if (tick % 40 == i * 7) {
@@ -509,90 +599,149 @@ public class AITorqueEntity {
 
                 tick++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
-    }
-
-    /**
-     * Draw particle line for tentacle
-     */
-    private void drawTentacleLine(Location start, Location end) {
-        Vector direction = end.toVector().subtract(start.toVector());
-        double distance = start.distance(end);
-        int particles = (int)(distance * 5);
-
-        for (int i = 0; i < particles; i++) {
-            double ratio = (double) i / particles;
-            Location point = start.clone().add(direction.clone().multiply(ratio));
-            point.getWorld().spawnParticle(Particle.SCULK_SOUL, point, 1, 0, 0, 0, 0);
-            point.getWorld().spawnParticle(Particle.SOUL, point, 1, 0.05, 0.05, 0.05, 0);
-        }
+        });
     }
 
     /**
      * Grab entity with tentacle
      */
     private void grabWithTentacle(Location tentacleEnd) {
-        Collection<Entity> nearby = tentacleEnd.getWorld().getNearbyEntities(tentacleEnd, 2, 2, 2,
+        Collection<Entity> nearby = nearbyEntities(tentacleEnd, 2, 2, 2,
                 e -> e instanceof LivingEntity && !(e.equals(bukkitEntity)));
 
         for (Entity entity : nearby) {
             Vector pull = bukkitEntity.getLocation().toVector().subtract(entity.getLocation().toVector()).normalize();
-            entity.setVelocity(pull.multiply(0.8));
+            forces.steer(entity, pull.multiply(0.8));
 
             // Tentacle grab effect
-            entity.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, entity.getLocation(), 20, 0.5, 0.5, 0.5, 0.05);
-            entity.getWorld().spawnParticle(Particle.SCULK_SOUL, entity.getLocation(), 10, 0.3, 0.3, 0.3, 0.1);
+            particles.emit(Particle.SOUL_FIRE_FLAME, entity.getLocation(), 20, 0.5, 0.5, 0.5, 0.05);
+            particles.emit(Particle.SCULK_SOUL, entity.getLocation(), 10, 0.3, 0.3, 0.3, 0.1);
         }
     }
 
+    /**
+     * Build the ability tables used by the combat stage
+     */
+    private void registerAbilities() {
+        specialAttacks = new AbilityRegistry();
+        primaryAttacks = new AbilityRegistry();
+
+        // Original attacks
+        special("laser-beam", Ability.Cost.LIGHT, this::laserBeam);
+        special("meteor-shower", Ability.Cost.LIGHT, this::meteorShower);
+        special("black-hole", Ability.Cost.LIGHT, this::blackHole);
+        special("lightning-storm", Ability.Cost.LIGHT, target -> lightningStorm());
+        special("void-rift", Ability.Cost.LIGHT, this::voidRift);
+        special("soul-swarm", Ability.Cost.LIGHT, this::soulSwarm);
+        special("ground-slam", Ability.Cost.LIGHT, target -> groundSlam());
+        special("void-chains", Ability.Cost.LIGHT, this::voidChains);
+        special("time-slow", Ability.Cost.LIGHT, target -> timeSlow());
+        special("gravity-reversal", Ability.Cost.LIGHT, target -> gravityReversal());
+
+        // NEW POWERS
+        special("meteor-storm", Ability.Cost.HEAVY, target -> meteorStorm());
+        special("black-hole-field", Ability.Cost.LIGHT, target -> createBlackHole(target.getLocation()));
+        special("time-freeze-nearby", Ability.Cost.LIGHT, target -> timeFreezeNearby());
+        special("steal-souls", Ability.Cost.LIGHT, target -> stealSouls());
+        special("fire-nova", Ability.Cost.LIGHT, target -> fireNova());
+        special("ice-age", Ability.Cost.LIGHT, target -> iceAge());
+        special("void-rift-burst", Ability.Cost.LIGHT, target -> voidRift());
+        special("cosmic-beam", Ability.Cost.LIGHT, this::cosmicBeam);
+        special("summon-minions", Ability.Cost.MODERATE, target -> summonMinions());
+        special("earthquake-attack", Ability.Cost.LIGHT, target -> earthquakeAttack());
+
+        // Additional old attacks
+        special("void-bomb", Ability.Cost.LIGHT, this::voidBomb);
+        special("soul-drain", Ability.Cost.LIGHT, this::soulDrain);
+        special("chaos-burst", Ability.Cost.LIGHT, target -> chaosBurst());
+        special("void-spikes", Ability.Cost.LIGHT, this::voidSpikes);
+        special("cosmic-storm", Ability.Cost.LIGHT, target -> cosmicStorm());
+        special("dimensional-shift", Ability.Cost.LIGHT, target -> dimensionalShift());
+        special("shadow-clones", Ability.Cost.MODERATE, target -> shadowClones());
+        special("reality-tear", Ability.Cost.LIGHT, target -> realityTear());
+        special("void-nova", Ability.Cost.LIGHT, target -> voidNova());
+        special("apocalypse-rain", Ability.Cost.HEAVY, target -> apocalypseRain());
+
+        // EVEN MORE DEVASTATING POWERS
+        special("plasma-storm", Ability.Cost.LIGHT, target -> plasmaStorm());
+        special("dimensional-rift", Ability.Cost.HEAVY, target -> dimensionalRift());
+        special("quantum-destabilization", Ability.Cost.LIGHT, target -> quantumDestabilization());
+        special("nuclear-fission", Ability.Cost.LIGHT, target -> nuclearFission());
+        special("antimatter-explosion", Ability.Cost.LIGHT, target -> antimatterExplosion());
+        special("celestial-judgment", Ability.Cost.LIGHT, target -> celestialJudgment());
+        special("singularity-collapse", Ability.Cost.HEAVY, target -> singularityCollapse());
+        special("temporal-paradox", Ability.Cost.LIGHT, target -> temporalParadox());
+        special("reality-break", Ability.Cost.LIGHT, target -> realityBreak());
+        special("entropy-wave", Ability.Cost.LIGHT, target -> entropyWave());
+        special("dark-matter-pulse", Ability.Cost.LIGHT, target -> darkMatterPulse());
+        special("supernova-blast", Ability.Cost.HEAVY, target -> supernovaBlast());
+        special("quasar-beam", Ability.Cost.LIGHT, target -> quasarBeam());
+        special("galaxy-collision", Ability.Cost.HEAVY, target -> galaxyCollision());
+        special("universal-heat", Ability.Cost.LIGHT, target -> universalHeat());
+        special("absolute-zero", Ability.Cost.LIGHT, target -> absoluteZero());
+        special("neutron-star-crush", Ability.Cost.LIGHT, target -> neutronStarCrush());
+        special("photon-torrent", Ability.Cost.LIGHT, target -> photonTorrent());
+        special("gamma-ray-burst", Ability.Cost.LIGHT, target -> gammaRayBurst());
+        special("tesseract-prison", Ability.Cost.HEAVY, target -> tesseractPrison());
+        special("infinity-sphere", Ability.Cost.HEAVY, target -> infinitySphere());
+        special("chaos-theory", Ability.Cost.LIGHT, target -> chaosTheory());
+        special("existential-dread", Ability.Cost.LIGHT, target -> existentialDread());
+        special("oblivion-void", Ability.Cost.LIGHT, target -> oblivionVoid());
+        special("cosmic-horror", Ability.Cost.LIGHT, target -> cosmicHorror());
+        special("void-lord-summon", Ability.Cost.HEAVY, target -> voidLordSummon());
+        special("planetary-crusher", Ability.Cost.HEAVY, target -> planetaryCrusher());
+        special("stellar-collapse", Ability.Cost.HEAVY, target -> stellarCollapse());
+        special("big-bang-recreation", Ability.Cost.HEAVY, target -> bigBangRecreation());
+        special("omniversal-wrath", Ability.Cost.HEAVY, target -> omniversalWrath());
+
+        // PRIMARY ATTACKS (based on distance)
+        primary("void-slash", Ability.RangeBand.CLOSE, 150, this::performVoidSlash);
+        primary("ground-pound", Ability.RangeBand.CLOSE, 150, target -> groundPound());
+        primary("void-grasp", Ability.RangeBand.CLOSE, 150, this::voidGrasp);
+        primary("jump-attack", Ability.RangeBand.MEDIUM, 200, this::performJumpAttack);
+        primary("spiral-blades", Ability.RangeBand.MEDIUM, 200, this::spiralBlades);
+        primary("void-wave", Ability.RangeBand.MEDIUM, 200, this::voidWave);
+        primary("teleport-strike", Ability.RangeBand.MEDIUM, 200, this::teleportStrike);
+        primary("void-orb", Ability.RangeBand.LONG, 125, this::launchVoidOrb);
+        primary("homing-missiles", Ability.RangeBand.LONG, 125, this::homingMissiles);
+        primary("void-beam", Ability.RangeBand.LONG, 125, this::voidBeam);
+        primary("arcane-barrage", Ability.RangeBand.LONG, 125, this::arcaneBarrage);
+        primary("meteor-strike", Ability.RangeBand.LONG, 125, this::meteorStrike);
+
+        specialAttacks.build();
+        primaryAttacks.build();
+    }
+
+    /** Special attack - any range, one every 15 seconds in rotation */
+    private void special(String id, Ability.Cost cost, Ability.Action action) {
+        specialAttacks.register(new Ability(id, Ability.RangeBand.ANY, 1, 0, 300, cost, action));
+    }
+
+    /** Primary attack - picked at random from the target's range band */
+    private void primary(String id, Ability.RangeBand range, int cooldown, Ability.Action action) {
+        primaryAttacks.register(new Ability(id, range, 1, 0, cooldown, Ability.Cost.LIGHT, action));
+    }
+
+    /**
+     * Most expensive ability the dispatcher may pick at the current quality tier
+     */
+    private Ability.Cost getMaxAbilityCost() {
+        return getQualityTier() == QualityGovernor.Tier.MINIMAL ? Ability.Cost.MODERATE : Ability.Cost.HEAVY;
+    }
+
     /**
      * Combat behavior - MASSIVE arsenal of attacks
      */
     private void startCombatBehavior() {
-        new BukkitRunnable() {
-            private int specialAttackCounter = 0;
-
+        // Offset 0 keeps the tickCounter checks below (all multiples of 5) reachable
+        tickPipeline.register("combat", 5, 0, new TickPipeline.Stage() {
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
-                // Decrease attack cooldown
-                if (attackCooldown > 0) attackCooldown--;
-                specialAttackCounter++;
-
-                // ALWAYS ACTIVE SYSTEMS
-
-                // Block consumption every 2 seconds
-                if (tickCounter % 40 == 0) {
-                    consumeNearbyBlocks();
-                }
-
-                // HP drain every second
-                if (tickCounter % 20 == 0) {
-                    drainNearbyHealth();
-                }
-
-                // Treasure drops every minute (1200 ticks)
-                if (tickCounter % 1200 == 0) {
-                    dropTreasures();
-                }
-
-                // Gravitational pull - runs every tick for smooth pulling
-                gravitationalPull();
-
-                // Always attack hostile mobs
-                if (tickCounter % 40 == 0) { // Attack mobs every 2 seconds
-                    attackNearbyMobs();
-                }
-
                 // Find nearest player
                 Player nearest = findNearestPlayer();
                 if (nearest != null) {
                     currentTarget = nearest;
-                    double distance = nearest.getLocation().distance(bukkitEntity.getLocation());
+                    double distance = targets().getNearestDistance();
                     int phase = getCurrentPhase();
 
                     // PASSIVE ATTACKS (work even when not hostile)
@@ -618,109 +767,21 @@ public class AITorqueEntity {
                             teleportToPlayer(nearest);
                         }
 
-                        // SPECIAL ATTACKS (cycle through different abilities)
-                        if (specialAttackCounter % 60 == 0) { // Every 3 seconds
-                        int attack = (specialAttackCounter / 60) % 60; // MASSIVE EXPANSION - 60 attacks!
-                        switch (attack) {
-                            // Original attacks
-                            case 0: laserBeam(nearest); break;
-                            case 1: meteorShower(nearest); break;
-                            case 2: blackHole(nearest); break;
-                            case 3: lightningStorm(); break;
-                            case 4: voidRift(nearest); break;
-                            case 5: soulSwarm(nearest); break;
-                            case 6: groundSlam(); break;
-                            case 7: voidChains(nearest); break;
-                            case 8: timeSlow(); break;
-                            case 9: gravityReversal(); break;
-                            // NEW POWERS
-                            case 10: meteorStorm(); break;
-                            case 11: createBlackHole(nearest.getLocation()); break;
-                            case 12: timeFreezeNearby(); break;
-                            case 13: stealSouls(); break;
-                            case 14: fireNova(); break;
-                            case 15: iceAge(); break;
-                            case 16: voidRift(); break;
-                            case 17: cosmicBeam(nearest); break;
-                            case 18: summonMinions(); break;
-                            case 19: earthquakeAttack(); break;
-                            // Additional old attacks
-                            case 20: voidBomb(nearest); break;
-                            case 21: soulDrain(nearest); break;
-                            case 22: chaosBurst(); break;
-                            case 23: voidSpikes(nearest); break;
-                            case 24: cosmicStorm(); break;
-                            case 25: dimensionalShift(); break;
-                            case 26: shadowClones(); break;
-                            case 27: realityTear(); break;
-                            case 28: voidNova(); break;
-                            case 29: apocalypseRain(); break;
-                            // EVEN MORE DEVASTATING POWERS (30-59)
-                            case 30: plasmaStorm(); break;
-                            case 31: dimensionalRift(); break;
-                            case 32: quantumDestabilization(); break;
-                            case 33: nuclearFission(); break;
-                            case 34: antimatterExplosion(); break;
-                            case 35: celestialJudgment(); break;
-                            case 36: singularityCollapse(); break;
-                            case 37: temporalParadox(); break;
-                            case 38: realityBreak(); break;
-                            case 39: entropyWave(); break;
-                            case 40: darkMatterPulse(); break;
-                            case 41: supernovaBlast(); break;
-                            case 42: quasarBeam(); break;
-                            case 43: galaxyCollision(); break;
-                            case 44: universalHeat(); break;
-                            case 45: absoluteZero(); break;
-                            case 46: neutronStarCrush(); break;
-                            case 47: photonTorrent(); break;
-                            case 48: gammaRayBurst(); break;
-                            case 49: tesseractPrison(); break;
-                            case 50: infinitySphere(); break;
-                            case 51: chaosTheory(); break;
-                            case 52: existentialDread(); break;
-                            case 53: oblivionVoid(); break;
-                            case 54: cosmicHorror(); break;
-                            case 55: voidLordSummon(); break;
-                            case 56: planetaryCrusher(); break;
-                            case 57: stellarCollapse(); break;
-                            case 58: bigBangRecreation(); break;
-                            case 59: omniversalWrath(); break;
+                        // SPECIAL ATTACKS (cycle through the ability table)
+                        if (cooldowns.isReady("special-attack")) {
+                            Ability special = specialAttacks.next(phase, evolutionStage, distance, getMaxAbilityCost());
+                            if (special != null) {
+                                special.execute(nearest);
+                                cooldowns.start("special-attack", special.getCooldown());
+                            }
                         }
-                    }
 
                     // PRIMARY ATTACKS (based on distance)
-                    if (attackCooldown <= 0) {
-                        if (distance < 5) {
-                            // Close range: Random between 3 attacks
-                            int attack = (int)(Math.random() * 3);
-                            switch (attack) {
-                                case 0: performVoidSlash(nearest); break;
-                                case 1: groundPound(); break;
-                                case 2: voidGrasp(nearest); break;
-                            }
-                            attackCooldown = 30;
-                        } else if (distance < 15) {
-                            // Medium range: Random between 4 attacks
-                            int attack = (int)(Math.random() * 4);
-                            switch (attack) {
-                                case 0: performJumpAttack(nearest); break;
-                                case 1: spiralBlades(nearest); break;
-                                case 2: voidWave(nearest); break;
-                                case 3: teleportStrike(nearest); break;
-                            }
-                            attackCooldown = 40;
-                        } else if (distance < 30) {
-                            // Long range: Random between 5 attacks
-                            int attack = (int)(Math.random() * 5);
-                            switch (attack) {
-                                case 0: launchVoidOrb(nearest); break;
-                                case 1: homingMissiles(nearest); break;
-                                case 2: voidBeam(nearest); break;
-                                case 3: arcaneBarrage(nearest); break;
-                                case 4: meteorStrike(nearest); break;
-                            }
-                            attackCooldown = 25;
+                    if (cooldowns.isReady("primary-attack")) {
+                        Ability primary = primaryAttacks.pickRandom(phase, evolutionStage, distance, getMaxAbilityCost());
+                        if (primary != null) {
+                            primary.execute(nearest);
+                            cooldowns.start("primary-attack", primary.getCooldown());
                         }
 
                         // Phase-specific ultimate attacks
@@ -734,27 +795,40 @@ public class AITorqueEntity {
                     } // End of isHostile check
                 }
             }
-        }.runTaskTimer(plugin, 20L, 5L);
+        });
+
+        // ALWAYS ACTIVE SYSTEMS - each on its own period so they land on different ticks
+
+        // Block consumption every 2 seconds
+        tickPipeline.register("block-consumption", 40, this::consumeNearbyBlocks);
+
+        // HP drain every second
+        tickPipeline.register("health-drain", 20, this::drainNearbyHealth);
+
+        // Treasure drops every minute (1200 ticks)
+        tickPipeline.register("treasure", 1200, this::dropTreasures);
+
+        // Gravitational pull - frequent for smooth pulling
+        tickPipeline.register("gravity-pull", 5, this::gravitationalPull);
+
+        // Always attack hostile mobs every 2 seconds
+        tickPipeline.register("mob-hunt", 40, this::attackNearbyMobs);
     }
 
     /**
      * Find nearest player
      */
     private Player findNearestPlayer() {
-        Player nearest = null;
-        double nearestDist = Double.MAX_VALUE;
-
-        for (Player player : location.getWorld().getPlayers()) {
-            if (player.getGameMode() == org.bukkit.GameMode.SPECTATOR) continue;
-
-            double dist = player.getLocation().distance(location);
-            if (dist < nearestDist) {
-                nearestDist = dist;
-                nearest = player;
-            }
-        }
+        return targets().getNearest();
+    }
 
-        return nearest;
+    /**
+     * This tick's cached target selection (scanned on first use each tick)
+     */
+    private TargetService targets() {
+        Location anchor = bukkitEntity != null && bukkitEntity.isValid() ? bukkitEntity.getLocation() : location;
+        targetService.refresh(anchor, Bukkit.getCurrentTick());
+        return targetService;
     }
 
     /**
@@ -763,7 +837,7 @@ public class AITorqueEntity {
      * When passive (black eyes): Only attack monsters
      */
     private void attackNearbyMobs() {
-        Collection<Entity> nearbyEntities = bukkitEntity.getWorld().getNearbyEntities(
+        Collection<Entity> nearbyEntities = nearbyEntities(
             bukkitEntity.getLocation(), 30, 30, 30
         );
 
@@ -840,8 +914,8 @@ public class AITorqueEntity {
      */
     private void performVoidSlashOnMob(LivingEntity target) {
         target.damage(10.0, bukkitEntity);
-        target.getWorld().spawnParticle(Particle.SWEEP_ATTACK, target.getLocation(), 5, 1, 1, 1, 0);
-        target.getWorld().spawnParticle(Particle.DRAGON_BREATH, target.getLocation(), 20, 0.5, 0.5, 0.5, 0.1);
+        particles.emit(Particle.SWEEP_ATTACK, target.getLocation(), 5, 1, 1, 1, 0);
+        particles.emit(Particle.DRAGON_BREATH, target.getLocation(), 20, 0.5, 0.5, 0.5, 0.1);
     }
 
     /**
@@ -849,21 +923,21 @@ public class AITorqueEntity {
      */
     private void teleportToPlayer(Player target) {
         // Old location effects
-        location.getWorld().spawnParticle(Particle.PORTAL, location, 150, 1, 1, 1, 2);
-        location.getWorld().spawnParticle(Particle.REVERSE_PORTAL, location, 100, 1, 1, 1, 1);
+        particles.emit(Particle.PORTAL, location, 150, 1, 1, 1, 2);
+        particles.emit(Particle.REVERSE_PORTAL, location, 100, 1, 1, 1, 1);
         location.getWorld().playSound(location, Sound.ENTITY_ENDERMAN_TELEPORT, 2.0f, 0.5f);
 
         // Teleport behind player
         Vector direction = target.getLocation().getDirection().multiply(-3);
         Location targetLoc = target.getLocation().add(direction).add(0, 1, 0);
 
-        bukkitEntity.teleport(targetLoc);
+        bukkitEntity.teleport(targetLoc, TeleportFlag.EntityState.RETAIN_PASSENGERS);
         location = targetLoc;
 
         // New location effects
-        location.getWorld().spawnParticle(Particle.PORTAL, location, 150, 1, 1, 1, 2);
-        location.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, location, 5, 0, 0, 0, 0);
-        location.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, location, 50, 1, 1, 1, 0.1);
+        particles.emit(Particle.PORTAL, location, 150, 1, 1, 1, 2);
+        particles.emit(Particle.EXPLOSION_EMITTER, location, 5, 0, 0, 0, 0);
+        particles.emit(Particle.SOUL_FIRE_FLAME, location, 50, 1, 1, 1, 0.1);
         location.getWorld().playSound(location, Sound.ENTITY_ENDERMAN_TELEPORT, 2.0f, 0.5f);
         location.getWorld().playSound(location, Sound.ENTITY_WITHER_SPAWN, 1.0f, 2.0f);
     }
@@ -884,9 +958,9 @@ public class AITorqueEntity {
                 Vector rotated = rotateAroundY(direction.clone(), Math.toRadians(angle));
                 Location particleLoc = slashPoint.clone().add(rotated);
 
-                slashPoint.getWorld().spawnParticle(Particle.SWEEP_ATTACK, particleLoc, 0);
-                slashPoint.getWorld().spawnParticle(Particle.SCULK_SOUL, particleLoc, 3, 0.1, 0.1, 0.1, 0.05);
-                slashPoint.getWorld().spawnParticle(Particle.SONIC_BOOM, particleLoc, 1, 0, 0, 0, 0);
+                particles.emit(Particle.SWEEP_ATTACK, particleLoc, 0);
+                particles.emit(Particle.SCULK_SOUL, particleLoc, 3, 0.1, 0.1, 0.1, 0.05);
+                particles.emit(Particle.SONIC_BOOM, particleLoc, 1, 0, 0, 0, 0);
             }
         }
 
@@ -895,7 +969,7 @@ public class AITorqueEntity {
         location.getWorld().playSound(location, Sound.ENTITY_WARDEN_SONIC_BOOM, 1.5f, 1.5f);
 
         // Damage nearby entities
-        Collection<Entity> nearby = start.getWorld().getNearbyEntities(start, 5, 3, 5,
+        Collection<Entity> nearby = nearbyEntities(start, 5, 3, 5,
                 e -> e instanceof LivingEntity && !e.equals(bukkitEntity));
 
         for (Entity entity : nearby) {
@@ -917,12 +991,12 @@ public class AITorqueEntity {
         bukkitEntity.setVelocity(direction.multiply(1.5));
 
         // Jump particle effects
-        location.getWorld().spawnParticle(Particle.EXPLOSION, location, 10, 0.5, 0.1, 0.5, 0);
-        location.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, location, 30, 0.5, 0.1, 0.5, 0.1);
+        particles.emit(Particle.EXPLOSION, location, 10, 0.5, 0.1, 0.5, 0);
+        particles.emit(Particle.SOUL_FIRE_FLAME, location, 30, 0.5, 0.1, 0.5, 0.1);
         location.getWorld().playSound(location, Sound.ENTITY_ENDER_DRAGON_FLAP, 1.5f, 0.8f);
 
         // Trail particles while jumping
-        new BukkitRunnable() {
+        runTimer("perform-jump-attack", new BossTask() {
             int ticks = 0;
 
             @Override
@@ -933,10 +1007,10 @@ public class AITorqueEntity {
                 }
 
                 Location loc = bukkitEntity.getLocation();
-                loc.getWorld().spawnParticle(Particle.SOUL, loc, 5, 0.3, 0.3, 0.3, 0.05);
-                loc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, loc, 10, 0.5, 0.5, 0.5, 0.1);
+                particles.emit(Particle.SOUL, loc, 5, 0.3, 0.3, 0.3, 0.05);
+                particles.emit(Particle.REVERSE_PORTAL, loc, 10, 0.5, 0.5, 0.5, 0.1);
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
     }
 
     /**
@@ -947,7 +1021,7 @@ public class AITorqueEntity {
         Vector direction = target.getLocation().add(0, 1, 0).toVector().subtract(start.toVector()).normalize();
 
         // Spawn visual orb (using armor stand or particles)
-        new BukkitRunnable() {
+        runTimer("launch-void-orb", new BossTask() {
             Location orbLoc = start.clone();
             int ticks = 0;
 
@@ -962,18 +1036,18 @@ public class AITorqueEntity {
                 orbLoc.add(direction.clone().multiply(0.5));
 
                 // Orb particles
-                orbLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, orbLoc, 15, 0.2, 0.2, 0.2, 0.01);
-                orbLoc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, orbLoc, 20, 0.3, 0.3, 0.3, 0.05);
-                orbLoc.getWorld().spawnParticle(Particle.END_ROD, orbLoc, 5, 0.1, 0.1, 0.1, 0.05);
+                particles.emit(Particle.SOUL_FIRE_FLAME, orbLoc, 15, 0.2, 0.2, 0.2, 0.01);
+                particles.emit(Particle.REVERSE_PORTAL, orbLoc, 20, 0.3, 0.3, 0.3, 0.05);
+                particles.emit(Particle.END_ROD, orbLoc, 5, 0.1, 0.1, 0.1, 0.05);
 
                 // Check for hit
-                Collection<Entity> hit = orbLoc.getWorld().getNearbyEntities(orbLoc, 1.5, 1.5, 1.5,
+                Collection<Entity> hit = nearbyEntities(orbLoc, 1.5, 1.5, 1.5,
                         e -> e instanceof LivingEntity && !e.equals(bukkitEntity));
 
                 if (!hit.isEmpty() || orbLoc.getBlock().getType().isSolid()) {
                     // Explosion
-                    orbLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, orbLoc, 3, 0, 0, 0, 0);
-                    orbLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, orbLoc, 50, 1, 1, 1, 0.1);
+                    particles.emit(Particle.EXPLOSION_EMITTER, orbLoc, 3, 0, 0, 0, 0);
+                    particles.emit(Particle.SOUL_FIRE_FLAME, orbLoc, 50, 1, 1, 1, 0.1);
                     orbLoc.getWorld().playSound(orbLoc, Sound.ENTITY_GENERIC_EXPLODE, 2.0f, 1.2f);
 
                     // Damage
@@ -990,7 +1064,7 @@ public class AITorqueEntity {
                     cancel();
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
 
         // Launch sound
         location.getWorld().playSound(location, Sound.ENTITY_BLAZE_SHOOT, 1.5f, 0.6f);
@@ -1017,7 +1091,7 @@ public class AITorqueEntity {
         Vector direction = target.getLocation().toVector().subtract(start.toVector()).normalize();
 
         // Sweeping laser beam
-        new BukkitRunnable() {
+        runTimer("laser-beam", new BossTask() {
             int ticks = 0;
             double angle = 0;
 
@@ -1032,25 +1106,18 @@ public class AITorqueEntity {
                 angle += Math.toRadians(9);
                 Vector rotated = rotateAroundY(direction.clone(), angle);
 
-                for (double d = 0; d < 30; d += 0.5) {
-                    Location beamLoc = start.clone().add(rotated.clone().multiply(d));
-                    beamLoc.getWorld().spawnParticle(Particle.END_ROD, beamLoc, 3, 0, 0, 0, 0);
-                    beamLoc.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, beamLoc, 2, 0.1, 0.1, 0.1, 0);
+                beams.ray(SWEEP_LASER, start, rotated, 30);
 
-                    // Damage entities
-                    Collection<Entity> hit = beamLoc.getWorld().getNearbyEntities(beamLoc, 0.5, 0.5, 0.5);
-                    for (Entity entity : hit) {
-                        if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                            ((LivingEntity) entity).damage(3.0, bukkitEntity);
-                        }
-                    }
+                // Damage entities
+                for (BeamTracer.Hit hit : traceBeam(start, rotated, 29.5, 0.5, EntitySnapshot.LIVING)) {
+                    ((LivingEntity) hit.getEntity()).damage(3.0, bukkitEntity);
                 }
 
                 if (ticks % 5 == 0) {
                     start.getWorld().playSound(start, Sound.BLOCK_BEACON_ACTIVATE, 2.0f, 2.0f);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
     }
 
     /** Meteor Shower - Rains meteors from sky */
@@ -1058,26 +1125,26 @@ public class AITorqueEntity {
         Location center = target.getLocation();
 
         for (int i = 0; i < 15; i++) {
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("meteor-shower", () -> {
                 Location meteorStart = center.clone().add(
                         (Math.random() - 0.5) * 30,
                         50,
                         (Math.random() - 0.5) * 30
                 );
 
-                new BukkitRunnable() {
+                runTimer("meteor-shower", new BossTask() {
                     Location meteorLoc = meteorStart.clone();
                     int ticks = 0;
 
                     @Override
                     public void run() {
-                        if (ticks++ > 60 || meteorLoc.getY() <= meteorLoc.getWorld().getHighestBlockYAt(meteorLoc)) {
+                        if (ticks++ > 60 || meteorLoc.getY() <= plugin.getSurfaceCache().getHighestY(meteorLoc)) {
                             // Impact
-                            meteorLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, meteorLoc, 5, 0, 0, 0, 0);
-                            meteorLoc.getWorld().spawnParticle(Particle.LAVA, meteorLoc, 100, 3, 1, 3, 0);
+                            particles.emit(Particle.EXPLOSION_EMITTER, meteorLoc, 5, 0, 0, 0, 0);
+                            particles.emit(Particle.LAVA, meteorLoc, 100, 3, 1, 3, 0);
                             meteorLoc.getWorld().playSound(meteorLoc, Sound.ENTITY_GENERIC_EXPLODE, 3.0f, 0.8f);
 
-                            Collection<Entity> hit = meteorLoc.getWorld().getNearbyEntities(meteorLoc, 4, 4, 4);
+                            Collection<Entity> hit = nearbyEntities(meteorLoc, 4, 4, 4);
                             for (Entity entity : hit) {
                                 if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                                     ((LivingEntity) entity).damage(10.0, bukkitEntity);
@@ -1089,11 +1156,11 @@ public class AITorqueEntity {
                         }
 
                         meteorLoc.add(0, -1, 0);
-                        meteorLoc.getWorld().spawnParticle(Particle.FLAME, meteorLoc, 30, 0.5, 0.5, 0.5, 0.1);
-                        meteorLoc.getWorld().spawnParticle(Particle.LAVA, meteorLoc, 5, 0.3, 0.3, 0.3, 0);
-                        meteorLoc.getWorld().spawnParticle(Particle.SMOKE, meteorLoc, 20, 0.5, 0.5, 0.5, 0.05);
+                        particles.emit(Particle.FLAME, meteorLoc, 30, 0.5, 0.5, 0.5, 0.1);
+                        particles.emit(Particle.LAVA, meteorLoc, 5, 0.3, 0.3, 0.3, 0);
+                        particles.emit(Particle.SMOKE, meteorLoc, 20, 0.5, 0.5, 0.5, 0.05);
                     }
-                }.runTaskTimer(plugin, 0L, 1L);
+                }, 0L, 1L);
             }, i * 10L);
         }
     }
@@ -1102,14 +1169,14 @@ public class AITorqueEntity {
     private void blackHole(Player target) {
         Location blackHoleLoc = target.getLocation().add(0, 15, 0);
 
-        new BukkitRunnable() {
+        runTimer("black-hole", new BossTask() {
             int ticks = 0;
 
             @Override
             public void run() {
                 if (ticks++ > 100) {
                     // Final explosion
-                    blackHoleLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, blackHoleLoc, 20, 0, 0, 0, 0);
+                    particles.emit(Particle.EXPLOSION_EMITTER, blackHoleLoc, 20, 0, 0, 0, 0);
                     blackHoleLoc.getWorld().playSound(blackHoleLoc, Sound.ENTITY_WARDEN_SONIC_BOOM, 3.0f, 0.5f);
                     cancel();
                     return;
@@ -1124,15 +1191,15 @@ public class AITorqueEntity {
                     double y = r * Math.sin(phi) * Math.sin(theta);
                     double z = r * Math.cos(phi);
                     Location particleLoc = blackHoleLoc.clone().add(x, y, z);
-                    blackHoleLoc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, particleLoc, 1, 0, 0, 0, 0.5);
+                    particles.emit(Particle.REVERSE_PORTAL, particleLoc, 1, 0, 0, 0, 0.5);
                 }
 
                 // Pull entities
-                Collection<Entity> nearby = blackHoleLoc.getWorld().getNearbyEntities(blackHoleLoc, 20, 20, 20);
+                Collection<Entity> nearby = nearbyEntities(blackHoleLoc, 20, 20, 20);
                 for (Entity entity : nearby) {
                     if (!entity.equals(bukkitEntity)) {
                         Vector pull = blackHoleLoc.toVector().subtract(entity.getLocation().toVector()).normalize();
-                        entity.setVelocity(pull.multiply(0.8));
+                        forces.steer(entity, pull.multiply(0.8));
 
                         if (entity.getLocation().distance(blackHoleLoc) < 2 && entity instanceof LivingEntity) {
                             ((LivingEntity) entity).damage(5.0, bukkitEntity);
@@ -1144,13 +1211,13 @@ public class AITorqueEntity {
                     blackHoleLoc.getWorld().playSound(blackHoleLoc, Sound.BLOCK_PORTAL_AMBIENT, 3.0f, 0.5f);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
     }
 
     /** Lightning Storm - Summons lightning strikes */
     private void lightningStorm() {
         for (int i = 0; i < 20; i++) {
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("lightning-storm", () -> {
                 Location strikeLoc = bukkitEntity.getLocation().add(
                         (Math.random() - 0.5) * 40,
                         0,
@@ -1165,7 +1232,7 @@ public class AITorqueEntity {
     private void voidRift(Player target) {
         Location riftLoc = target.getLocation();
 
-        new BukkitRunnable() {
+        runTimer("void-rift", new BossTask() {
             int ticks = 0;
 
             @Override
@@ -1181,31 +1248,31 @@ public class AITorqueEntity {
                     double x = 3 * Math.cos(angle);
                     double z = 3 * Math.sin(angle);
                     Location particleLoc = riftLoc.clone().add(x, ticks * 0.1, z);
-                    riftLoc.getWorld().spawnParticle(Particle.PORTAL, particleLoc, 10, 0.1, 0.1, 0.1, 1);
-                    riftLoc.getWorld().spawnParticle(Particle.WITCH, particleLoc, 5, 0.1, 0.1, 0.1, 0);
+                    particles.emit(Particle.PORTAL, particleLoc, 10, 0.1, 0.1, 0.1, 1);
+                    particles.emit(Particle.WITCH, particleLoc, 5, 0.1, 0.1, 0.1, 0);
                 }
 
                 // Damage nearby
-                Collection<Entity> nearby = riftLoc.getWorld().getNearbyEntities(riftLoc, 4, 10, 4);
+                Collection<Entity> nearby = nearbyEntities(riftLoc, 4, 10, 4);
                 for (Entity entity : nearby) {
                     if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                         ((LivingEntity) entity).damage(2.0, bukkitEntity);
                     }
                 }
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+        }, 0L, 2L);
     }
 
     /** Soul Swarm - Launches multiple soul projectiles */
     private void soulSwarm(Player target) {
         for (int i = 0; i < 12; i++) {
             final int index = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("soul-swarm", () -> {
                 Location start = bukkitEntity.getLocation().add(0, 2, 0);
                 double angle = Math.toRadians(index * 30);
                 Vector direction = new Vector(Math.cos(angle), 0.2, Math.sin(angle)).normalize();
 
-                new BukkitRunnable() {
+                runTimer("soul-swarm", new BossTask() {
                     Location soulLoc = start.clone();
                     int ticks = 0;
 
@@ -1217,10 +1284,10 @@ public class AITorqueEntity {
                         }
 
                         soulLoc.add(direction.clone().multiply(0.6));
-                        soulLoc.getWorld().spawnParticle(Particle.SOUL, soulLoc, 10, 0.2, 0.2, 0.2, 0.02);
-                        soulLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, soulLoc, 5, 0.1, 0.1, 0.1, 0.01);
+                        particles.emit(Particle.SOUL, soulLoc, 10, 0.2, 0.2, 0.2, 0.02);
+                        particles.emit(Particle.SOUL_FIRE_FLAME, soulLoc, 5, 0.1, 0.1, 0.1, 0.01);
 
-                        Collection<Entity> hit = soulLoc.getWorld().getNearbyEntities(soulLoc, 1, 1, 1);
+                        Collection<Entity> hit = nearbyEntities(soulLoc, 1, 1, 1);
                         for (Entity entity : hit) {
                             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                                 ((LivingEntity) entity).damage(4.0, bukkitEntity);
@@ -1229,7 +1296,7 @@ public class AITorqueEntity {
                             }
                         }
                     }
-                }.runTaskTimer(plugin, 0L, 1L);
+                }, 0L, 1L);
             }, i * 3L);
         }
     }
@@ -1238,22 +1305,22 @@ public class AITorqueEntity {
     private void groundSlam() {
         Location center = bukkitEntity.getLocation();
 
-        center.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, center, 10, 0, 0, 0, 0);
+        particles.emit(Particle.EXPLOSION_EMITTER, center, 10, 0, 0, 0, 0);
         center.getWorld().playSound(center, Sound.ENTITY_WARDEN_SONIC_BOOM, 3.0f, 0.5f);
 
         for (double r = 1; r <= 15; r += 0.5) {
             final double radius = r;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("ground-slam", () -> {
                 for (int angle = 0; angle < 360; angle += 10) {
                     double rad = Math.toRadians(angle);
                     double x = radius * Math.cos(rad);
                     double z = radius * Math.sin(rad);
                     Location waveLoc = center.clone().add(x, 0, z);
 
-                    waveLoc.getWorld().spawnParticle(Particle.SONIC_BOOM, waveLoc, 1, 0, 0, 0, 0);
-                    waveLoc.getWorld().spawnParticle(Particle.EXPLOSION, waveLoc, 3, 0.3, 0.3, 0.3, 0);
+                    particles.emit(Particle.SONIC_BOOM, waveLoc, 1, 0, 0, 0, 0);
+                    particles.emit(Particle.EXPLOSION, waveLoc, 3, 0.3, 0.3, 0.3, 0);
 
-                    Collection<Entity> hit = waveLoc.getWorld().getNearbyEntities(waveLoc, 1, 2, 1);
+                    Collection<Entity> hit = nearbyEntities(waveLoc, 1, 2, 1);
                     for (Entity entity : hit) {
                         if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                             LivingEntity living = (LivingEntity) entity;
@@ -1273,7 +1340,7 @@ public class AITorqueEntity {
         Location chainStart = bukkitEntity.getLocation().add(0, 1, 0);
         Location playerLoc = target.getLocation();
 
-        new BukkitRunnable() {
+        runTimer("void-chains", new BossTask() {
             int ticks = 0;
 
             @Override
@@ -1288,7 +1355,7 @@ public class AITorqueEntity {
                 double distance = chainStart.distance(playerLoc);
                 for (double d = 0; d < distance; d += 0.5) {
                     Location chainLoc = chainStart.clone().add(direction.clone().normalize().multiply(d));
-                    chainLoc.getWorld().spawnParticle(Particle.SCULK_SOUL, chainLoc, 2, 0, 0, 0, 0);
+                    particles.emit(Particle.SCULK_SOUL, chainLoc, 2, 0, 0, 0, 0);
                 }
 
                 // Hold player
@@ -1299,17 +1366,17 @@ public class AITorqueEntity {
                     target.damage(2.0, bukkitEntity);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
     }
 
     /** Time Slow - Slows all nearby entities */
     private void timeSlow() {
         Location center = bukkitEntity.getLocation();
 
-        center.getWorld().spawnParticle(Particle.REVERSE_PORTAL, center, 200, 15, 15, 15, 0.5);
+        particles.emit(Particle.REVERSE_PORTAL, center, 200, 15, 15, 15, 0.5);
         center.getWorld().playSound(center, Sound.BLOCK_PORTAL_TRIGGER, 3.0f, 0.5f);
 
-        Collection<Entity> nearby = center.getWorld().getNearbyEntities(center, 20, 20, 20);
+        Collection<Entity> nearby = nearbyEntities(center, 20, 20, 20);
         for (Entity entity : nearby) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 LivingEntity living = (LivingEntity) entity;
@@ -1323,14 +1390,14 @@ public class AITorqueEntity {
     private void gravityReversal() {
         Location center = bukkitEntity.getLocation();
 
-        Collection<Entity> nearby = center.getWorld().getNearbyEntities(center, 15, 15, 15);
+        Collection<Entity> nearby = nearbyEntities(center, 15, 15, 15);
         for (Entity entity : nearby) {
             if (!entity.equals(bukkitEntity)) {
                 entity.setVelocity(new Vector(0, 1.5, 0));
             }
         }
 
-        center.getWorld().spawnParticle(Particle.END_ROD, center, 100, 15, 15, 15, 0.3);
+        particles.emit(Particle.END_ROD, center, 100, 15, 15, 15, 0.3);
         center.getWorld().playSound(center, Sound.ENTITY_ENDERMAN_TELEPORT, 3.0f, 0.5f);
     }
 
@@ -1338,18 +1405,18 @@ public class AITorqueEntity {
     private void voidBomb(Player target) {
         Location bombLoc = target.getLocation().add(0, 5, 0);
 
-        new BukkitRunnable() {
+        runTimer("void-bomb", new BossTask() {
             int ticks = 0;
 
             @Override
             public void run() {
                 if (ticks++ > 40) {
                     // Explode
-                    bombLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, bombLoc, 30, 0, 0, 0, 0);
-                    bombLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, bombLoc, 200, 5, 5, 5, 0.1);
+                    particles.emit(Particle.EXPLOSION_EMITTER, bombLoc, 30, 0, 0, 0, 0);
+                    particles.emit(Particle.SOUL_FIRE_FLAME, bombLoc, 200, 5, 5, 5, 0.1);
                     bombLoc.getWorld().playSound(bombLoc, Sound.ENTITY_GENERIC_EXPLODE, 5.0f, 0.5f);
 
-                    Collection<Entity> hit = bombLoc.getWorld().getNearbyEntities(bombLoc, 10, 10, 10);
+                    Collection<Entity> hit = nearbyEntities(bombLoc, 10, 10, 10);
                     for (Entity entity : hit) {
                         if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                             LivingEntity living = (LivingEntity) entity;
@@ -1365,14 +1432,14 @@ public class AITorqueEntity {
                 }
 
                 // Charging
-                bombLoc.getWorld().spawnParticle(Particle.SOUL, bombLoc, 20, 1, 1, 1, 0.05);
-                bombLoc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, bombLoc, 30, 1.5, 1.5, 1.5, 0.1);
+                particles.emit(ParticleBudget.Priority.TELEGRAPH, Particle.SOUL, bombLoc, 20, 1, 1, 1, 0.05);
+                particles.emit(ParticleBudget.Priority.TELEGRAPH, Particle.REVERSE_PORTAL, bombLoc, 30, 1.5, 1.5, 1.5, 0.1);
 
                 if (ticks % 10 == 0) {
                     bombLoc.getWorld().playSound(bombLoc, Sound.BLOCK_BEACON_ACTIVATE, 2.0f, 1.0f + (ticks * 0.05f));
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
     }
 
     /** Soul Drain - Steals life */
@@ -1380,7 +1447,7 @@ public class AITorqueEntity {
         Location start = bukkitEntity.getLocation().add(0, 1, 0);
         Location end = target.getLocation().add(0, 1, 0);
 
-        new BukkitRunnable() {
+        runTimer("soul-drain", new BossTask() {
             int ticks = 0;
 
             @Override
@@ -1395,8 +1462,8 @@ public class AITorqueEntity {
                 double distance = start.distance(end);
                 for (double d = 0; d < distance; d += 0.5) {
                     Location beamLoc = start.clone().add(direction.clone().normalize().multiply(d));
-                    beamLoc.getWorld().spawnParticle(Particle.SCULK_SOUL, beamLoc, 3, 0.1, 0.1, 0.1, 0);
-                    beamLoc.getWorld().spawnParticle(Particle.SOUL, beamLoc, 2, 0.1, 0.1, 0.1, 0.02);
+                    particles.emit(Particle.SCULK_SOUL, beamLoc, 3, 0.1, 0.1, 0.1, 0);
+                    particles.emit(Particle.SOUL, beamLoc, 2, 0.1, 0.1, 0.1, 0.02);
                 }
 
                 // Damage and heal
@@ -1412,7 +1479,7 @@ public class AITorqueEntity {
                     start.getWorld().playSound(start, Sound.ENTITY_VEX_AMBIENT, 1.5f, 0.8f);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+        }, 0L, 2L);
     }
 
     /** Chaos Burst - Random explosions */
@@ -1420,18 +1487,18 @@ public class AITorqueEntity {
         Location center = bukkitEntity.getLocation();
 
         for (int i = 0; i < 30; i++) {
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("chaos-burst", () -> {
                 Location burstLoc = center.clone().add(
                         (Math.random() - 0.5) * 20,
                         Math.random() * 10,
                         (Math.random() - 0.5) * 20
                 );
 
-                burstLoc.getWorld().spawnParticle(Particle.EXPLOSION, burstLoc, 5, 0, 0, 0, 0);
-                burstLoc.getWorld().spawnParticle(Particle.FLAME, burstLoc, 50, 1, 1, 1, 0.1);
+                particles.emit(Particle.EXPLOSION, burstLoc, 5, 0, 0, 0, 0);
+                particles.emit(Particle.FLAME, burstLoc, 50, 1, 1, 1, 0.1);
                 burstLoc.getWorld().playSound(burstLoc, Sound.ENTITY_GENERIC_EXPLODE, 2.0f, 1.0f);
 
-                Collection<Entity> hit = burstLoc.getWorld().getNearbyEntities(burstLoc, 3, 3, 3);
+                Collection<Entity> hit = nearbyEntities(burstLoc, 3, 3, 3);
                 for (Entity entity : hit) {
                     if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                         ((LivingEntity) entity).damage(5.0, bukkitEntity);
@@ -1451,7 +1518,7 @@ public class AITorqueEntity {
             double z = 5 * Math.sin(angle);
             Location spikeLoc = center.clone().add(x, 0, z);
 
-            new BukkitRunnable() {
+            runTimer("void-spikes", new BossTask() {
                 int ticks = 0;
 
                 @Override
@@ -1463,17 +1530,17 @@ public class AITorqueEntity {
 
                     for (int y = 0; y < ticks; y++) {
                         Location particleLoc = spikeLoc.clone().add(0, y * 0.5, 0);
-                        spikeLoc.getWorld().spawnParticle(Particle.SCULK_SOUL, particleLoc, 3, 0.1, 0.1, 0.1, 0);
+                        particles.emit(Particle.SCULK_SOUL, particleLoc, 3, 0.1, 0.1, 0.1, 0);
                     }
 
-                    Collection<Entity> hit = spikeLoc.getWorld().getNearbyEntities(spikeLoc, 1, ticks * 0.5, 1);
+                    Collection<Entity> hit = nearbyEntities(spikeLoc, 1, ticks * 0.5, 1);
                     for (Entity entity : hit) {
                         if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                             ((LivingEntity) entity).damage(3.0, bukkitEntity);
                         }
                     }
                 }
-            }.runTaskTimer(plugin, i * 5L, 2L);
+            }, i * 5L, 2L);
         }
     }
 
@@ -1481,7 +1548,7 @@ public class AITorqueEntity {
     private void cosmicStorm() {
         Location center = bukkitEntity.getLocation();
 
-        new BukkitRunnable() {
+        runTimer("cosmic-storm", new BossTask() {
             int ticks = 0;
 
             @Override
@@ -1498,10 +1565,10 @@ public class AITorqueEntity {
                             (Math.random() - 0.5) * 30
                     );
 
-                    stormLoc.getWorld().spawnParticle(Particle.END_ROD, stormLoc, 10, 0.5, 0.5, 0.5, 0.1);
-                    stormLoc.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, stormLoc, 5, 0.3, 0.3, 0.3, 0.05);
+                    particles.emit(Particle.END_ROD, stormLoc, 10, 0.5, 0.5, 0.5, 0.1);
+                    particles.emit(Particle.ELECTRIC_SPARK, stormLoc, 5, 0.3, 0.3, 0.3, 0.05);
 
-                    Collection<Entity> hit = stormLoc.getWorld().getNearbyEntities(stormLoc, 2, 2, 2);
+                    Collection<Entity> hit = nearbyEntities(stormLoc, 2, 2, 2);
                     for (Entity entity : hit) {
                         if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                             ((LivingEntity) entity).damage(2.0, bukkitEntity);
@@ -1509,15 +1576,15 @@ public class AITorqueEntity {
                     }
                 }
             }
-        }.runTaskTimer(plugin, 0L, 3L);
+        }, 0L, 3L);
     }
 
     /** Dimensional Shift - Becomes invulnerable briefly */
     private void dimensionalShift() {
         bukkitEntity.setInvulnerable(true);
-        bukkitEntity.getLocation().getWorld().spawnParticle(Particle.PORTAL, bukkitEntity.getLocation(), 200, 2, 2, 2, 2);
+        particles.emit(Particle.PORTAL, bukkitEntity.getLocation(), 200, 2, 2, 2, 2);
 
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        runLater("dimensional-shift", () -> {
             bukkitEntity.setInvulnerable(false);
         }, 60L);
     }
@@ -1537,8 +1604,8 @@ public class AITorqueEntity {
             clone.setCustomName("§4Shadow Clone");
             clone.setCustomNameVisible(true);
 
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                clone.getWorld().spawnParticle(Particle.SMOKE, clone.getLocation(), 50, 1, 1, 1, 0.1);
+            runLater("shadow-clones", () -> {
+                particles.emit(Particle.SMOKE, clone.getLocation(), 50, 1, 1, 1, 0.1);
                 clone.remove();
             }, 200L);
         }
@@ -1548,7 +1615,7 @@ public class AITorqueEntity {
     private void realityTear() {
         Location center = bukkitEntity.getLocation();
 
-        new BukkitRunnable() {
+        runTimer("reality-tear", new BossTask() {
             int ticks = 0;
 
             @Override
@@ -1566,11 +1633,11 @@ public class AITorqueEntity {
                     double y = r * Math.sin(phi) * Math.sin(theta);
                     double z = r * Math.cos(phi);
                     Location particleLoc = center.clone().add(x, y, z);
-                    center.getWorld().spawnParticle(Particle.PORTAL, particleLoc, 1, 0, 0, 0, 2);
-                    center.getWorld().spawnParticle(Particle.REVERSE_PORTAL, particleLoc, 1, 0, 0, 0, 2);
+                    particles.emit(Particle.PORTAL, particleLoc, 1, 0, 0, 0, 2);
+                    particles.emit(Particle.REVERSE_PORTAL, particleLoc, 1, 0, 0, 0, 2);
                 }
 
-                Collection<Entity> nearby = center.getWorld().getNearbyEntities(center, 10, 10, 10);
+                Collection<Entity> nearby = nearbyEntities(center, 10, 10, 10);
                 for (Entity entity : nearby) {
                     if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                         LivingEntity living = (LivingEntity) entity;
@@ -1579,7 +1646,7 @@ public class AITorqueEntity {
                     }
                 }
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+        }, 0L, 2L);
     }
 
     /** Void Nova - Massive burst */
@@ -1588,17 +1655,17 @@ public class AITorqueEntity {
 
         for (double r = 1; r <= 25; r += 1) {
             final double radius = r;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("void-nova", () -> {
                 for (int angle = 0; angle < 360; angle += 5) {
                     double rad = Math.toRadians(angle);
                     double x = radius * Math.cos(rad);
                     double z = radius * Math.sin(rad);
                     Location novaLoc = center.clone().add(x, 0, z);
 
-                    novaLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, novaLoc, 10, 0.2, 0.2, 0.2, 0.05);
-                    novaLoc.getWorld().spawnParticle(Particle.END_ROD, novaLoc, 5, 0, 0, 0, 0.1);
+                    particles.emit(Particle.SOUL_FIRE_FLAME, novaLoc, 10, 0.2, 0.2, 0.2, 0.05);
+                    particles.emit(Particle.END_ROD, novaLoc, 5, 0, 0, 0, 0.1);
 
-                    Collection<Entity> hit = novaLoc.getWorld().getNearbyEntities(novaLoc, 1, 3, 1);
+                    Collection<Entity> hit = nearbyEntities(novaLoc, 1, 3, 1);
                     for (Entity entity : hit) {
                         if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                             ((LivingEntity) entity).damage(8.0, bukkitEntity);
@@ -1615,43 +1682,41 @@ public class AITorqueEntity {
     private void apocalypseRain() {
         Location center = bukkitEntity.getLocation();
 
-        for (int i = 0; i < 50; i++) {
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                Location rainLoc = center.clone().add(
-                        (Math.random() - 0.5) * 50,
-                        50,
-                        (Math.random() - 0.5) * 50
-                );
+        effectWheel.schedule(0, 50, 5, step -> {
+            Location rainLoc = center.clone().add(
+                    (Math.random() - 0.5) * 50,
+                    50,
+                    (Math.random() - 0.5) * 50
+            );
 
-                new BukkitRunnable() {
-                    Location dropLoc = rainLoc.clone();
+            runTimer("apocalypse-rain", new BossTask() {
+                Location dropLoc = rainLoc.clone();
 
-                    @Override
-                    public void run() {
-                        if (dropLoc.getY() <= dropLoc.getWorld().getHighestBlockYAt(dropLoc)) {
-                            dropLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, dropLoc, 10, 0, 0, 0, 0);
-                            dropLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, dropLoc, 100, 4, 1, 4, 0.1);
-                            dropLoc.getWorld().playSound(dropLoc, Sound.ENTITY_GENERIC_EXPLODE, 3.0f, 0.5f);
-                            dropLoc.getWorld().strikeLightning(dropLoc);
+                @Override
+                public void run() {
+                    if (dropLoc.getY() <= plugin.getSurfaceCache().getHighestY(dropLoc)) {
+                        particles.emit(Particle.EXPLOSION_EMITTER, dropLoc, 10, 0, 0, 0, 0);
+                        particles.emit(Particle.SOUL_FIRE_FLAME, dropLoc, 100, 4, 1, 4, 0.1);
+                        dropLoc.getWorld().playSound(dropLoc, Sound.ENTITY_GENERIC_EXPLODE, 3.0f, 0.5f);
+                        dropLoc.getWorld().strikeLightning(dropLoc);
 
-                            Collection<Entity> hit = dropLoc.getWorld().getNearbyEntities(dropLoc, 5, 5, 5);
-                            for (Entity entity : hit) {
-                                if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                                    ((LivingEntity) entity).damage(12.0, bukkitEntity);
-                                    entity.setFireTicks(200);
-                                }
+                        Collection<Entity> hit = nearbyEntities(dropLoc, 5, 5, 5);
+                        for (Entity entity : hit) {
+                            if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
+                                ((LivingEntity) entity).damage(12.0, bukkitEntity);
+                                entity.setFireTicks(200);
                             }
-                            cancel();
-                            return;
                         }
-
-                        dropLoc.add(0, -2, 0);
-                        dropLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, dropLoc, 50, 1, 1, 1, 0.1);
-                        dropLoc.getWorld().spawnParticle(Particle.LAVA, dropLoc, 10, 0.5, 0.5, 0.5, 0);
+                        cancel();
+                        return;
                     }
-                }.runTaskTimer(plugin, 0L, 1L);
-            }, i * 5L);
-        }
+
+                    dropLoc.add(0, -2, 0);
+                    particles.emit(Particle.SOUL_FIRE_FLAME, dropLoc, 50, 1, 1, 1, 0.1);
+                    particles.emit(Particle.LAVA, dropLoc, 10, 0.5, 0.5, 0.5, 0);
+                }
+            }, 0L, 1L);
+        });
     }
 
     /**
@@ -1663,7 +1728,7 @@ public class AITorqueEntity {
         // Launch multiple bone projectiles
         for (int i = 0; i < 5; i++) {
             final int index = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("bone-attack", () -> {
                 Vector direction = target.getLocation().toVector().subtract(start.toVector()).normalize();
 
                 // Add slight spread
@@ -1673,7 +1738,7 @@ public class AITorqueEntity {
                     (Math.random() - 0.5) * 0.2
                 )).normalize();
 
-                new BukkitRunnable() {
+                runTimer("bone-attack", new BossTask() {
                     Location boneLoc = start.clone();
                     int ticks = 0;
 
@@ -1687,11 +1752,11 @@ public class AITorqueEntity {
                         boneLoc.add(direction.clone().multiply(0.5));
 
                         // Bone particles (using white smoke and crit)
-                        boneLoc.getWorld().spawnParticle(Particle.SNOWFLAKE, boneLoc, 5, 0.1, 0.1, 0.1, 0);
-                        boneLoc.getWorld().spawnParticle(Particle.CRIT, boneLoc, 2, 0.1, 0.1, 0.1, 0);
+                        particles.emit(Particle.SNOWFLAKE, boneLoc, 5, 0.1, 0.1, 0.1, 0);
+                        particles.emit(Particle.CRIT, boneLoc, 2, 0.1, 0.1, 0.1, 0);
 
                         // Check for hits
-                        Collection<Entity> nearby = boneLoc.getWorld().getNearbyEntities(boneLoc, 0.5, 0.5, 0.5);
+                        Collection<Entity> nearby = nearbyEntities(boneLoc, 0.5, 0.5, 0.5);
                         for (Entity entity : nearby) {
                             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                                 ((LivingEntity) entity).damage(5.0, bukkitEntity);
@@ -1701,7 +1766,7 @@ public class AITorqueEntity {
                             }
                         }
                     }
-                }.runTaskTimer(plugin, 0L, 1L);
+                }, 0L, 1L);
             }, index * 3L);
         }
 
@@ -1717,18 +1782,18 @@ public class AITorqueEntity {
 
         // Charging effect
         for (int i = 0; i < 20; i++) {
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                start.getWorld().spawnParticle(Particle.DRAGON_BREATH, start, 30, 1, 1, 1, 0.05);
-                start.getWorld().spawnParticle(Particle.REVERSE_PORTAL, start, 50, 1, 1, 1, 0.1);
+            runLater("zikes-wrath", () -> {
+                particles.emit(ParticleBudget.Priority.TELEGRAPH, Particle.DRAGON_BREATH, start, 30, 1, 1, 1, 0.05);
+                particles.emit(ParticleBudget.Priority.TELEGRAPH, Particle.REVERSE_PORTAL, start, 50, 1, 1, 1, 0.1);
                 start.getWorld().playSound(start, Sound.ENTITY_ENDER_DRAGON_GROWL, 0.5f, 1.5f);
             }, i);
         }
 
         // Release after charging
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        runLater("zikes-wrath", () -> {
             Vector direction = target.getLocation().toVector().subtract(start.toVector()).normalize();
 
-            new BukkitRunnable() {
+            runTimer("zikes-wrath", new BossTask() {
                 Location blastLoc = start.clone();
                 int ticks = 0;
 
@@ -1736,7 +1801,7 @@ public class AITorqueEntity {
                 public void run() {
                     if (ticks++ > 60 || blastLoc.getBlock().getType().isSolid()) {
                         // Explosion on impact
-                        blastLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, blastLoc, 10, 0, 0, 0, 0);
+                        particles.emit(Particle.EXPLOSION_EMITTER, blastLoc, 10, 0, 0, 0, 0);
                         blastLoc.getWorld().playSound(blastLoc, Sound.ENTITY_GENERIC_EXPLODE, 3.0f, 0.5f);
                         cancel();
                         return;
@@ -1745,12 +1810,12 @@ public class AITorqueEntity {
                     blastLoc.add(direction.clone().multiply(0.8));
 
                     // Zikes purple energy effect
-                    blastLoc.getWorld().spawnParticle(Particle.DRAGON_BREATH, blastLoc, 20, 0.5, 0.5, 0.5, 0.05);
-                    blastLoc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, blastLoc, 30, 0.5, 0.5, 0.5, 0.1);
-                    blastLoc.getWorld().spawnParticle(Particle.WITCH, blastLoc, 10, 0.3, 0.3, 0.3, 0);
+                    particles.emit(Particle.DRAGON_BREATH, blastLoc, 20, 0.5, 0.5, 0.5, 0.05);
+                    particles.emit(Particle.REVERSE_PORTAL, blastLoc, 30, 0.5, 0.5, 0.5, 0.1);
+                    particles.emit(Particle.WITCH, blastLoc, 10, 0.3, 0.3, 0.3, 0);
 
                     // Check for hits in larger radius
-                    Collection<Entity> nearby = blastLoc.getWorld().getNearbyEntities(blastLoc, 2, 2, 2);
+                    Collection<Entity> nearby = nearbyEntities(blastLoc, 2, 2, 2);
                     for (Entity entity : nearby) {
                         if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                             ((LivingEntity) entity).damage(15.0, bukkitEntity);
@@ -1767,13 +1832,13 @@ public class AITorqueEntity {
                             // Knockback
                             entity.setVelocity(direction.clone().multiply(1.5).setY(0.5));
 
-                            blastLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, blastLoc, 5, 0, 0, 0, 0);
+                            particles.emit(Particle.EXPLOSION_EMITTER, blastLoc, 5, 0, 0, 0, 0);
                             cancel();
                             return;
                         }
                     }
                 }
-            }.runTaskTimer(plugin, 0L, 1L);
+            }, 0L, 1L);
 
             // Release sound
             start.getWorld().playSound(start, Sound.ENTITY_WITHER_SHOOT, 2.0f, 0.7f);
@@ -1784,9 +1849,9 @@ public class AITorqueEntity {
     // Additional close-range attacks
     private void groundPound() {
         Location impact = bukkitEntity.getLocation();
-        impact.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, impact, 5, 0, 0, 0, 0);
+        particles.emit(Particle.EXPLOSION_EMITTER, impact, 5, 0, 0, 0, 0);
 
-        Collection<Entity> nearby = impact.getWorld().getNearbyEntities(impact, 6, 3, 6);
+        Collection<Entity> nearby = nearbyEntities(impact, 6, 3, 6);
         for (Entity entity : nearby) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).damage(10.0, bukkitEntity);
@@ -1798,18 +1863,18 @@ public class AITorqueEntity {
     private void voidGrasp(Player target) {
         target.setVelocity(bukkitEntity.getLocation().toVector().subtract(target.getLocation().toVector()).normalize().multiply(2.0));
         target.damage(6.0, bukkitEntity);
-        target.getWorld().spawnParticle(Particle.SCULK_SOUL, target.getLocation(), 50, 1, 1, 1, 0.1);
+        particles.emit(Particle.SCULK_SOUL, target.getLocation(), 50, 1, 1, 1, 0.1);
     }
 
     // Additional medium-range attacks
     private void spiralBlades(Player target) {
         for (int i = 0; i < 8; i++) {
             final int index = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("spiral-blades", () -> {
                 double angle = Math.toRadians(index * 45);
                 Vector direction = new Vector(Math.cos(angle), 0, Math.sin(angle)).normalize();
 
-                new BukkitRunnable() {
+                runTimer("spiral-blades", new BossTask() {
                     Location bladeLoc = bukkitEntity.getLocation().clone();
                     int ticks = 0;
 
@@ -1821,10 +1886,10 @@ public class AITorqueEntity {
                         }
 
                         bladeLoc.add(direction.clone().multiply(0.8));
-                        bladeLoc.getWorld().spawnParticle(Particle.SWEEP_ATTACK, bladeLoc, 1, 0, 0, 0, 0);
-                        bladeLoc.getWorld().spawnParticle(Particle.SCULK_SOUL, bladeLoc, 5, 0.2, 0.2, 0.2, 0);
+                        particles.emit(Particle.SWEEP_ATTACK, bladeLoc, 1, 0, 0, 0, 0);
+                        particles.emit(Particle.SCULK_SOUL, bladeLoc, 5, 0.2, 0.2, 0.2, 0);
 
-                        Collection<Entity> hit = bladeLoc.getWorld().getNearbyEntities(bladeLoc, 1, 1, 1);
+                        Collection<Entity> hit = nearbyEntities(bladeLoc, 1, 1, 1);
                         for (Entity entity : hit) {
                             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                                 ((LivingEntity) entity).damage(5.0, bukkitEntity);
@@ -1832,7 +1897,7 @@ public class AITorqueEntity {
                             }
                         }
                     }
-                }.runTaskTimer(plugin, 0L, 1L);
+                }, 0L, 1L);
             }, i * 2L);
         }
     }
@@ -1842,11 +1907,11 @@ public class AITorqueEntity {
 
         for (double d = 0; d < 20; d += 0.5) {
             final double distance = d;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("void-wave", () -> {
                 Location waveLoc = bukkitEntity.getLocation().add(direction.clone().multiply(distance));
-                waveLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, waveLoc, 20, 1, 1, 1, 0.05);
+                particles.emit(Particle.SOUL_FIRE_FLAME, waveLoc, 20, 1, 1, 1, 0.05);
 
-                Collection<Entity> hit = waveLoc.getWorld().getNearbyEntities(waveLoc, 2, 2, 2);
+                Collection<Entity> hit = nearbyEntities(waveLoc, 2, 2, 2);
                 for (Entity entity : hit) {
                     if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                         ((LivingEntity) entity).damage(7.0, bukkitEntity);
@@ -1858,8 +1923,8 @@ public class AITorqueEntity {
 
     private void teleportStrike(Player target) {
         Location behind = target.getLocation().clone().add(target.getLocation().getDirection().multiply(-3));
-        bukkitEntity.teleport(behind);
-        behind.getWorld().spawnParticle(Particle.PORTAL, behind, 100, 1, 1, 1, 1);
+        bukkitEntity.teleport(behind, TeleportFlag.EntityState.RETAIN_PASSENGERS);
+        particles.emit(Particle.PORTAL, behind, 100, 1, 1, 1, 1);
         target.damage(10.0, bukkitEntity);
         performVoidSlash(target);
     }
@@ -1867,8 +1932,8 @@ public class AITorqueEntity {
     // Additional long-range attacks
     private void homingMissiles(Player target) {
         for (int i = 0; i < 5; i++) {
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                new BukkitRunnable() {
+            runLater("homing-missiles", () -> {
+                runTimer("homing-missiles", new BossTask() {
                     Location missileLoc = bukkitEntity.getLocation().add(0, 3, 0);
                     int ticks = 0;
 
@@ -1882,16 +1947,16 @@ public class AITorqueEntity {
                         Vector direction = target.getLocation().toVector().subtract(missileLoc.toVector()).normalize();
                         missileLoc.add(direction.multiply(0.5));
 
-                        missileLoc.getWorld().spawnParticle(Particle.FLAME, missileLoc, 10, 0.2, 0.2, 0.2, 0.02);
-                        missileLoc.getWorld().spawnParticle(Particle.SMOKE, missileLoc, 5, 0.1, 0.1, 0.1, 0.01);
+                        particles.emit(Particle.FLAME, missileLoc, 10, 0.2, 0.2, 0.2, 0.02);
+                        particles.emit(Particle.SMOKE, missileLoc, 5, 0.1, 0.1, 0.1, 0.01);
 
                         if (missileLoc.distance(target.getLocation()) < 2) {
-                            missileLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, missileLoc, 3, 0, 0, 0, 0);
+                            particles.emit(Particle.EXPLOSION_EMITTER, missileLoc, 3, 0, 0, 0, 0);
                             target.damage(8.0, bukkitEntity);
                             cancel();
                         }
                     }
-                }.runTaskTimer(plugin, 0L, 1L);
+                }, 0L, 1L);
             }, i * 10L);
         }
     }
@@ -1900,17 +1965,10 @@ public class AITorqueEntity {
         Location start = bukkitEntity.getLocation().add(0, 2, 0);
         Vector direction = target.getLocation().toVector().subtract(start.toVector()).normalize();
 
-        for (double d = 0; d < 40; d += 0.3) {
-            Location beamLoc = start.clone().add(direction.clone().multiply(d));
-            beamLoc.getWorld().spawnParticle(Particle.SCULK_SOUL, beamLoc, 5, 0, 0, 0, 0);
-            beamLoc.getWorld().spawnParticle(Particle.SONIC_BOOM, beamLoc, 1, 0, 0, 0, 0);
+        beams.ray(VOID_BEAM, start, direction, 40);
 
-            Collection<Entity> hit = beamLoc.getWorld().getNearbyEntities(beamLoc, 1, 1, 1);
-            for (Entity entity : hit) {
-                if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                    ((LivingEntity) entity).damage(4.0, bukkitEntity);
-                }
-            }
+        for (BeamTracer.Hit hit : traceBeam(start, direction, 40, 1, EntitySnapshot.LIVING)) {
+            ((LivingEntity) hit.getEntity()).damage(4.0, bukkitEntity);
         }
 
         start.getWorld().playSound(start, Sound.ENTITY_WARDEN_SONIC_BOOM, 2.0f, 1.5f);
@@ -1918,7 +1976,7 @@ public class AITorqueEntity {
 
     private void arcaneBarrage(Player target) {
         for (int i = 0; i < 10; i++) {
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("arcane-barrage", () -> {
                 Location start = bukkitEntity.getLocation().add(0, 2, 0);
                 Vector direction = target.getLocation().add(
                         (Math.random() - 0.5) * 3,
@@ -1926,7 +1984,7 @@ public class AITorqueEntity {
                         (Math.random() - 0.5) * 3
                 ).toVector().subtract(start.toVector()).normalize();
 
-                new BukkitRunnable() {
+                runTimer("arcane-barrage", new BossTask() {
                     Location orbLoc = start.clone();
                     int ticks = 0;
 
@@ -1938,9 +1996,9 @@ public class AITorqueEntity {
                         }
 
                         orbLoc.add(direction.multiply(0.6));
-                        orbLoc.getWorld().spawnParticle(Particle.END_ROD, orbLoc, 5, 0.1, 0.1, 0.1, 0.02);
+                        particles.emit(Particle.END_ROD, orbLoc, 5, 0.1, 0.1, 0.1, 0.02);
 
-                        Collection<Entity> hit = orbLoc.getWorld().getNearbyEntities(orbLoc, 1, 1, 1);
+                        Collection<Entity> hit = nearbyEntities(orbLoc, 1, 1, 1);
                         for (Entity entity : hit) {
                             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                                 ((LivingEntity) entity).damage(3.0, bukkitEntity);
@@ -1948,7 +2006,7 @@ public class AITorqueEntity {
                             }
                         }
                     }
-                }.runTaskTimer(plugin, 0L, 1L);
+                }, 0L, 1L);
             }, i * 3L);
         }
     }
@@ -1956,17 +2014,17 @@ public class AITorqueEntity {
     private void meteorStrike(Player target) {
         Location meteorLoc = target.getLocation().add(0, 40, 0);
 
-        new BukkitRunnable() {
+        runTimer("meteor-strike", new BossTask() {
             Location currentLoc = meteorLoc.clone();
 
             @Override
             public void run() {
-                if (currentLoc.getY() <= currentLoc.getWorld().getHighestBlockYAt(currentLoc)) {
-                    currentLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, currentLoc, 10, 0, 0, 0, 0);
-                    currentLoc.getWorld().spawnParticle(Particle.LAVA, currentLoc, 150, 4, 2, 4, 0);
+                if (currentLoc.getY() <= plugin.getSurfaceCache().getHighestY(currentLoc)) {
+                    particles.emit(Particle.EXPLOSION_EMITTER, currentLoc, 10, 0, 0, 0, 0);
+                    particles.emit(Particle.LAVA, currentLoc, 150, 4, 2, 4, 0);
                     currentLoc.getWorld().playSound(currentLoc, Sound.ENTITY_GENERIC_EXPLODE, 5.0f, 0.5f);
 
-                    Collection<Entity> hit = currentLoc.getWorld().getNearbyEntities(currentLoc, 6, 6, 6);
+                    Collection<Entity> hit = nearbyEntities(currentLoc, 6, 6, 6);
                     for (Entity entity : hit) {
                         if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                             ((LivingEntity) entity).damage(15.0, bukkitEntity);
@@ -1978,10 +2036,10 @@ public class AITorqueEntity {
                 }
 
                 currentLoc.add(0, -2, 0);
-                currentLoc.getWorld().spawnParticle(Particle.FLAME, currentLoc, 50, 1, 1, 1, 0.1);
-                currentLoc.getWorld().spawnParticle(Particle.LAVA, currentLoc, 10, 0.5, 0.5, 0.5, 0);
+                particles.emit(Particle.FLAME, currentLoc, 50, 1, 1, 1, 0.1);
+                particles.emit(Particle.LAVA, currentLoc, 10, 0.5, 0.5, 0.5, 0);
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
     }
 
     // Ultimate attacks
@@ -1993,17 +2051,17 @@ public class AITorqueEntity {
         // Massive AOE damage
         for (double r = 1; r <= 30; r += 1) {
             final double radius = r;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("cataclysm", () -> {
                 for (int angle = 0; angle < 360; angle += 3) {
                     double rad = Math.toRadians(angle);
                     double x = radius * Math.cos(rad);
                     double z = radius * Math.sin(rad);
                     Location effectLoc = center.clone().add(x, 0, z);
 
-                    effectLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, effectLoc, 1, 0, 0, 0, 0);
-                    effectLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, effectLoc, 20, 0.5, 0.5, 0.5, 0.05);
+                    particles.emit(Particle.EXPLOSION_EMITTER, effectLoc, 1, 0, 0, 0, 0);
+                    particles.emit(Particle.SOUL_FIRE_FLAME, effectLoc, 20, 0.5, 0.5, 0.5, 0.05);
 
-                    Collection<Entity> hit = effectLoc.getWorld().getNearbyEntities(effectLoc, 2, 4, 2);
+                    Collection<Entity> hit = nearbyEntities(effectLoc, 2, 4, 2);
                     for (Entity entity : hit) {
                         if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                             ((LivingEntity) entity).damage(20.0, bukkitEntity);
@@ -2018,7 +2076,7 @@ public class AITorqueEntity {
         Location center = bukkitEntity.getLocation();
 
         // Screen shake effect + massive damage
-        Collection<Entity> all = center.getWorld().getNearbyEntities(center, 50, 50, 50);
+        Collection<Entity> all = nearbyEntities(center, 50, 50, 50);
         for (Entity entity : all) {
             if (entity instanceof Player) {
                 ((Player) entity).addPotionEffect(new PotionEffect(PotionEffectType.NAUSEA, 200, 5));
@@ -2041,8 +2099,8 @@ public class AITorqueEntity {
                     Math.random() * 40,
                     (Math.random() - 0.5) * 60
             );
-            center.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, randomLoc, 3, 0, 0, 0, 0);
-            center.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, randomLoc, 50, 2, 2, 2, 0.1);
+            particles.emit(Particle.EXPLOSION_EMITTER, randomLoc, 3, 0, 0, 0, 0);
+            particles.emit(Particle.SOUL_FIRE_FLAME, randomLoc, 50, 2, 2, 2, 0.1);
         }
 
         center.getWorld().playSound(center, Sound.ENTITY_WARDEN_SONIC_BOOM, 10.0f, 0.1f);
@@ -2057,39 +2115,24 @@ public class AITorqueEntity {
      * Spawn custom avatar body - unique humanoid form with black/red eyes
      */
     private void spawnAvatarHead() {
-        Location headLoc = bukkitEntity.getLocation().clone().add(0, 1.7, 0); // Player/Zombie head height
-
-        // Create head armor stand with custom player skull
-        avatarHead = headLoc.getWorld().spawn(headLoc, ArmorStand.class);
-        avatarHead.setVisible(false);
-        avatarHead.setGravity(false);
-        avatarHead.setMarker(true);
-        avatarHead.setSmall(false);
+        // Create head display with custom player skull
+        avatarHead = rig.item(new org.bukkit.inventory.ItemStack(Material.PLAYER_HEAD), false);
+        avatarHead.move(0, 1.7, 0); // Player/Zombie head height
 
         // Update eye color
         updateAvatarEyes();
 
         // Avatar head follow behavior - tracks zombie's head position
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead() || avatarHead == null) {
-                    cancel();
-                    return;
-                }
+        tickPipeline.register("avatar-head", 1, () -> {
+            if (avatarHead == null || !isAnimationFrame()) return;
 
-                // Position head at player/zombie height (1.7 blocks tall)
-                Location entityLoc = bukkitEntity.getLocation();
-                Location newHeadLoc = entityLoc.clone().add(0, 1.7, 0);
-                newHeadLoc.setYaw(entityLoc.getYaw());
-                newHeadLoc.setPitch(entityLoc.getPitch());
-                avatarHead.teleport(newHeadLoc);
+            // Head rides at player/zombie height (1.7 blocks tall); turn it with the body
+            Location entityLoc = bukkitEntity.getLocation();
+            avatarHead.face(entityLoc.getYaw(), entityLoc.getPitch());
+        });
 
-                if (tickCounter % 20 == 0) {
-                    updateAvatarEyes();
-                }
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+        // Refresh eye colour once a second
+        tickPipeline.register("avatar-eyes", 20, this::updateAvatarEyes);
     }
 
     /**
@@ -2098,32 +2141,29 @@ public class AITorqueEntity {
     private void updateAvatarEyes() {
         if (avatarHead == null) return;
 
-        org.bukkit.inventory.EntityEquipment headEquip = avatarHead.getEquipment();
-        if (headEquip != null) {
-            org.bukkit.inventory.ItemStack head = new org.bukkit.inventory.ItemStack(Material.PLAYER_HEAD);
-            org.bukkit.inventory.meta.SkullMeta skullMeta = (org.bukkit.inventory.meta.SkullMeta) head.getItemMeta();
+        org.bukkit.inventory.ItemStack head = new org.bukkit.inventory.ItemStack(Material.PLAYER_HEAD);
+        org.bukkit.inventory.meta.SkullMeta skullMeta = (org.bukkit.inventory.meta.SkullMeta) head.getItemMeta();
 
-            if (skullMeta != null) {
-                if (isHostile) {
-                    skullMeta.setDisplayName("§4§lAI TORQUE");
-                } else {
-                    skullMeta.setDisplayName("§0§lAI TORQUE");
-                }
-                head.setItemMeta(skullMeta);
-                headEquip.setHelmet(head);
+        if (skullMeta != null) {
+            if (isHostile) {
+                skullMeta.setDisplayName("§4§lAI TORQUE");
+            } else {
+                skullMeta.setDisplayName("§0§lAI TORQUE");
             }
+            head.setItemMeta(skullMeta);
+            avatarHead.setItem(head);
         }
 
         // Eye glow particles
-        if (avatarHead.getLocation() != null) {
+        if (avatarHead.isValid()) {
             if (isHostile) {
                 // Red glowing eyes
-                avatarHead.getWorld().spawnParticle(Particle.DUST,
-                    avatarHead.getLocation().add(0, 0.5, 0), 5, 0.2, 0.2, 0.2,
+                particles.emit(ParticleBudget.Priority.AMBIENT, Particle.DUST,
+                    avatarHead.getLocation().add(0, 0.5, 0), 5, 0.2, 0.2, 0.2, 0,
                     new Particle.DustOptions(org.bukkit.Color.RED, 1.0f));
             } else {
                 // Dark/black eyes
-                avatarHead.getWorld().spawnParticle(Particle.SMOKE,
+                particles.emit(ParticleBudget.Priority.AMBIENT, Particle.SMOKE,
                     avatarHead.getLocation().add(0, 0.5, 0), 2, 0.1, 0.1, 0.1, 0);
             }
         }
@@ -2133,54 +2173,28 @@ public class AITorqueEntity {
     private void spawnMasks() {
         int maskCount = 4 + (getCurrentPhase() * 2); // More masks as phases increase
         for (int i = 0; i < Math.min(maskCount, 16); i++) {
-            ArmorStand mask = location.getWorld().spawn(location, ArmorStand.class);
-            mask.setInvisible(false);
-            mask.setMarker(true);
-            mask.setGravity(false);
-            mask.setInvulnerable(false);
-            mask.setCustomName("§4Void Mask");
-            mask.setGlowing(true);
-
-            // Give mask a skull head
-            org.bukkit.inventory.EntityEquipment equip = mask.getEquipment();
-            if (equip != null) {
-                equip.setHelmet(new org.bukkit.inventory.ItemStack(Material.WITHER_SKELETON_SKULL));
-            }
-
-            masks.add(mask);
+            // Glowing wither skull
+            masks.add(rig.item(new org.bukkit.inventory.ItemStack(Material.WITHER_SKELETON_SKULL), true));
         }
 
         // Animate masks orbiting
-        new BukkitRunnable() {
+        tickPipeline.register("masks", 1, new TickPipeline.Stage() {
             private int tick = 0;
 
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
+                if (!isAnimationFrame()) return;
 
                 // Remove destroyed masks
                 masks.removeIf(mask -> mask == null || !mask.isValid());
 
                 // Spawn new masks if some were destroyed
                 while (masks.size() < 4 && getCurrentPhase() >= 3) {
-                    ArmorStand newMask = location.getWorld().spawn(bukkitEntity.getLocation(), ArmorStand.class);
-                    newMask.setInvisible(false);
-                    newMask.setMarker(true);
-                    newMask.setGravity(false);
-                    newMask.setCustomName("§4Regenerated Mask");
-                    newMask.setGlowing(true);
-                    org.bukkit.inventory.EntityEquipment equip = newMask.getEquipment();
-                    if (equip != null) {
-                        equip.setHelmet(new org.bukkit.inventory.ItemStack(Material.WITHER_SKELETON_SKULL));
-                    }
-                    masks.add(newMask);
+                    masks.add(rig.item(new org.bukkit.inventory.ItemStack(Material.WITHER_SKELETON_SKULL), true));
                 }
 
                 for (int i = 0; i < masks.size(); i++) {
-                    ArmorStand mask = masks.get(i);
+                    DisplayRig.Part mask = masks.get(i);
                     if (mask == null || !mask.isValid()) continue;
 
                     double angle = Math.toRadians(i * (360.0 / masks.size()) + tick * 5);
@@ -2191,30 +2205,30 @@ public class AITorqueEntity {
                     double z = radius * Math.sin(angle);
 
                     Location maskLoc = bukkitEntity.getLocation().add(x, 2 + height, z);
-                    mask.teleport(maskLoc);
+                    mask.move(x, 2 + height, z);
 
                     // Mask shoots at nearby players
                     if (tick % 100 == i * 10) {
                         Player nearest = findNearestPlayer();
-                        if (nearest != null && nearest.getLocation().distance(maskLoc) < 20) {
+                        if (nearest != null && nearest.getLocation().distanceSquared(maskLoc) < 400) {
                             maskShootBullet(maskLoc, nearest);
                         }
                     }
 
                     // Particle effects
-                    maskLoc.getWorld().spawnParticle(Particle.WITCH, maskLoc, 3, 0.2, 0.2, 0.2, 0);
+                    particles.emit(Particle.WITCH, maskLoc, 3, 0.2, 0.2, 0.2, 0);
                 }
 
                 tick++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        });
     }
 
     /** Mask shoots bullet at target */
     private void maskShootBullet(Location start, Player target) {
         Vector direction = target.getLocation().add(0, 1, 0).toVector().subtract(start.toVector()).normalize();
 
-        new BukkitRunnable() {
+        runTimer("mask-shoot-bullet", new BossTask() {
             Location bulletLoc = start.clone();
             int ticks = 0;
 
@@ -2225,20 +2239,18 @@ public class AITorqueEntity {
                     return;
                 }
 
-                bulletLoc.add(direction.multiply(1.0));
-                bulletLoc.getWorld().spawnParticle(Particle.WITCH, bulletLoc, 3, 0.05, 0.05, 0.05, 0);
-                bulletLoc.getWorld().spawnParticle(Particle.SCULK_SOUL, bulletLoc, 2, 0.05, 0.05, 0.05, 0);
+                // Sweep this tick's step so the bullet cannot skip past a target
+                List<BeamTracer.Hit> hits = traceBeam(bulletLoc, direction, 1.0, 0.5, EntitySnapshot.LIVING);
+                bulletLoc.add(direction);
+                particles.emit(Particle.WITCH, bulletLoc, 3, 0.05, 0.05, 0.05, 0);
+                particles.emit(Particle.SCULK_SOUL, bulletLoc, 2, 0.05, 0.05, 0.05, 0);
 
-                Collection<Entity> hit = bulletLoc.getWorld().getNearbyEntities(bulletLoc, 0.5, 0.5, 0.5);
-                for (Entity entity : hit) {
-                    if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                        ((LivingEntity) entity).damage(4.0, bukkitEntity);
-                        cancel();
-                        return;
-                    }
+                if (!hits.isEmpty()) {
+                    ((LivingEntity) hits.get(0).getEntity()).damage(4.0, bukkitEntity);
+                    cancel();
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
 
         start.getWorld().playSound(start, Sound.ENTITY_BLAZE_SHOOT, 0.8f, 1.8f);
     }
@@ -2247,29 +2259,21 @@ public class AITorqueEntity {
     private void spawnTeeth() {
         int teethCount = 12;
         for (int i = 0; i < teethCount; i++) {
-            ArmorStand tooth = location.getWorld().spawn(location, ArmorStand.class);
-            tooth.setInvisible(true);
-            tooth.setMarker(true);
-            tooth.setGravity(false);
-            tooth.setInvulnerable(true);
-            teeth.add(tooth);
+            teeth.add(rig.point());
         }
 
         // Animate teeth (chomping motion)
-        new BukkitRunnable() {
+        tickPipeline.register("teeth", 1, new TickPipeline.Stage() {
             private int tick = 0;
             private boolean chomping = false;
 
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
+                if (!isAnimationFrame()) return;
 
                 // Trigger chomp when near player
                 Player nearest = findNearestPlayer();
-                if (nearest != null && nearest.getLocation().distance(bukkitEntity.getLocation()) < 7) {
+                if (nearest != null && targets().getNearestDistance() < 7) {
                     chomping = true;
                 } else {
                     chomping = false;
@@ -2278,7 +2282,7 @@ public class AITorqueEntity {
                 double jawOpen = chomping ? Math.abs(Math.sin(tick * 0.3)) * 2.0 : 0.5;
 
                 for (int i = 0; i < teeth.size(); i++) {
-                    ArmorStand tooth = teeth.get(i);
+                    DisplayRig.Part tooth = teeth.get(i);
                     if (tooth == null || !tooth.isValid()) continue;
 
                     double angle = Math.toRadians(i * 30);
@@ -2292,14 +2296,14 @@ public class AITorqueEntity {
                     double z = radius * Math.sin(angle);
 
                     Location toothLoc = bukkitEntity.getLocation().add(x, yOffset, z);
-                    tooth.teleport(toothLoc);
+                    tooth.move(x, yOffset, z);
 
                     // Tooth particles
-                    toothLoc.getWorld().spawnParticle(Particle.END_ROD, toothLoc, 1, 0, 0, 0, 0);
+                    particles.emit(Particle.END_ROD, toothLoc, 1, 0, 0, 0, 0);
 
                     // Chomp damage
                     if (chomping && tick % 10 == 0) {
-                        Collection<Entity> hit = toothLoc.getWorld().getNearbyEntities(toothLoc, 1, 1, 1);
+                        Collection<Entity> hit = nearbyEntities(toothLoc, 1, 1, 1);
                         for (Entity entity : hit) {
                             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                                 ((LivingEntity) entity).damage(3.0, bukkitEntity);
@@ -2314,24 +2318,19 @@ public class AITorqueEntity {
 
                 tick++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        });
     }
 
     /** Start tractor beam system */
     private void startTractorBeam() {
-        new BukkitRunnable() {
+        tickPipeline.register("tractor-beam", 5, new TickPipeline.Stage() {
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
                 if (!isTractorBeamEnabled) return;
 
                 // Find entities to beam
-                Collection<Entity> nearby = bukkitEntity.getWorld().getNearbyEntities(
-                        bukkitEntity.getLocation(), 25, 25, 25);
+                Collection<Entity> nearby = nearbyEntities(
+                        bukkitEntity.getLocation(), 25, 25, 25, EntitySnapshot.LIVING | EntitySnapshot.ITEM, null);
 
                 for (Entity entity : nearby) {
                     if (entity.equals(bukkitEntity)) continue;
@@ -2339,11 +2338,11 @@ public class AITorqueEntity {
                         tractorBeamTargets.add(entity);
 
                         // Visual beam
-                        drawTractorBeam(bukkitEntity.getLocation().add(0, 1, 0), entity.getLocation());
+                        beams.spoke(TRACTOR_BEAM, 1, entity.getLocation());
 
                         // Pull entity
                         Vector pull = bukkitEntity.getLocation().toVector().subtract(entity.getLocation().toVector()).normalize();
-                        entity.setVelocity(pull.multiply(0.5));
+                        forces.steer(entity, pull.multiply(0.5));
                     }
                 }
 
@@ -2352,65 +2351,47 @@ public class AITorqueEntity {
                     tractorBeamTargets.remove(0);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 5L);
-    }
-
-    private void drawTractorBeam(Location start, Location end) {
-        Vector direction = end.toVector().subtract(start.toVector());
-        double distance = start.distance(end);
-
-        for (double d = 0; d < distance; d += 0.5) {
-            Location beamLoc = start.clone().add(direction.clone().normalize().multiply(d));
-            beamLoc.getWorld().spawnParticle(Particle.END_ROD, beamLoc, 1, 0.1, 0.1, 0.1, 0);
-            beamLoc.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, beamLoc, 1, 0.1, 0.1, 0.1, 0);
-        }
+        });
     }
 
     /** Regeneration system */
     private void startRegeneration() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    // REBIRTH MECHANIC
-                    if (rebirthCount > 0 && isImmortal) {
-                        rebirth();
-                        cancel();
-                    }
-                    return;
-                }
-
-                if (!isRegenerating) return;
+        // Rebirth on death is handled by the pipeline driver in startEntityTick()
+        tickPipeline.register("regeneration", 20, () -> { // Every second
+            if (!isRegenerating) return;
 
-                // Passive regeneration
-                double maxHp = bukkitEntity.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue();
-                double currentHp = bukkitEntity.getHealth();
+            // Passive regeneration
+            double maxHp = bukkitEntity.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue();
+            double currentHp = bukkitEntity.getHealth();
 
-                if (currentHp < maxHp) {
-                    double regenAmount = maxHp * 0.01; // 1% per second
-                    bukkitEntity.setHealth(Math.min(currentHp + regenAmount, maxHp));
+            if (currentHp < maxHp) {
+                double regenAmount = maxHp * 0.01; // 1% per second
+                bukkitEntity.setHealth(Math.min(currentHp + regenAmount, maxHp));
 
-                    // Regen particles
-                    bukkitEntity.getWorld().spawnParticle(Particle.HEART,
-                            bukkitEntity.getLocation().add(0, 2, 0), 3, 0.5, 0.5, 0.5, 0);
-                }
+                // Regen particles
+                particles.emit(ParticleBudget.Priority.AMBIENT, Particle.HEART,
+                        bukkitEntity.getLocation().add(0, 2, 0), 3, 0.5, 0.5, 0.5, 0);
             }
-        }.runTaskTimer(plugin, 0L, 20L); // Every second
+        });
     }
 
     /** Rebirth - Revive after death */
     private void rebirth() {
         rebirthCount--;
+        isRebirthPending = true;
+
+        // Attack animations and delayed hits belong to the old body
+        tasks.cancelAll();
 
         Location rebirthLoc = location.clone();
-        rebirthLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, rebirthLoc, 50, 3, 3, 3, 0);
-        rebirthLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, rebirthLoc, 200, 3, 3, 3, 0.2);
-        rebirthLoc.getWorld().spawnParticle(Particle.END_ROD, rebirthLoc, 100, 2, 2, 2, 0.3);
+        particles.emit(Particle.EXPLOSION_EMITTER, rebirthLoc, 50, 3, 3, 3, 0);
+        particles.emit(Particle.SOUL_FIRE_FLAME, rebirthLoc, 200, 3, 3, 3, 0.2);
+        particles.emit(Particle.END_ROD, rebirthLoc, 100, 2, 2, 2, 0.3);
         rebirthLoc.getWorld().playSound(rebirthLoc, Sound.ENTITY_WITHER_SPAWN, 5.0f, 0.5f);
         rebirthLoc.getWorld().playSound(rebirthLoc, Sound.ENTITY_ENDER_DRAGON_GROWL, 5.0f, 1.0f);
 
         // Respawn entity
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        runLater("rebirth", () -> {
             this.bukkitEntity = (LivingEntity) rebirthLoc.getWorld().spawnEntity(rebirthLoc, EntityType.SHULKER);
             bukkitEntity.setInvisible(true);
             bukkitEntity.setCustomName("§4§l⚡ §5§lAI TORQUE REBORN §4§l⚡");
@@ -2430,36 +2411,23 @@ public class AITorqueEntity {
                 double x = 10 * Math.cos(rad);
                 double z = 10 * Math.sin(rad);
                 Location expLoc = rebirthLoc.clone().add(x, 0, z);
-                expLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, expLoc, 3, 0, 0, 0, 0);
+                particles.emit(Particle.EXPLOSION_EMITTER, expLoc, 3, 0, 0, 0, 0);
             }
 
-            // Restart behaviors
-            startFloatingBehavior();
-            startAuraEffects();
-            startCombatBehavior();
+            // Pipeline stages survive the old body and resume on the new one
+            isRebirthPending = false;
+
+            // On Folia the driver retired with the old body
+            if (tickTask == null || tickTask.isCancelled()) {
+                startDriver();
+            }
         }, 40L);
     }
 
     /** Brewing system - AI Torque brews potions */
     private void startBrewingSystem() {
-        new BukkitRunnable() {
-            int brewTick = 0;
-
-            @Override
-            public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
-                brewTick++;
-
-                // Brew potion every 30 seconds
-                if (brewTick % 600 == 0) {
-                    brewPotion();
-                }
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+        // Brew potion every 30 seconds
+        tickPipeline.register("brewing", 600, 600, this::brewPotion);
     }
 
     private void brewPotion() {
@@ -2469,23 +2437,25 @@ public class AITorqueEntity {
         org.bukkit.block.Block brewBlock = brewLoc.getBlock();
         Material original = brewBlock.getType();
         brewBlock.setType(Material.BREWING_STAND);
+        plugin.getSurfaceCache().invalidate(brewBlock.getWorld(), brewBlock.getX(), brewBlock.getZ());
 
         // Brewing particles
         for (int i = 0; i < 100; i++) {
-            brewLoc.getWorld().spawnParticle(Particle.WITCH, brewLoc.add(0, 1, 0), 50, 0.5, 0.5, 0.5, 0.1);
+            particles.emit(Particle.WITCH, brewLoc.add(0, 1, 0), 50, 0.5, 0.5, 0.5, 0.1);
         }
 
         brewLoc.getWorld().playSound(brewLoc, Sound.BLOCK_BREWING_STAND_BREW, 2.0f, 1.0f);
 
         // Create potion and throw it
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            Player nearest = findNearestPlayer();
+        runLater("brew-potion", () -> {
+            Player nearest = targets().getNearestHostile();
             if (nearest != null) {
                 throwHarmfulPotion(brewLoc, nearest);
             }
 
             // Remove brewing stand
             brewBlock.setType(original);
+            plugin.getSurfaceCache().invalidate(brewBlock.getWorld(), brewBlock.getX(), brewBlock.getZ());
         }, 60L);
     }
 
@@ -2510,39 +2480,18 @@ public class AITorqueEntity {
 
     /** Environment interaction - activates levers/trapdoors */
     private void startEnvironmentInteraction() {
-        new BukkitRunnable() {
+        tickPipeline.register("environment", 100, new TickPipeline.Stage() {
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
-                // Find nearby interactive blocks
-                Location center = bukkitEntity.getLocation();
-                for (int x = -10; x <= 10; x++) {
-                    for (int y = -5; y <= 5; y++) {
-                        for (int z = -10; z <= 10; z++) {
-                            org.bukkit.block.Block block = center.clone().add(x, y, z).getBlock();
-
-                            if (block.getType() == Material.LEVER ||
-                                block.getType() == Material.OAK_TRAPDOOR ||
-                                block.getType() == Material.IRON_TRAPDOOR ||
-                                block.getType() == Material.OAK_BUTTON ||
-                                block.getType() == Material.STONE_BUTTON ||
-                                block.getType() == Material.OAK_DOOR ||
-                                block.getType() == Material.IRON_DOOR) {
-
-                                // Randomly activate
-                                if (Math.random() < 0.1) {
-                                    toggleBlock(block);
-                                }
-                            }
-                        }
+                // Find nearby interactive blocks (indexed per chunk, no block scan)
+                for (org.bukkit.block.Block block : plugin.getInteractiveBlocks().query(bukkitEntity.getLocation(), 10, 5, 10)) {
+                    // Randomly activate
+                    if (Math.random() < 0.1) {
+                        toggleBlock(block);
                     }
                 }
             }
-        }.runTaskTimer(plugin, 0L, 100L); // Every 5 seconds
+        }); // Every 5 seconds
     }
 
     private void toggleBlock(org.bukkit.block.Block block) {
@@ -2561,46 +2510,60 @@ public class AITorqueEntity {
 
     /** Debris manipulation - breaks blocks and uses them as weapons */
     private void startDebrisManipulation() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
-                // Break nearby blocks
-                if (getCurrentPhase() >= 3 && tickCounter % 40 == 0) {
-                    breakAndOrbitDebris();
-                }
+        // Break nearby blocks
+        tickPipeline.register("debris-break", 40, () -> {
+            if (getCurrentPhase() >= 3) {
+                breakAndOrbitDebris();
+            }
+        });
 
-                // Launch orbiting debris at players
-                if (tickCounter % 60 == 0 && !orbitingBlocks.isEmpty()) {
-                    launchDebrisAtPlayer();
-                }
+        // Launch orbiting debris at players
+        tickPipeline.register("debris-launch", 60, () -> {
+            if (!orbitingBlocks.isEmpty()) {
+                launchDebrisAtPlayer();
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        });
     }
 
     private void breakAndOrbitDebris() {
         Location center = bukkitEntity.getLocation();
+        double cx = center.getX();
+        int floorY = (int) Math.floor(center.getY() - 1);
+        double cz = center.getZ();
+
+        // Pick 5 solid blocks around the boss from snapshots on a worker
+        TerrainSnapshot terrain = plugin.getTerrainCache().capture(center, 8);
+        compute.submit("debris-break", () -> {
+            List<Long> picked = new ArrayList<>();
+            java.util.concurrent.ThreadLocalRandom random = java.util.concurrent.ThreadLocalRandom.current();
+            for (int i = 0; i < 5; i++) {
+                double angle = random.nextDouble() * 2 * Math.PI;
+                double dist = 3 + random.nextDouble() * 5;
+                int x = (int) Math.floor(cx + dist * Math.cos(angle));
+                int z = (int) Math.floor(cz + dist * Math.sin(angle));
+
+                Material type = terrain.getType(x, floorY, z);
+                if (!type.isAir() && type.isSolid() && type != Material.BEDROCK) {
+                    picked.add(BlockKey.pack(x, floorY, z));
+                }
+            }
+            return picked;
+        }, picked -> breakIntoDebris(center.getWorld(), picked));
+    }
 
-        for (int i = 0; i < 5; i++) {
-            double angle = Math.random() * 2 * Math.PI;
-            double dist = 3 + Math.random() * 5;
-            double x = dist * Math.cos(angle);
-            double z = dist * Math.sin(angle);
-
-            org.bukkit.block.Block block = center.clone().add(x, -1, z).getBlock();
+    private void breakIntoDebris(World world, List<Long> picked) {
+        for (long key : picked) {
+            org.bukkit.block.Block block = world.getBlockAt(BlockKey.x(key), BlockKey.y(key), BlockKey.z(key));
 
             if (!block.getType().isAir() && block.getType().isSolid() && block.getType() != Material.BEDROCK) {
                 // Break block with particles
-                block.getWorld().spawnParticle(Particle.BLOCK, block.getLocation(), 30,
+                particles.emit(Particle.BLOCK, block.getLocation(), 30,
                         0.3, 0.3, 0.3, 0, block.getBlockData());
                 block.getWorld().playSound(block.getLocation(), Sound.BLOCK_STONE_BREAK, 1.0f, 0.8f);
 
                 orbitingBlocks.add(block);
                 block.setType(Material.AIR);
+                plugin.getSurfaceCache().invalidate(world, block.getX(), block.getZ());
 
                 if (orbitingBlocks.size() > 50) {
                     orbitingBlocks.remove(0);
@@ -2612,7 +2575,7 @@ public class AITorqueEntity {
     private void launchDebrisAtPlayer() {
         if (orbitingBlocks.isEmpty()) return;
 
-        Player target = findNearestPlayer();
+        Player target = targets().getNearestHostile();
         if (target == null) return;
 
         org.bukkit.block.Block debris = orbitingBlocks.remove(0);
@@ -2631,14 +2594,9 @@ public class AITorqueEntity {
 
     /** God Systems - Reflection, Immunities, Charging */
     private void startGodSystems() {
-        new BukkitRunnable() {
+        tickPipeline.register("god-systems", 1, new TickPipeline.Stage() {
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
                 // Apply immunities
                 bukkitEntity.setFireTicks(0);
                 bukkitEntity.addPotionEffect(new PotionEffect(PotionEffectType.FIRE_RESISTANCE, 20, 10, false, false));
@@ -2646,8 +2604,8 @@ public class AITorqueEntity {
 
                 // Reflection aura
                 if (isReflecting || getCurrentPhase() >= 8) {
-                    Collection<Entity> nearby = bukkitEntity.getWorld().getNearbyEntities(
-                            bukkitEntity.getLocation(), 5, 5, 5);
+                    Collection<Entity> nearby = nearbyEntities(
+                            bukkitEntity.getLocation(), 5, 5, 5, EntitySnapshot.PROJECTILE, null);
 
                     for (Entity entity : nearby) {
                         if (entity instanceof org.bukkit.entity.Projectile) {
@@ -2657,7 +2615,7 @@ public class AITorqueEntity {
                             Vector velocity = proj.getVelocity();
                             proj.setVelocity(velocity.multiply(-1.5));
 
-                            bukkitEntity.getWorld().spawnParticle(Particle.ENCHANT,
+                            particles.emit(Particle.ENCHANT,
                                     proj.getLocation(), 20, 0.5, 0.5, 0.5, 1.0);
                             bukkitEntity.getWorld().playSound(proj.getLocation(),
                                     Sound.BLOCK_ENCHANTMENT_TABLE_USE, 1.0f, 2.0f);
@@ -2677,8 +2635,8 @@ public class AITorqueEntity {
                         double x = radius * Math.cos(angle);
                         double z = radius * Math.sin(angle);
                         Location chargeLoc = bukkitEntity.getLocation().add(x, 1, z);
-                        bukkitEntity.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, chargeLoc, 5, 0.1, 0.1, 0.1, 0.1);
-                        bukkitEntity.getWorld().spawnParticle(Particle.END_ROD, chargeLoc, 3, 0, 0, 0, 0.2);
+                        particles.emit(ParticleBudget.Priority.TELEGRAPH, Particle.ELECTRIC_SPARK, chargeLoc, 5, 0.1, 0.1, 0.1, 0.1);
+                        particles.emit(ParticleBudget.Priority.TELEGRAPH, Particle.END_ROD, chargeLoc, 3, 0, 0, 0, 0.2);
                     }
 
                     if (chargeTime % 10 == 0) {
@@ -2692,7 +2650,7 @@ public class AITorqueEntity {
                     isTractorBeamEnabled = true;
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        });
     }
 
     /** Charge and release devastating attack */
@@ -2701,7 +2659,7 @@ public class AITorqueEntity {
         chargeTime = 0;
         chargeLevel = 0;
 
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        runLater("charge-attack", () -> {
             isCharging = false;
             releaseChargedAttack();
         }, 100L); // 5 seconds charge
@@ -2715,18 +2673,18 @@ public class AITorqueEntity {
         // Massive explosion
         for (double r = 1; r <= radius; r += 0.5) {
             final double finalR = r;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("release-charged-attack", () -> {
                 for (int angle = 0; angle < 360; angle += 5) {
                     double rad = Math.toRadians(angle);
                     double x = finalR * Math.cos(rad);
                     double z = finalR * Math.sin(rad);
                     Location expLoc = center.clone().add(x, 0, z);
 
-                    expLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, expLoc, 5, 0, 0, 0, 0);
-                    expLoc.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, expLoc, 30, 0.5, 0.5, 0.5, 0.2);
-                    expLoc.getWorld().spawnParticle(Particle.END_ROD, expLoc, 20, 0.3, 0.3, 0.3, 0.3);
+                    particles.emit(Particle.EXPLOSION_EMITTER, expLoc, 5, 0, 0, 0, 0);
+                    particles.emit(Particle.ELECTRIC_SPARK, expLoc, 30, 0.5, 0.5, 0.5, 0.2);
+                    particles.emit(Particle.END_ROD, expLoc, 20, 0.3, 0.3, 0.3, 0.3);
 
-                    Collection<Entity> hit = expLoc.getWorld().getNearbyEntities(expLoc, 2, 3, 2);
+                    Collection<Entity> hit = nearbyEntities(expLoc, 2, 3, 2);
                     for (Entity entity : hit) {
                         if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                             ((LivingEntity) entity).damage(power, bukkitEntity);
@@ -2745,55 +2703,269 @@ public class AITorqueEntity {
 
     /**
      * Start the main entity tick loop
+     *
+     * This is the only repeating task a boss owns; every subsystem runs as a
+     * stage of the tick pipeline, so the dead-entity guard lives here once.
      */
     private void startEntityTick() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    if (isImmortal) {
-                        handleExhaustion();
-                    } else {
-                        cleanup();
-                        cancel();
-                    }
-                    return;
-                }
+        tickPipeline.register("core", plugin.getConfigManager().getTickRate(), 0, this::tick);
 
-                tick();
+        // Unique AI behaviors (no normal mob has these)
+        tickPipeline.register("void-pull", 20, this::applyGravitationalPull);
+        tickPipeline.register("void-teleport", 100, () -> {
+            if (getCurrentPhase() >= 3) {
+                performVoidTeleport();
             }
-        }.runTaskTimer(plugin, 0L, plugin.getConfigManager().getTickRate());
+        });
+
+        startDriver();
     }
 
     /**
-     * Main tick method - called every game tick
+     * Schedule the per-tick driver on the current body's scheduler
+     * (on Folia the driver follows the boss between regions)
      */
-    private void tick() {
-        tickCounter++;
-        abilityTickCounter++;
+    private void startDriver() {
+        tickTask = tasks.track("driver", this::driveTick, true,
+            task -> plugin.getTaskScheduler().runOnTimer(bukkitEntity, task, 1L, 1L, this::handleBodyLost));
+    }
 
-        // Update location
-        location = bukkitEntity.getLocation();
+    /**
+     * Advance the boss by one server tick
+     */
+    private void driveTick() {
+        if (bukkitEntity == null || bukkitEntity.isDead()) {
+            handleBodyLost();
+            return;
+        }
 
-        // Update phase based on health
-        health = bukkitEntity.getHealth();
-        phaseManager.updatePhase();
+        // Nobody around - skip every stage until a player comes back
+        if (updateDormancy()) {
+            forces.apply(plugin.getConfigManager().getMaxPushSpeed());
+            lastDriveNanos = 0;
+            return;
+        }
+        long start = System.nanoTime();
 
-        // Tick current phase
-        phaseManager.tick();
+        // Body parts first - the boss and its passengers have not moved yet this tick
+        rig.tick();
 
-        // Update orbiting objects
-        if (isDebrisOrbitActive) {
-            updateDebrisOrbit();
-        }
+        // Apply results computed off-thread since the last tick
+        compute.drain();
 
-        // Unique AI behaviors (no normal mob has these)
-        if (tickCounter % 20 == 0) {
-            applyGravitationalPull();
+        effectWheel.tick();
+        jobs.tick();
+        blockEdits.tick();
+        tickPipeline.tick();
+
+        // Everything that pushed an entity this tick, as one velocity write each
+        forces.apply(plugin.getConfigManager().getMaxPushSpeed());
+
+        // Folia has no global tick event - report this region's timing instead
+        plugin.getQualityGovernor().sampleRegion(lastDriveNanos == 0 ? 0 : start - lastDriveNanos,
+            System.nanoTime() - start);
+        lastDriveNanos = start;
+    }
+
+    /**
+     * The body died or was removed (on Folia this is also the entity task's retire callback)
+     */
+    private void handleBodyLost() {
+        // REBIRTH MECHANIC - stages pause until the new body spawns
+        if (isRebirthPending) return;
+        if (rebirthCount > 0 && isImmortal) {
+            rebirth();
+            return;
+        }
+
+        if (isImmortal) {
+            handleExhaustion();
+        } else {
+            cleanup();
         }
+        if (tickTask != null) {
+            tickTask.cancel();
+        }
+    }
 
-        if (tickCounter % 100 == 0 && getCurrentPhase() >= 3) {
-            performVoidTeleport();
+    /**
+     * Dormancy - suspend the whole boss while no player is within range
+     *
+     * Checked once a second. Stages keep their own state, so a frozen
+     * pipeline resumes exactly where it stopped when a player returns.
+     *
+     * @return true while dormant
+     */
+    private boolean updateDormancy() {
+        if (!plugin.getConfigManager().isDormancyEnabled()) {
+            if (isDormant) wake();
+            return false;
+        }
+
+        if (++dormancyCheckTicks < 20) return isDormant;
+        dormancyCheckTicks = 0;
+
+        boolean playerNearby = isPlayerWithin(plugin.getConfigManager().getDormancyRadius());
+        if (isDormant) {
+            if (playerNearby) wake();
+        } else if (playerNearby) {
+            ticksWithoutPlayers = 0;
+        } else {
+            ticksWithoutPlayers += 20;
+            if (ticksWithoutPlayers >= plugin.getConfigManager().getDormancyDelay() * 20) {
+                sleep();
+            }
+        }
+        return isDormant;
+    }
+
+    private boolean isPlayerWithin(double radius) {
+        return targets().isAnyPlayerWithin(radius);
+    }
+
+    private void sleep() {
+        isDormant = true;
+        wasAIEnabled = bukkitEntity.hasAI();
+        bukkitEntity.setAI(false);
+
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info("AI Torque " + uniqueId + " is dormant (no players nearby)");
+        }
+    }
+
+    private void wake() {
+        isDormant = false;
+        ticksWithoutPlayers = 0;
+        if (bukkitEntity != null) {
+            bukkitEntity.setAI(wasAIEnabled);
+        }
+
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info("AI Torque " + uniqueId + " woke up");
+        }
+    }
+
+    /**
+     * Get the effect quality tier picked by the server load governor
+     */
+    private QualityGovernor.Tier getQualityTier() {
+        return plugin.getQualityGovernor().getTier();
+    }
+
+    /**
+     * Whether composite parts should animate this tick under the current tier
+     */
+    private boolean isAnimationFrame() {
+        return tickPipeline.getCurrentTick() % getQualityTier().getAnimationStride() == 0;
+    }
+
+    /**
+     * Stretch an attack cooldown/interval when the server is under load
+     */
+    private int scaledCooldown(int ticks) {
+        return ticks * getQualityTier().getCooldownMultiplier();
+    }
+
+    /**
+     * Entities whose bounding box touches the box around a point
+     * (World.getNearbyEntities, served from this tick's snapshot when it covers the box)
+     *
+     * The boss's own rig displays are never returned - pulls, hits and
+     * consumption would otherwise send packets for its floating parts.
+     */
+    private Collection<Entity> nearbyEntities(Location center, double x, double y, double z) {
+        return nearbyEntities(center, x, y, z, EntitySnapshot.ANY, null);
+    }
+
+    private Collection<Entity> nearbyEntities(Location center, double x, double y, double z, Predicate<Entity> filter) {
+        return nearbyEntities(center, x, y, z, EntitySnapshot.ANY, filter);
+    }
+
+    /**
+     * Nearby entities of the given {@link EntitySnapshot} types, optionally filtered further
+     */
+    private Collection<Entity> nearbyEntities(Location center, double x, double y, double z,
+                                              int types, Predicate<Entity> filter) {
+        Predicate<Entity> accept = filter == null
+            ? entity -> !isRigDisplay(entity)
+            : entity -> !isRigDisplay(entity) && filter.test(entity);
+
+        if (plugin.getConfigManager().isEntitySnapshotEnabled() && bukkitEntity != null && bukkitEntity.isValid()) {
+            List<Entity> cached = entitySnapshot.query(bukkitEntity.getLocation(), Bukkit.getCurrentTick(),
+                center, x, y, z, types, accept);
+            if (cached != null) return cached;
+        }
+
+        if (types == EntitySnapshot.ANY) {
+            return center.getWorld().getNearbyEntities(center, x, y, z, accept);
+        }
+        return center.getWorld().getNearbyEntities(center, x, y, z,
+            entity -> (EntitySnapshot.flagsOf(entity) & types) != 0 && accept.test(entity));
+    }
+
+    private boolean isRigDisplay(Entity entity) {
+        return entity instanceof ItemDisplay && rig.owns(entity);
+    }
+
+    /**
+     * Entities of the given types crossed by a beam, nearest first
+     * (one broad-phase query for the whole beam instead of a probe per step)
+     *
+     * @param direction Unit direction
+     * @param thickness Half-size of the beam
+     */
+    private List<BeamTracer.Hit> traceBeam(Location start, Vector direction, double length, double thickness, int types) {
+        Vector half = BeamTracer.reach(direction, length, thickness);
+        Location middle = start.clone().add(direction.clone().multiply(length * 0.5));
+        Collection<Entity> candidates = nearbyEntities(middle, half.getX(), half.getY(), half.getZ(), types,
+            entity -> !entity.equals(bukkitEntity));
+        return BeamTracer.trace(candidates, start, direction, length, thickness);
+    }
+
+    /**
+     * Run a one-shot task owned by this boss; cancelled by {@link #cleanup()}
+     */
+    public TaskHandle runLater(String subsystem, Runnable task, long delay) {
+        return tasks.track(subsystem, task, false, tracked -> {
+            if (bukkitEntity != null && bukkitEntity.isValid()) {
+                return plugin.getTaskScheduler().runOn(bukkitEntity, tracked, delay, null);
+            }
+            return plugin.getTaskScheduler().runAt(location, tracked, delay);
+        });
+    }
+
+    /**
+     * Start a repeating task owned by this boss; cancelled by {@link #cleanup()}
+     */
+    public TaskHandle runTimer(String subsystem, BossTask task, long delay, long period) {
+        return tasks.track(subsystem, task, true, tracked -> {
+            if (bukkitEntity != null && bukkitEntity.isValid()) {
+                return plugin.getTaskScheduler().runOnTimer(bukkitEntity, tracked, delay, period, null);
+            }
+            return plugin.getTaskScheduler().runAtTimer(location, tracked, delay, period);
+        });
+    }
+
+    /**
+     * Main tick method - called every game tick
+     */
+    private void tick() {
+        tickCounter++;
+        abilityTickCounter++;
+
+        // Update location
+        location = bukkitEntity.getLocation();
+
+        // Update phase based on health
+        health = bukkitEntity.getHealth();
+        phaseManager.updatePhase();
+
+        // Tick current phase
+        phaseManager.tick();
+
+        // Update orbiting objects
+        if (isDebrisOrbitActive) {
+            updateDebrisOrbit();
         }
 
         // Check for hostility triggers
@@ -2810,17 +2982,17 @@ public class AITorqueEntity {
         double pullRadius = 16.0;
         double pullStrength = 0.3;
 
-        Collection<Entity> nearbyEntities = location.getWorld().getNearbyEntities(
-                location, pullRadius, pullRadius, pullRadius,
-                entity -> entity instanceof LivingEntity && !(entity.equals(bukkitEntity))
+        Collection<Entity> nearbyEntities = nearbyEntities(
+                location, pullRadius, pullRadius, pullRadius, EntitySnapshot.LIVING,
+                entity -> !entity.equals(bukkitEntity)
         );
 
         for (Entity entity : nearbyEntities) {
             org.bukkit.util.Vector direction = location.toVector().subtract(entity.getLocation().toVector()).normalize();
-            entity.setVelocity(entity.getVelocity().add(direction.multiply(pullStrength)));
+            forces.push(entity, direction.multiply(pullStrength));
 
             // Void particles showing the pull
-            entity.getWorld().spawnParticle(Particle.REVERSE_PORTAL,
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.REVERSE_PORTAL,
                     entity.getLocation(), 5, 0.2, 0.2, 0.2, 0.05);
         }
     }
@@ -2830,21 +3002,12 @@ public class AITorqueEntity {
      */
     private void performVoidTeleport() {
         // Find a nearby player to teleport near
-        org.bukkit.entity.Player nearestPlayer = null;
-        double nearestDistance = Double.MAX_VALUE;
+        org.bukkit.entity.Player nearestPlayer = findNearestPlayer();
 
-        for (org.bukkit.entity.Player player : location.getWorld().getPlayers()) {
-            double distance = player.getLocation().distance(location);
-            if (distance < 50 && distance < nearestDistance) {
-                nearestDistance = distance;
-                nearestPlayer = player;
-            }
-        }
-
-        if (nearestPlayer != null) {
+        if (nearestPlayer != null && targets().getNearestDistance() < 50) {
             // Teleport effects at old location
-            location.getWorld().spawnParticle(Particle.PORTAL, location, 100, 1, 1, 1, 1);
-            location.getWorld().spawnParticle(Particle.REVERSE_PORTAL, location, 50, 1, 1, 1, 0.5);
+            particles.emit(Particle.PORTAL, location, 100, 1, 1, 1, 1);
+            particles.emit(Particle.REVERSE_PORTAL, location, 50, 1, 1, 1, 0.5);
 
             // Teleport near player
             Location targetLoc = nearestPlayer.getLocation().clone().add(
@@ -2853,13 +3016,13 @@ public class AITorqueEntity {
                     (Math.random() - 0.5) * 10
             );
 
-            bukkitEntity.teleport(targetLoc);
+            bukkitEntity.teleport(targetLoc, TeleportFlag.EntityState.RETAIN_PASSENGERS);
             location = targetLoc;
 
             // Teleport effects at new location
-            location.getWorld().spawnParticle(Particle.PORTAL, location, 100, 1, 1, 1, 1);
-            location.getWorld().spawnParticle(Particle.REVERSE_PORTAL, location, 50, 1, 1, 1, 0.5);
-            location.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, location, 3, 0, 0, 0, 0);
+            particles.emit(Particle.PORTAL, location, 100, 1, 1, 1, 1);
+            particles.emit(Particle.REVERSE_PORTAL, location, 50, 1, 1, 1, 0.5);
+            particles.emit(Particle.EXPLOSION_EMITTER, location, 3, 0, 0, 0, 0);
         }
     }
 
@@ -2873,9 +3036,8 @@ public class AITorqueEntity {
         if (orbitingObjects.size() >= maxObjects) return;
 
         // Find nearby entities
-        Collection<Entity> nearbyEntities = location.getWorld().getNearbyEntities(
-                location, radius, radius, radius,
-                entity -> entity instanceof Item || entity instanceof LivingEntity
+        Collection<Entity> nearbyEntities = nearbyEntities(
+                location, radius, radius, radius, EntitySnapshot.ITEM | EntitySnapshot.LIVING, null
         );
 
         for (Entity entity : nearbyEntities) {
@@ -2886,7 +3048,7 @@ public class AITorqueEntity {
                 power += calculatePowerFromEntity(entity);
 
                 // Visual effect
-                location.getWorld().spawnParticle(
+                particles.emit(
                         Particle.PORTAL,
                         entity.getLocation(),
                         50,
@@ -2937,7 +3099,7 @@ public class AITorqueEntity {
             entity.teleport(targetLoc);
 
             // Spawn trail particles
-            location.getWorld().spawnParticle(
+            particles.emit(ParticleBudget.Priority.AMBIENT,
                     Particle.FLAME,
                     entity.getLocation(),
                     1,
@@ -2960,7 +3122,7 @@ public class AITorqueEntity {
      */
     public void spawnAccessories() {
         // Spawn armor stands or particles for visual accessories
-        location.getWorld().spawnParticle(
+        particles.emit(ParticleBudget.Priority.AMBIENT,
                 Particle.END_ROD,
                 location.clone().add(0, 2, 0),
                 100,
@@ -2985,7 +3147,7 @@ public class AITorqueEntity {
         if (!isTractorBeamEnabled) return;
 
         // Visual beam effect
-        location.getWorld().spawnParticle(
+        particles.emit(
                 Particle.ELECTRIC_SPARK,
                 location.clone().add(0, 1, 0),
                 200,
@@ -2994,14 +3156,14 @@ public class AITorqueEntity {
         );
 
         // Pull entities toward AI Torque
-        Collection<Entity> nearby = location.getWorld().getNearbyEntities(
+        Collection<Entity> nearby = nearbyEntities(
                 location, radius, radius, radius
         );
 
         for (Entity entity : nearby) {
             if (entity instanceof LivingEntity && !(entity.equals(bukkitEntity))) {
                 Vector direction = location.toVector().subtract(entity.getLocation().toVector()).normalize();
-                entity.setVelocity(direction.multiply(0.5));
+                forces.steer(entity, direction.multiply(0.5));
             }
         }
 
@@ -3029,6 +3191,7 @@ public class AITorqueEntity {
                     Location blockLoc = location.clone().add(x, y, z);
                     if (blockLoc.getBlock().getType().isSolid()) {
                         blockLoc.getBlock().breakNaturally();
+                        plugin.getSurfaceCache().invalidate(blockLoc.getWorld(), blockLoc.getBlockX(), blockLoc.getBlockZ());
                     }
                 }
             }
@@ -3040,7 +3203,7 @@ public class AITorqueEntity {
      */
     public void attemptVillageConsumption(double radius) {
         // Find villagers in range
-        Collection<Entity> entities = location.getWorld().getNearbyEntities(
+        Collection<Entity> entities = nearbyEntities(
                 location, radius, radius, radius,
                 entity -> entity instanceof Villager
         );
@@ -3054,7 +3217,7 @@ public class AITorqueEntity {
 
             // Massive visual effect
             location.getWorld().createExplosion(location, 0.0f, false, false);
-            location.getWorld().spawnParticle(
+            particles.emit(
                     Particle.EXPLOSION_EMITTER,
                     location,
                     50,
@@ -3073,7 +3236,7 @@ public class AITorqueEntity {
      * Create wind blast that pushes players
      */
     public void createWindBlast(double radius) {
-        Collection<Entity> entities = location.getWorld().getNearbyEntities(
+        Collection<Entity> entities = nearbyEntities(
                 location, radius, radius, radius
         );
 
@@ -3087,7 +3250,7 @@ public class AITorqueEntity {
             }
         }
 
-        location.getWorld().spawnParticle(
+        particles.emit(
                 Particle.CLOUD,
                 location,
                 100,
@@ -3119,7 +3282,7 @@ public class AITorqueEntity {
             double y = location.getY() + Math.random() * 10;
 
             Location particleLoc = new Location(location.getWorld(), x, y, z);
-            location.getWorld().spawnParticle(
+            particles.emit(
                     Particle.BLOCK,
                     particleLoc,
                     10,
@@ -3134,26 +3297,23 @@ public class AITorqueEntity {
      */
     public void performDiveAttack() {
         // Move up first
-        bukkitEntity.teleport(location.clone().add(0, 10, 0));
+        bukkitEntity.teleport(location.clone().add(0, 10, 0), TeleportFlag.EntityState.RETAIN_PASSENGERS);
 
         // Then dive down with force after delay
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                bukkitEntity.setVelocity(new Vector(0, -2, 0));
+        runLater("perform-dive-attack", () -> {
+            bukkitEntity.setVelocity(new Vector(0, -2, 0));
 
-                // Create impact shockwave on landing
-                new BukkitRunnable() {
-                    @Override
-                    public void run() {
-                        if (bukkitEntity.isOnGround() || bukkitEntity.getLocation().getY() <= location.getY()) {
-                            createMassiveShockwave(20);
-                            cancel();
-                        }
+            // Create impact shockwave on landing
+            runTimer("perform-dive-attack", new BossTask() {
+                @Override
+                public void run() {
+                    if (bukkitEntity.isOnGround() || bukkitEntity.getLocation().getY() <= location.getY()) {
+                        createMassiveShockwave(20);
+                        cancel();
                     }
-                }.runTaskTimer(plugin, 0L, 2L);
-            }
-        }.runTaskLater(plugin, 20L);
+                }
+            }, 0L, 2L);
+        }, 20L);
     }
 
     /**
@@ -3161,7 +3321,7 @@ public class AITorqueEntity {
      */
     public void createMassiveShockwave(double radius) {
         // Damage and knockback entities
-        Collection<Entity> entities = location.getWorld().getNearbyEntities(
+        Collection<Entity> entities = nearbyEntities(
                 location, radius, radius, radius
         );
 
@@ -3179,7 +3339,7 @@ public class AITorqueEntity {
         }
 
         // Visual effects
-        location.getWorld().spawnParticle(
+        particles.emit(
                 Particle.EXPLOSION_EMITTER,
                 location,
                 10,
@@ -3203,7 +3363,7 @@ public class AITorqueEntity {
     public void grabNearbySouls(double radius) {
         if (!isSoulGrabbingEnabled) return;
 
-        Collection<Entity> entities = location.getWorld().getNearbyEntities(
+        Collection<Entity> entities = nearbyEntities(
                 location, radius, radius, radius,
                 entity -> entity instanceof LivingEntity && !(entity instanceof Player)
         );
@@ -3218,7 +3378,7 @@ public class AITorqueEntity {
                 power += drainAmount * 10;
 
                 // Soul particle effect
-                location.getWorld().spawnParticle(
+                particles.emit(
                         Particle.SOUL,
                         entity.getLocation(),
                         20,
@@ -3234,7 +3394,7 @@ public class AITorqueEntity {
      */
     public void initiateRebirth() {
         // Visual effect
-        location.getWorld().spawnParticle(
+        particles.emit(
                 Particle.END_ROD,
                 location,
                 200,
@@ -3262,7 +3422,7 @@ public class AITorqueEntity {
         bukkitEntity.setHealth(maxHealth);
 
         // Visual transformation
-        location.getWorld().spawnParticle(
+        particles.emit(
                 Particle.DRAGON_BREATH,
                 location,
                 500,
@@ -3328,14 +3488,14 @@ public class AITorqueEntity {
         ));
 
         // Dramatic visual transformation
-        location.getWorld().spawnParticle(
+        particles.emit(
                 Particle.END_ROD,
                 location,
                 1000,
                 15, 15, 15,
                 0.8
         );
-        location.getWorld().spawnParticle(
+        particles.emit(
                 Particle.PORTAL,
                 location,
                 500,
@@ -3419,22 +3579,22 @@ public class AITorqueEntity {
         // Incredible visual transformation
         for (int i = 0; i < 5; i++) {
             int delay = i * 10;
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                location.getWorld().spawnParticle(
+            runLater("transform-to-medinuio-aura", () -> {
+                particles.emit(
                         Particle.ENCHANT,
                         location,
                         2000,
                         20, 20, 20,
                         1.5
                 );
-                location.getWorld().spawnParticle(
+                particles.emit(
                         Particle.END_ROD,
                         location,
                         1000,
                         15, 15, 15,
                         1.0
                 );
-                location.getWorld().spawnParticle(
+                particles.emit(
                         Particle.DRAGON_BREATH,
                         location,
                         500,
@@ -3447,7 +3607,7 @@ public class AITorqueEntity {
         // Epic sound sequence
         location.getWorld().playSound(location, Sound.ENTITY_WITHER_SPAWN, 3.0f, 0.1f);
         location.getWorld().playSound(location, Sound.ENTITY_ENDER_DRAGON_GROWL, 3.0f, 0.3f);
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+        runLater("transform-to-medinuio-aura", () -> {
             location.getWorld().playSound(location, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 3.0f, 0.8f);
         }, 20L);
 
@@ -3510,7 +3670,7 @@ public class AITorqueEntity {
 
         // Check if players are too close
         double aggroDistance = plugin.getConfigManager().getAggroDistance();
-        Collection<Entity> nearbyPlayers = location.getWorld().getNearbyEntities(
+        Collection<Entity> nearbyPlayers = nearbyEntities(
                 location, aggroDistance, aggroDistance, aggroDistance,
                 entity -> entity instanceof Player
         );
@@ -3528,7 +3688,7 @@ public class AITorqueEntity {
         sendChatMessage("§6[AI Torque] §4You dare approach me?!");
 
         // Visual transformation to battle form
-        location.getWorld().spawnParticle(
+        particles.emit(
                 Particle.FLAME,
                 location,
                 100,
@@ -3543,10 +3703,8 @@ public class AITorqueEntity {
      * Spawn ambient particles
      */
     private void spawnAmbientParticles() {
-        if (!plugin.getConfigManager().areParticlesEnabled()) return;
-
         if (tickCounter % 5 == 0) {
-            location.getWorld().spawnParticle(
+            particles.emit(ParticleBudget.Priority.AMBIENT,
                     Particle.PORTAL,
                     location.clone().add(0, 1, 0),
                     10,
@@ -3583,6 +3741,19 @@ public class AITorqueEntity {
      * Cleanup and remove entity
      */
     public void cleanup() {
+        // Stop the driver and every other task first so removing the body does not trigger a rebirth
+        tasks.close();
+        tickPipeline.clear();
+
+        // Drop any effect timelines, block jobs, block edits and off-thread results still queued
+        effectWheel.clear();
+        jobs.clear();
+        blockEdits.clear();
+        compute.close();
+        entitySnapshot.clear();
+        targetService.clear();
+        forces.clear();
+
         if (bukkitEntity != null) {
             bukkitEntity.remove();
         }
@@ -3594,17 +3765,8 @@ public class AITorqueEntity {
             }
         }
 
-        // Clean up tentacles
-        for (ArmorStand tentacle : tentacles) {
-            if (tentacle != null && tentacle.isValid()) {
-                tentacle.remove();
-            }
-        }
-
-        // Clean up avatar head
-        if (avatarHead != null && avatarHead.isValid()) {
-            avatarHead.remove();
-        }
+        // Clean up body parts (tentacles, teeth, masks, avatar head, composite parts)
+        rig.clear();
 
         // Clean up ability systems
         if (infectionSystem != null) {
@@ -3637,7 +3799,7 @@ public class AITorqueEntity {
     public void teleport(Location newLocation) {
         this.location = newLocation;
         if (bukkitEntity != null) {
-            bukkitEntity.teleport(newLocation);
+            bukkitEntity.teleport(newLocation, TeleportFlag.EntityState.RETAIN_PASSENGERS);
         }
     }
 
@@ -3687,29 +3849,61 @@ public class AITorqueEntity {
     public void updateForcefield() {
         if (hasForcefield && tickCounter % 10 == 0) {
             // Use END_ROD particles for forcefield effect (BARRIER doesn't exist in 1.20.4)
-            location.getWorld().spawnParticle(Particle.END_ROD, location, 10, 2, 2, 2, 0);
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.END_ROD, location, 10, 2, 2, 2, 0);
         }
     }
 
     public void destroyNearbyTerrain(int radius) {
-        for (int x = -radius; x <= radius; x++) {
-            for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    if (Math.random() < 0.1) {
-                        Location blockLoc = location.clone().add(x, y, z);
-                        Material type = blockLoc.getBlock().getType();
+        // Previous pass still running - don't stack another one
+        if (terrainJob != null && !terrainJob.isDone()) return;
+
+        // Choose the blocks from snapshots on a worker
+        World world = location.getWorld();
+        int cx = location.getBlockX();
+        int cy = location.getBlockY();
+        int cz = location.getBlockZ();
+        TerrainSnapshot terrain = plugin.getTerrainCache().capture(location, radius);
+
+        compute.submit("destroy-terrain", () -> {
+            List<Long> picked = new ArrayList<>();
+            java.util.concurrent.ThreadLocalRandom random = java.util.concurrent.ThreadLocalRandom.current();
+            for (int x = cx - radius; x <= cx + radius; x++) {
+                for (int y = cy - radius; y <= cy + radius; y++) {
+                    for (int z = cz - radius; z <= cz + radius; z++) {
+                        if (random.nextDouble() >= 0.1) continue;
+                        Material type = terrain.getType(x, y, z);
                         if (type.isSolid() && type != Material.BEDROCK) {
-                            blockLoc.getBlock().breakNaturally();
+                            picked.add(BlockKey.pack(x, y, z));
                         }
                     }
                 }
             }
-        }
+            return picked;
+        }, picked -> {
+            // Breaking drops items and updates neighbours, so the writes are still spread over ticks
+            terrainJob = jobs.submit("destroy-terrain", new JobScheduler.Job() {
+                private int next = 0;
+
+                @Override
+                public boolean step() {
+                    if (next >= picked.size()) return false;
+
+                    long key = picked.get(next++);
+                    org.bukkit.block.Block block = world.getBlockAt(BlockKey.x(key), BlockKey.y(key), BlockKey.z(key));
+                    Material type = block.getType();
+                    if (type.isSolid() && type != Material.BEDROCK) {
+                        block.breakNaturally();
+                        plugin.getSurfaceCache().invalidate(world, block.getX(), block.getZ());
+                    }
+                    return next < picked.size();
+                }
+            });
+        });
     }
 
     // Boss draining
     public void drainBossHealth() {
-        Collection<Entity> entities = location.getWorld().getNearbyEntities(
+        Collection<Entity> entities = nearbyEntities(
                 location, 50, 50, 50,
                 e -> e instanceof EnderDragon || e instanceof Wither
         );
@@ -3741,14 +3935,14 @@ public class AITorqueEntity {
 
     // Final phase
     public void grabAllNearbyMobs(double radius) {
-        Collection<Entity> entities = location.getWorld().getNearbyEntities(
+        Collection<Entity> entities = nearbyEntities(
                 location, radius, radius, radius,
                 e -> e instanceof LivingEntity && !(e instanceof Player)
         );
 
         for (Entity e : entities) {
             orbitingObjects.add(e);
-            e.getWorld().spawnParticle(Particle.SOUL, e.getLocation(), 50, 1, 1, 1, 0.1);
+            particles.emit(Particle.SOUL, e.getLocation(), 50, 1, 1, 1, 0.1);
         }
 
         sendChatMessage("§6[AI Torque] §4§lALL LIFE CONSUMED!");
@@ -3757,7 +3951,7 @@ public class AITorqueEntity {
     public void fullHealFromGrab() {
         health = maxHealth;
         bukkitEntity.setHealth(maxHealth);
-        location.getWorld().spawnParticle(Particle.HEART, location, 200, 5, 5, 5, 0.5);
+        particles.emit(Particle.HEART, location, 200, 5, 5, 5, 0.5);
         sendChatMessage("§6[AI Torque] §a§lFULLY RESTORED!");
     }
 
@@ -3781,7 +3975,7 @@ public class AITorqueEntity {
                 // Transform to TEOTU when Zikes reaches 30% health
                 if (healthPercent <= 0.30) {
                     sendChatMessage("§6[AI Torque] §4§lZikes cannot contain me any longer!");
-                    plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+                    runLater("check-transformation-progression", () -> {
                         transformToTEOTU();
                     }, 40L); // 2 second delay
                 }
@@ -3792,7 +3986,7 @@ public class AITorqueEntity {
                 if (healthPercent <= 0.20) {
                     sendChatMessage("§6[AI Torque] §5§lEven The End is not enough!");
                     sendChatMessage("§6[AI Torque] §5§lWitness my final evolution!");
-                    plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+                    runLater("check-transformation-progression", () -> {
                         transformToMedinuioAura();
                     }, 60L); // 3 second delay
                 }
@@ -3849,6 +4043,15 @@ public class AITorqueEntity {
     public void setPhase(int phase) { if (phaseManager != null) phaseManager.setPhase(phase); }
     public boolean isHostile() { return isHostile; }
     public void setHostile(boolean hostile) { this.isHostile = hostile; }
+    public boolean isDormant() { return isDormant; }
+    public CooldownTable getCooldowns() { return cooldowns; }
+    public TaskGroup getTasks() { return tasks; }
+    public BlockEditQueue getBlockEdits() { return blockEdits; }
+    public TimingWheel getEffectWheel() { return effectWheel; }
+    public JobScheduler getJobs() { return jobs; }
+    public ParticleEmitter getParticles() { return particles; }
+    public BeamRenderer getBeams() { return beams; }
+    public DisplayRig getRig() { return rig; }
 
     // ========================================
     // BLOCK CONSUMPTION & GROWTH SYSTEM
@@ -3870,55 +4073,98 @@ public class AITorqueEntity {
         // Phase-based block consumption: Phase 1 = 1 block, Phase 1000 = 100 blocks
         int currentPhase = getCurrentPhase();
         int radius = Math.max(1, Math.min((int)(currentPhase * 0.1), 100));
-        int consumed = 0;
 
-        for (int x = -radius; x <= radius; x++) {
-            for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    if (consumed >= 20) break; // Limit per tick
+        // Each bite continues outward from where the last one stopped
+        consumeFrontier.follow(loc);
 
-                    org.bukkit.block.Block block = loc.clone().add(x, y, z).getBlock();
+        // Previous bite still being picked - don't stack another one
+        if (compute.isRunning("consume-blocks")) return;
 
-                    // Don't consume air, bedrock, or special blocks
-                    if (block.getType() == Material.AIR ||
-                        block.getType() == Material.BEDROCK ||
-                        block.getType() == Material.END_PORTAL_FRAME) {
-                        continue;
-                    }
+        // Pick the bite from chunk snapshots on a worker, a band of shells at a time.
+        // The walk is centred on the frontier's anchor, which can trail the boss.
+        int reach = Math.min(radius, consumeFrontier.getShell() + CONSUME_BAND);
+        TerrainSnapshot terrain = plugin.getTerrainCache().capture(consumeFrontier.getAnchor(), reach);
+        BlockFrontier walk = consumeFrontier.copy();
 
-                    // Consume the block
-                    Material blockType = block.getType();
-                    block.setType(Material.AIR);
-                    consumed++;
+        compute.submit("consume-blocks", () -> pickConsumableBlocks(walk, terrain, reach, 20), picked -> {
+            // The boss moved away while the bite was being picked
+            if (!consumeFrontier.adopt(walk)) return;
 
-                    // Gain power based on block value
-                    double blockValue = getBlockValue(blockType);
-                    consumedBlockPower += blockValue;
-                    power += blockValue * 100;
-                    darkMatterEnergy += blockValue * 2; // Dark matter from consumed blocks
+            int consumed = 0;
+            for (BlockPick pick : picked) {
+                org.bukkit.block.Block block = pick.block(loc.getWorld());
+                if (block.getType() != pick.type) continue; // Changed since the snapshot
 
-                    // Particle effect
-                    loc.getWorld().spawnParticle(Particle.BLOCK, block.getLocation(), 10,
-                        0.5, 0.5, 0.5, 0.1, block.getBlockData());
+                // Particle effect (before the block data is gone)
+                particles.emit(Particle.BLOCK, block.getLocation(), 10,
+                    0.5, 0.5, 0.5, 0.1, block.getBlockData());
 
-                    // Grow larger every 1000 power
-                    if (consumedBlockPower > 1000 && sizeMultiplier < 10.0) {
-                        growLarger();
-                        consumedBlockPower = 0;
-                    }
+                // Consume the block
+                block.setType(Material.AIR);
+                plugin.getSurfaceCache().invalidate(block.getWorld(), block.getX(), block.getZ());
+                consumed++;
+
+                // Gain power based on block value
+                double blockValue = pick.value;
+                consumedBlockPower += blockValue;
+                power += blockValue * 100;
+                darkMatterEnergy += blockValue * 2; // Dark matter from consumed blocks
+
+                // Grow larger every 1000 power
+                if (consumedBlockPower > 1000 && sizeMultiplier < 10.0) {
+                    growLarger();
+                    consumedBlockPower = 0;
                 }
             }
+
+            if (consumed > 0) {
+                loc.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EAT, 2.0f, 0.5f);
+            }
+        });
+    }
+
+    /**
+     * Walk the frontier over a snapshot until enough consumable blocks are found (worker thread)
+     */
+    private static List<BlockPick> pickConsumableBlocks(BlockFrontier walk, TerrainSnapshot terrain, int reach, int limit) {
+        List<BlockPick> picked = new ArrayList<>();
+        while (picked.size() < limit) {
+            long key = walk.nextKey(reach, terrain::hasChunk);
+            if (key == BlockFrontier.NONE) break; // Everything in reach is eaten
+
+            Material type = terrain.getType(BlockKey.x(key), BlockKey.y(key), BlockKey.z(key));
+
+            // Don't consume air, bedrock, or special blocks
+            if (type.isAir() || type == Material.BEDROCK || type == Material.END_PORTAL_FRAME) continue;
+
+            picked.add(new BlockPick(key, type, getBlockValue(type)));
         }
+        return picked;
+    }
 
-        if (consumed > 0) {
-            loc.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EAT, 2.0f, 0.5f);
+    /**
+     * A block chosen from a snapshot, with the type it had there
+     */
+    private static final class BlockPick {
+        private final long key;
+        private final Material type;
+        private final double value;
+
+        BlockPick(long key, Material type, double value) {
+            this.key = key;
+            this.type = type;
+            this.value = value;
+        }
+
+        org.bukkit.block.Block block(World world) {
+            return world.getBlockAt(BlockKey.x(key), BlockKey.y(key), BlockKey.z(key));
         }
     }
 
     /**
      * Get power value of consumed block
      */
-    private double getBlockValue(Material material) {
+    private static double getBlockValue(Material material) {
         switch (material) {
             case DIAMOND_BLOCK: return 100;
             case NETHERITE_BLOCK: return 200;
@@ -3941,7 +4187,7 @@ public class AITorqueEntity {
 
         // Visual growth effect
         Location loc = bukkitEntity.getLocation();
-        loc.getWorld().spawnParticle(Particle.EXPLOSION, loc, 20, 2, 2, 2, 0.1);
+        particles.emit(Particle.EXPLOSION, loc, 20, 2, 2, 2, 0.1);
         loc.getWorld().playSound(loc, Sound.ENTITY_ENDER_DRAGON_GROWL, 3.0f, 0.8f);
 
         sendChatMessage("§6[AI Torque] §c§lI GROW STRONGER! Size: §4" +
@@ -3967,7 +4213,7 @@ public class AITorqueEntity {
         double range = 16.0; // Default drain range
         double drainRate = 0.5; // Default drain rate per second
 
-        Collection<Entity> nearby = loc.getWorld().getNearbyEntities(loc, range, range, range);
+        Collection<Entity> nearby = nearbyEntities(loc, range, range, range, EntitySnapshot.LIVING, null);
 
         for (Entity entity : nearby) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
@@ -3982,8 +4228,7 @@ public class AITorqueEntity {
                 darkMatterEnergy += drain * 5; // Dark matter from drained health
 
                 // Visual effect - red beam
-                drawBeam(living.getEyeLocation(), bukkitEntity.getEyeLocation(), Particle.DUST,
-                    new Particle.DustOptions(org.bukkit.Color.RED, 1.0f));
+                beams.spoke(DRAIN_BEAM, bukkitEntity.getEyeHeight(), living.getEyeLocation());
 
                 // Sound
                 if (entity instanceof Player) {
@@ -3993,20 +4238,6 @@ public class AITorqueEntity {
         }
     }
 
-    /**
-     * Draw a particle beam between two locations
-     */
-    private void drawBeam(Location start, Location end, Particle particle, Particle.DustOptions options) {
-        Vector direction = end.toVector().subtract(start.toVector());
-        double distance = direction.length();
-        direction.normalize();
-
-        for (double d = 0; d < distance; d += 0.3) {
-            Location point = start.clone().add(direction.clone().multiply(d));
-            start.getWorld().spawnParticle(particle, point, 1, 0, 0, 0, 0, options);
-        }
-    }
-
     // ========================================
     // ULTIMATE LIFE FORM SYSTEM
     // ========================================
@@ -4015,43 +4246,27 @@ public class AITorqueEntity {
      * Main ultimate life form system - constantly consumes everything
      */
     private void startUltimateLifeForm() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
+        // CONSUME EVERYTHING NEARBY - this is what the ultimate life form does!
+        tickPipeline.register("consume-everything", 20, this::consumeEverythingNearby); // Every second
 
-                // CONSUME EVERYTHING NEARBY - this is what the ultimate life form does!
-                if (tickCounter % 20 == 0) { // Every second
-                    consumeEverythingNearby();
-                }
+        // Update size based on consumption
+        tickPipeline.register("size-scaling", 100, this::updateSizeScaling); // Every 5 seconds
 
-                // Update size based on consumption
-                if (tickCounter % 100 == 0) { // Every 5 seconds
-                    updateSizeScaling();
-                }
+        // Check if it can split based on size/power
+        tickPipeline.register("splitting", 200, this::considerSplitting); // Every 10 seconds
 
-                // Check if it can split based on size/power
-                if (tickCounter % 200 == 0) { // Every 10 seconds
-                    considerSplitting();
-                }
+        // Attempt to remerge with body parts
+        tickPipeline.register("remerge", 40, () -> { // Every 2 seconds
+            if (isSplit) {
+                attemptRemerge();
+            }
+        });
 
-                // Attempt to remerge with body parts
-                if (isSplit && tickCounter % 40 == 0) { // Every 2 seconds
-                    attemptRemerge();
-                }
+        // Update visual effects based on evolution
+        tickPipeline.register("evolution-visuals", 10, this::updateEvolutionVisuals);
 
-                // Update visual effects based on evolution
-                if (tickCounter % 10 == 0) {
-                    updateEvolutionVisuals();
-                }
-
-                // Update speed based on evolution
-                updateSpeedMultiplier();
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+        // Update speed based on evolution
+        tickPipeline.register("speed", 1, this::updateSpeedMultiplier);
     }
 
     /**
@@ -4064,8 +4279,9 @@ public class AITorqueEntity {
         // Phase-based radius scaling: starts at 1 block, scales to 100+ blocks at phase 1000
         int currentPhase = getCurrentPhase();
         double consumeRadius = Math.min(1.0 + (currentPhase * 0.1), 150.0); // Cap at 150 blocks
+        consumeRadius = Math.max(1.0, consumeRadius * getQualityTier().getScanScale());
 
-        Collection<Entity> nearby = loc.getWorld().getNearbyEntities(loc, consumeRadius, consumeRadius, consumeRadius);
+        Collection<Entity> nearby = nearbyEntities(loc, consumeRadius, consumeRadius, consumeRadius);
 
         int consumed = 0;
         for (Entity entity : nearby) {
@@ -4145,8 +4361,8 @@ public class AITorqueEntity {
         consumedMobTypes.put(mobType, consumedMobTypes.getOrDefault(mobType, 0) + 1);
 
         // Visual effect
-        mob.getWorld().spawnParticle(Particle.SOUL, mob.getLocation(), 30, 0.5, 0.5, 0.5, 0.1);
-        mob.getWorld().spawnParticle(Particle.EXPLOSION, mob.getLocation(), 5, 0.3, 0.3, 0.3, 0);
+        particles.emit(Particle.SOUL, mob.getLocation(), 30, 0.5, 0.5, 0.5, 0.1);
+        particles.emit(Particle.EXPLOSION, mob.getLocation(), 5, 0.3, 0.3, 0.3, 0);
         mob.getWorld().playSound(mob.getLocation(), Sound.ENTITY_WITHER_DEATH, 1.0f, 0.7f);
 
         mob.remove();
@@ -4168,8 +4384,8 @@ public class AITorqueEntity {
         maxHealth += 500; // Permanent health increase
 
         // Epic visual effect
-        clone.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, clone.getLocation(), 30, 2, 2, 2, 0.5);
-        clone.getWorld().spawnParticle(Particle.DRAGON_BREATH, clone.getLocation(), 100, 1, 1, 1, 0.3);
+        particles.emit(Particle.EXPLOSION_EMITTER, clone.getLocation(), 30, 2, 2, 2, 0.5);
+        particles.emit(Particle.DRAGON_BREATH, clone.getLocation(), 100, 1, 1, 1, 0.3);
         clone.getWorld().playSound(clone.getLocation(), Sound.ENTITY_ENDER_DRAGON_DEATH, 3.0f, 0.5f);
 
         sendChatMessage("§4§l[ULTIMATE LIFE FORM] §5§lCONSUMED CLONE - MASSIVE POWER GAIN!");
@@ -4187,7 +4403,7 @@ public class AITorqueEntity {
         lifePower += itemMass;
 
         // Visual effect
-        item.getWorld().spawnParticle(Particle.CRIT, item.getLocation(), 10, 0.2, 0.2, 0.2, 0);
+        particles.emit(Particle.CRIT, item.getLocation(), 10, 0.2, 0.2, 0.2, 0);
         item.remove();
     }
 
@@ -4199,7 +4415,7 @@ public class AITorqueEntity {
         lifePower += 25;
         bodyParts.remove(bodyPart);
 
-        bodyPart.getWorld().spawnParticle(Particle.PORTAL, bodyPart.getLocation(), 20, 0.5, 0.5, 0.5, 0.2);
+        particles.emit(Particle.PORTAL, bodyPart.getLocation(), 20, 0.5, 0.5, 0.5, 0.2);
         bodyPart.remove();
 
         if (bodyParts.isEmpty()) {
@@ -4297,7 +4513,7 @@ public class AITorqueEntity {
                 part.teleport(part.getLocation().add(pull));
 
                 // Visual effect
-                part.getWorld().spawnParticle(Particle.PORTAL, part.getLocation(), 5, 0.2, 0.2, 0.2, 0.05);
+                particles.emit(ParticleBudget.Priority.AMBIENT, Particle.PORTAL, part.getLocation(), 5, 0.2, 0.2, 0.2, 0.05);
             }
         }
     }
@@ -4330,16 +4546,16 @@ public class AITorqueEntity {
 
         // Different particles per evolution stage
         if (evolutionStage >= 1) {
-            loc.getWorld().spawnParticle(Particle.CRIT, loc, 2, 0.3, 0.5, 0.3, 0);
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.CRIT, loc, 2, 0.3, 0.5, 0.3, 0);
         }
         if (evolutionStage >= 3) {
-            loc.getWorld().spawnParticle(Particle.ENCHANT, loc, 3, 0.5, 0.5, 0.5, 0);
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.ENCHANT, loc, 3, 0.5, 0.5, 0.5, 0);
         }
         if (evolutionStage >= 5) {
-            loc.getWorld().spawnParticle(Particle.DRAGON_BREATH, loc, 1, 0.3, 0.3, 0.3, 0.01);
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.DRAGON_BREATH, loc, 1, 0.3, 0.3, 0.3, 0.01);
         }
         if (evolutionStage >= 10) {
-            loc.getWorld().spawnParticle(Particle.END_ROD, loc, 2, 0.4, 0.4, 0.4, 0.02);
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.END_ROD, loc, 2, 0.4, 0.4, 0.4, 0.02);
         }
     }
 
@@ -4352,16 +4568,12 @@ public class AITorqueEntity {
      * Energy drains over time. Low energy = weakness. Zero energy = death approaches.
      */
     private void startEnergyHunger() {
-        new BukkitRunnable() {
+        tickPipeline.register("energy-hunger", 20, new TickPipeline.Stage() {
             private int warningCooldown = 0;
+            private int runs = 0; // Stage runs once a second
 
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
                 // Drain energy every second
                 consumptionEnergy -= energyDrainRate;
 
@@ -4385,8 +4597,8 @@ public class AITorqueEntity {
                     sendChatMessage("§6§lThe Ultimate Life Form cannot be stopped by mere hunger!");
 
                     Location loc = bukkitEntity.getLocation();
-                    loc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, loc, 20, 2, 2, 2, 0.3);
-                    loc.getWorld().spawnParticle(Particle.END_ROD, loc, 50, 1, 1, 1, 0.2);
+                    particles.emit(Particle.EXPLOSION_EMITTER, loc, 20, 2, 2, 2, 0.3);
+                    particles.emit(Particle.END_ROD, loc, 50, 1, 1, 1, 0.2);
                     loc.getWorld().playSound(loc, Sound.ENTITY_ENDER_DRAGON_GROWL, 3.0f, 1.5f);
 
                     // Brief speed boost from emergency restoration
@@ -4403,14 +4615,12 @@ public class AITorqueEntity {
                     }
 
                     // Hunger particles
-                    if (tickCounter % 20 == 0) {
-                        Location loc = bukkitEntity.getLocation().clone().add(0, 1.5, 0);
-                        loc.getWorld().spawnParticle(Particle.SMOKE, loc, 5, 0.3, 0.3, 0.3, 0.02);
-                    }
+                    Location loc = bukkitEntity.getLocation().clone().add(0, 1.5, 0);
+                    particles.emit(Particle.SMOKE, loc, 5, 0.3, 0.3, 0.3, 0.02);
 
                 } else if (energyPercent < 0.5) {
                     // LOW ENERGY - Need food soon
-                    if (warningCooldown <= 0 && tickCounter % 200 == 0) {
+                    if (warningCooldown <= 0 && runs % 10 == 0) {
                         sendChatMessage("§e§l[ULTIMATE LIFE FORM] §6Hunger building... Energy: " +
                             String.format("%.0f", energyPercent * 100) + "%");
                         warningCooldown = 100;
@@ -4425,15 +4635,16 @@ public class AITorqueEntity {
                 }
 
                 // Update custom name to show energy level
-                if (tickCounter % 40 == 0) {
+                if (runs % 2 == 0) {
                     String energyBar = getEnergyBar(energyPercent);
                     String stageStar = evolutionStage > 0 ? "§6" + "★".repeat(Math.min(evolutionStage, 10)) + " " : "";
                     bukkitEntity.setCustomName(stageStar + "§5§l✦ §4§lAI TORQUE §5§l[ULTIMATE] " + energyBar);
                 }
 
                 warningCooldown--;
+                runs++;
             }
-        }.runTaskTimer(plugin, 0L, 20L); // Run every second
+        });
     }
 
     /**
@@ -4454,16 +4665,11 @@ public class AITorqueEntity {
      * Continuous evolution - gets stronger, faster, more powerful over time
      */
     private void startContinuousEvolution() {
-        new BukkitRunnable() {
+        tickPipeline.register("evolution", 100, new TickPipeline.Stage() {
             private int lastStage = 0;
 
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
                 // Calculate evolution stage based on total consumed
                 // Stage 1 = 500 mass, Stage 2 = 1500, Stage 3 = 3000, etc. (exponential)
                 int newStage = (int)Math.sqrt(totalConsumed / 100.0);
@@ -4480,9 +4686,9 @@ public class AITorqueEntity {
 
                     // Epic visual effect
                     Location loc = bukkitEntity.getLocation();
-                    loc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, loc, 30, 3, 3, 3, 0.5);
-                    loc.getWorld().spawnParticle(Particle.END_ROD, loc, 100, 2, 2, 2, 0.5);
-                    loc.getWorld().spawnParticle(Particle.DRAGON_BREATH, loc, 50, 1.5, 1.5, 1.5, 0.3);
+                    particles.emit(Particle.EXPLOSION_EMITTER, loc, 30, 3, 3, 3, 0.5);
+                    particles.emit(Particle.END_ROD, loc, 100, 2, 2, 2, 0.5);
+                    particles.emit(Particle.DRAGON_BREATH, loc, 50, 1.5, 1.5, 1.5, 0.3);
                     loc.getWorld().playSound(loc, Sound.ENTITY_ENDER_DRAGON_GROWL, 3.0f, 0.5f);
                     loc.getWorld().playSound(loc, Sound.ENTITY_WITHER_SPAWN, 2.0f, 1.5f);
 
@@ -4493,7 +4699,7 @@ public class AITorqueEntity {
                     unlockEvolutionAbilities(evolutionStage);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 100L); // Check every 5 seconds
+        });
     }
 
     /**
@@ -4579,7 +4785,7 @@ public class AITorqueEntity {
         double pullRadius = gravitationalPullRadius + (darkMatterEnergy / 1000.0);
         double pullStrength = 0.3 + (darkMatterEnergy / 5000.0);
 
-        Collection<Entity> nearby = loc.getWorld().getNearbyEntities(loc, pullRadius, pullRadius, pullRadius);
+        Collection<Entity> nearby = nearbyEntities(loc, pullRadius, pullRadius, pullRadius);
 
         for (Entity entity : nearby) {
             if (entity.equals(bukkitEntity)) continue;
@@ -4597,17 +4803,16 @@ public class AITorqueEntity {
             pull.normalize().multiply(pullStrength);
 
             // Apply pull force
-            entity.setVelocity(entity.getVelocity().add(pull));
+            forces.push(entity, pull);
 
             // Visual effect - purple/dark particles
             if (tickCounter % 5 == 0) {
                 Location particleLoc = entity.getLocation().clone().add(0, entity.getHeight() / 2, 0);
-                loc.getWorld().spawnParticle(Particle.DUST, particleLoc, 2, 0.1, 0.1, 0.1, 0,
+                particles.emit(ParticleBudget.Priority.AMBIENT, Particle.DUST, particleLoc, 2, 0.1, 0.1, 0.1, 0,
                     new Particle.DustOptions(org.bukkit.Color.fromRGB(128, 0, 128), 1.5f));
 
                 // Draw line to AI Torque
-                drawBeam(particleLoc, loc.clone().add(0, 1, 0), Particle.DUST,
-                    new Particle.DustOptions(org.bukkit.Color.fromRGB(64, 0, 128), 0.8f));
+                beams.spoke(PULL_BEAM, 1, particleLoc);
             }
         }
 
@@ -4621,7 +4826,7 @@ public class AITorqueEntity {
                     Math.sin(tickCounter * 0.05) * 3,
                     Math.sin(angle) * radius
                 );
-                loc.getWorld().spawnParticle(Particle.ENCHANT, particleLoc, 1, 0, 0, 0, 0);
+                particles.emit(ParticleBudget.Priority.AMBIENT, Particle.ENCHANT, particleLoc, 1, 0, 0, 0, 0);
             }
         }
 
@@ -4638,8 +4843,8 @@ public class AITorqueEntity {
         Location loc = entity.getLocation();
 
         // Massive explosion effect
-        loc.getWorld().spawnParticle(Particle.EXPLOSION, loc, 10, 0.5, 0.5, 0.5, 0);
-        loc.getWorld().spawnParticle(Particle.DRAGON_BREATH, loc, 30, 0.3, 0.3, 0.3, 0.1);
+        particles.emit(Particle.EXPLOSION, loc, 10, 0.5, 0.5, 0.5, 0);
+        particles.emit(Particle.DRAGON_BREATH, loc, 30, 0.3, 0.3, 0.3, 0.1);
         loc.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 1.5f, 0.8f);
 
         if (entity instanceof org.bukkit.entity.Item) {
@@ -4729,43 +4934,41 @@ public class AITorqueEntity {
     /** 1. Meteor Storm */
     public void meteorStorm() {
         Location loc = bukkitEntity.getLocation();
-        for (int i = 0; i < 20; i++) {
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                Location meteorSpawn = loc.clone().add(
-                    (Math.random() - 0.5) * 40,
-                    50,
-                    (Math.random() - 0.5) * 40
-                );
-                spawnMeteor(meteorSpawn);
-            }, i * 5L);
-        }
+        effectWheel.schedule(0, 20, 5, step -> {
+            Location meteorSpawn = loc.clone().add(
+                (Math.random() - 0.5) * 40,
+                50,
+                (Math.random() - 0.5) * 40
+            );
+            spawnMeteor(meteorSpawn);
+        });
     }
 
     private void spawnMeteor(Location start) {
-        new BukkitRunnable() {
+        runTimer("spawn-meteor", new BossTask() {
             Location current = start.clone();
             int ticks = 0;
 
             @Override
             public void run() {
-                if (ticks++ > 100 || current.getY() <= start.getWorld().getHighestBlockYAt(current)) {
+                if (ticks++ > 100 || current.getY() <= plugin.getSurfaceCache().getHighestY(current)) {
                     // Impact
                     current.getWorld().createExplosion(current, 4.0f, false, true);
-                    current.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, current, 20);
+                    particles.emit(Particle.EXPLOSION_EMITTER, current, 20);
                     cancel();
                     return;
                 }
 
                 current.add(0, -1, 0);
-                current.getWorld().spawnParticle(Particle.FLAME, current, 30, 0.5, 0.5, 0.5, 0.1);
-                current.getWorld().spawnParticle(Particle.LAVA, current, 10);
+                particles.emit(Particle.FLAME, current, 30, 0.5, 0.5, 0.5, 0.1);
+                particles.emit(Particle.LAVA, current, 10);
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
     }
 
     /** 2. Black Hole */
     public void createBlackHole(Location center) {
-        new BukkitRunnable() {
+        runTimer("create-black-hole", new BossTask() {
             int ticks = 0;
 
             @Override
@@ -4776,13 +4979,13 @@ public class AITorqueEntity {
                 }
 
                 // Pull entities toward center
-                Collection<Entity> nearby = center.getWorld().getNearbyEntities(center, 20, 20, 20);
+                Collection<Entity> nearby = nearbyEntities(center, 20, 20, 20);
                 for (Entity entity : nearby) {
                     if (entity.equals(bukkitEntity)) continue;
 
                     Vector pull = center.toVector().subtract(entity.getLocation().toVector());
                     pull.normalize().multiply(0.5);
-                    entity.setVelocity(entity.getVelocity().add(pull));
+                    forces.push(entity, pull);
 
                     if (entity instanceof LivingEntity && entity.getLocation().distance(center) < 2) {
                         ((LivingEntity) entity).damage(10.0, bukkitEntity);
@@ -4798,15 +5001,15 @@ public class AITorqueEntity {
                         Math.sin(ticks * 0.1) * 3,
                         Math.sin(angle) * radius
                     );
-                    center.getWorld().spawnParticle(Particle.PORTAL, particleLoc, 5, 0, 0, 0, 0.5);
+                    particles.emit(Particle.PORTAL, particleLoc, 5, 0, 0, 0, 0.5);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
     }
 
     /** 4. Time Freeze */
     public void timeFreezeNearby() {
-        Collection<Entity> nearby = bukkitEntity.getWorld().getNearbyEntities(
+        Collection<Entity> nearby = nearbyEntities(
             bukkitEntity.getLocation(), 20, 20, 20);
 
         for (Entity entity : nearby) {
@@ -4823,7 +5026,7 @@ public class AITorqueEntity {
 
     /** 5. Soul Steal */
     public void stealSouls() {
-        Collection<Entity> nearby = bukkitEntity.getWorld().getNearbyEntities(
+        Collection<Entity> nearby = nearbyEntities(
             bukkitEntity.getLocation(), 25, 25, 25);
 
         for (Entity entity : nearby) {
@@ -4833,8 +5036,7 @@ public class AITorqueEntity {
                 heal(5.0);
 
                 // Soul particle trail
-                drawBeam(player.getEyeLocation(), bukkitEntity.getEyeLocation(),
-                    Particle.SOUL, null);
+                beams.spoke(SOUL_BEAM, bukkitEntity.getEyeHeight(), player.getEyeLocation());
             }
         }
     }
@@ -4858,17 +5060,34 @@ public class AITorqueEntity {
 
     public void iceAge() {
         Location loc = bukkitEntity.getLocation();
-        for (int x = -15; x <= 15; x++) {
-            for (int z = -15; z <= 15; z++) {
-                Location iceLoc = loc.clone().add(x, 0, z);
-                org.bukkit.block.Block block = iceLoc.getWorld().getHighestBlockAt(iceLoc).getRelative(0, 1, 0);
+        World world = loc.getWorld();
+        int bx = loc.getBlockX();
+        int bz = loc.getBlockZ();
+
+        // Find the air above the ground from snapshots on a worker, then freeze it
+        TerrainSnapshot terrain = plugin.getTerrainCache().capture(loc, 15);
+        compute.submit("ice-age", () -> {
+            List<Long> air = new ArrayList<>();
+            for (int x = bx - 15; x <= bx + 15; x++) {
+                for (int z = bz - 15; z <= bz + 15; z++) {
+                    int y = terrain.getHighestY(x, z) + 1;
+                    if (terrain.getType(x, y, z) == Material.AIR) {
+                        air.add(BlockKey.pack(x, y, z));
+                    }
+                }
+            }
+            return air;
+        }, air -> {
+            for (long key : air) {
+                org.bukkit.block.Block block = world.getBlockAt(BlockKey.x(key), BlockKey.y(key), BlockKey.z(key));
                 if (block.getType() == Material.AIR) {
                     block.setType(Material.ICE);
+                    plugin.getSurfaceCache().invalidate(world, block.getX(), block.getZ());
                 }
             }
-        }
+        });
 
-        Collection<Entity> nearby = loc.getWorld().getNearbyEntities(loc, 15, 15, 15);
+        Collection<Entity> nearby = nearbyEntities(loc, 15, 15, 15);
         for (Entity entity : nearby) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).addPotionEffect(
@@ -4884,7 +5103,7 @@ public class AITorqueEntity {
         createBlackHole(loc);
 
         // Also damage everyone nearby
-        Collection<Entity> nearby = loc.getWorld().getNearbyEntities(loc, 30, 30, 30);
+        Collection<Entity> nearby = nearbyEntities(loc, 30, 30, 30);
         for (Entity entity : nearby) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).damage(20.0, bukkitEntity);
@@ -4896,7 +5115,7 @@ public class AITorqueEntity {
         Location start = bukkitEntity.getEyeLocation();
         Location end = target.getEyeLocation();
 
-        drawBeam(start, end, Particle.END_ROD, null);
+        beams.draw(LIGHT_BEAM, start, end);
         target.damage(30.0, bukkitEntity);
         target.setVelocity(new Vector(0, 2, 0));
 
@@ -4918,26 +5137,23 @@ public class AITorqueEntity {
 
     public void earthquakeAttack() {
         Location loc = bukkitEntity.getLocation();
+        World world = loc.getWorld();
+        org.bukkit.block.data.BlockData stone = Material.STONE.createBlockData();
 
         for (int radius = 1; radius <= 20; radius++) {
             final int r = radius;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                for (int angle = 0; angle < 360; angle += 20) {
-                    double radian = angle * Math.PI / 180;
-                    Location effectLoc = loc.clone().add(
-                        Math.cos(radian) * r,
-                        0,
-                        Math.sin(radian) * r
-                    );
-
-                    effectLoc.getWorld().spawnParticle(Particle.BLOCK, effectLoc, 20,
-                        1, 1, 1, 0.1, Material.STONE.createBlockData());
+            runLater("earthquake-attack", () -> {
+                for (int i = 0; i < 18; i++) {
+                    int angle = GeometryTables.ringStep(i, 18);
+                    particles.emit(Particle.BLOCK, world,
+                        loc.getX() + GeometryTables.cos(angle) * r, loc.getY(), loc.getZ() + GeometryTables.sin(angle) * r,
+                        20, 1, 1, 1, 0.1, stone);
                 }
             }, r);
         }
 
         // Damage and launch players
-        Collection<Entity> nearby = loc.getWorld().getNearbyEntities(loc, 20, 20, 20);
+        Collection<Entity> nearby = nearbyEntities(loc, 20, 20, 20);
         for (Entity entity : nearby) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).damage(15.0, bukkitEntity);
@@ -4961,7 +5177,7 @@ public class AITorqueEntity {
             Location plasmaBolt = loc.clone().add(
                 (Math.random() - 0.5) * 30, Math.random() * 20, (Math.random() - 0.5) * 30
             );
-            plasmaBolt.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, plasmaBolt, 30, 1, 1, 1, 0.3);
+            particles.emit(Particle.SOUL_FIRE_FLAME, plasmaBolt, 30, 1, 1, 1, 0.3);
             plasmaBolt.getWorld().createExplosion(plasmaBolt, 3.0f, false, false);
         }
     }
@@ -4969,26 +5185,23 @@ public class AITorqueEntity {
     /** 31. Dimensional Rift - Tear between dimensions */
     public void dimensionalRift() {
         Location loc = bukkitEntity.getLocation();
-        for (int i = 0; i < 100; i++) {
-            final int tick = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                double angle = tick * 15 * Math.PI / 180;
-                Location riftLoc = loc.clone().add(Math.cos(angle) * 15, Math.sin(tick * 0.2) * 5, Math.sin(angle) * 15);
-                riftLoc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, riftLoc, 20, 0.5, 0.5, 0.5, 0.5);
-                Collection<Entity> nearby = riftLoc.getWorld().getNearbyEntities(riftLoc, 3, 3, 3);
-                for (Entity entity : nearby) {
-                    if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                        ((LivingEntity) entity).damage(5.0, bukkitEntity);
-                        entity.teleport(loc);
-                    }
+        effectWheel.schedule(0, 100, 1, tick -> {
+            double angle = tick * 15 * Math.PI / 180;
+            Location riftLoc = loc.clone().add(Math.cos(angle) * 15, Math.sin(tick * 0.2) * 5, Math.sin(angle) * 15);
+            particles.emit(Particle.REVERSE_PORTAL, riftLoc, 20, 0.5, 0.5, 0.5, 0.5);
+            Collection<Entity> nearby = nearbyEntities(riftLoc, 3, 3, 3);
+            for (Entity entity : nearby) {
+                if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
+                    ((LivingEntity) entity).damage(5.0, bukkitEntity);
+                    entity.teleport(loc);
                 }
-            }, tick);
-        }
+            }
+        });
     }
 
     /** 32. Quantum Destabilization - Reality becomes unstable */
     public void quantumDestabilization() {
-        Collection<Entity> entities = bukkitEntity.getWorld().getNearbyEntities(bukkitEntity.getLocation(), 40, 40, 40);
+        Collection<Entity> entities = nearbyEntities(bukkitEntity.getLocation(), 40, 40, 40);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 LivingEntity living = (LivingEntity) entity;
@@ -5007,9 +5220,9 @@ public class AITorqueEntity {
             Location radiation = loc.clone().add(
                 (Math.random() - 0.5) * 25, (Math.random() - 0.5) * 25, (Math.random() - 0.5) * 25
             );
-            radiation.getWorld().spawnParticle(Particle.GLOW, radiation, 50, 2, 2, 2, 0.1);
+            particles.emit(Particle.GLOW, radiation, 50, 2, 2, 2, 0.1);
         }
-        Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 25, 25, 25);
+        Collection<Entity> entities = nearbyEntities(loc, 25, 25, 25);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).damage(40.0, bukkitEntity);
@@ -5021,9 +5234,9 @@ public class AITorqueEntity {
     /** 34. Antimatter Explosion - Matter meets antimatter */
     public void antimatterExplosion() {
         Location loc = bukkitEntity.getLocation();
-        loc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, loc, 100, 10, 10, 10, 1);
+        particles.emit(Particle.EXPLOSION_EMITTER, loc, 100, 10, 10, 10, 1);
         loc.getWorld().createExplosion(loc, 12.0f, false, true);
-        Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 30, 30, 30);
+        Collection<Entity> entities = nearbyEntities(loc, 30, 30, 30);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).damage(60.0, bukkitEntity);
@@ -5034,14 +5247,14 @@ public class AITorqueEntity {
 
     /** 35. Celestial Judgment - Divine wrath from above */
     public void celestialJudgment() {
-        Collection<Entity> entities = bukkitEntity.getWorld().getNearbyEntities(bukkitEntity.getLocation(), 50, 50, 50);
+        Collection<Entity> entities = nearbyEntities(bukkitEntity.getLocation(), 50, 50, 50);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 Location target = entity.getLocation();
                 for (int i = 0; i < 5; i++) {
-                    Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                    runLater("celestial-judgment", () -> {
                         target.getWorld().strikeLightning(target);
-                        target.getWorld().spawnParticle(Particle.END_ROD, target, 100, 2, 10, 2, 0.5);
+                        particles.emit(Particle.END_ROD, target, 100, 2, 10, 2, 0.5);
                     }, i * 10L);
                 }
                 ((LivingEntity) entity).damage(35.0, bukkitEntity);
@@ -5052,35 +5265,32 @@ public class AITorqueEntity {
     /** 36. Singularity Collapse - Gravity collapses into singularity */
     public void singularityCollapse() {
         Location center = bukkitEntity.getLocation();
-        for (int i = 0; i < 200; i++) {
-            final int tick = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                Collection<Entity> entities = center.getWorld().getNearbyEntities(center, 50, 50, 50);
-                for (Entity entity : entities) {
-                    if (!entity.equals(bukkitEntity)) {
-                        Vector pull = center.toVector().subtract(entity.getLocation().toVector());
-                        pull.normalize().multiply(1.5);
-                        entity.setVelocity(pull);
-                    }
-                }
-                center.getWorld().spawnParticle(Particle.PORTAL, center, 100, 15, 15, 15, 3);
-                if (tick == 199) {
-                    center.getWorld().createExplosion(center, 15.0f, false, false);
+        effectWheel.schedule(0, 200, 1, tick -> {
+            Collection<Entity> entities = nearbyEntities(center, 50, 50, 50);
+            for (Entity entity : entities) {
+                if (!entity.equals(bukkitEntity)) {
+                    Vector pull = center.toVector().subtract(entity.getLocation().toVector());
+                    pull.normalize().multiply(1.5);
+                    forces.steer(entity, pull);
                 }
-            }, tick);
-        }
+            }
+            particles.emit(Particle.PORTAL, center, 100, 15, 15, 15, 3);
+            if (tick == 199) {
+                center.getWorld().createExplosion(center, 15.0f, false, false);
+            }
+        });
     }
 
     /** 37. Temporal Paradox - Time itself breaks */
     public void temporalParadox() {
-        Collection<Entity> entities = bukkitEntity.getWorld().getNearbyEntities(bukkitEntity.getLocation(), 40, 40, 40);
+        Collection<Entity> entities = nearbyEntities(bukkitEntity.getLocation(), 40, 40, 40);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 LivingEntity living = (LivingEntity) entity;
                 living.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 300, 10));
                 living.addPotionEffect(new PotionEffect(PotionEffectType.MINING_FATIGUE, 300, 10));
                 living.damage(25.0, bukkitEntity);
-                living.getWorld().spawnParticle(Particle.PORTAL, living.getLocation(), 100, 2, 2, 2, 1);
+                particles.emit(Particle.PORTAL, living.getLocation(), 100, 2, 2, 2, 1);
             }
         }
     }
@@ -5090,12 +5300,12 @@ public class AITorqueEntity {
         Location loc = bukkitEntity.getLocation();
         for (int i = 0; i < 10; i++) {
             final int layer = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("reality-break", () -> {
                 double radius = layer * 5.0;
                 for (double angle = 0; angle < 360; angle += 10) {
                     double radian = angle * Math.PI / 180;
                     Location shatter = loc.clone().add(Math.cos(radian) * radius, layer * 2, Math.sin(radian) * radius);
-                    shatter.getWorld().spawnParticle(Particle.CRIT, shatter, 10, 0.5, 0.5, 0.5, 0);
+                    particles.emit(Particle.CRIT, shatter, 10, 0.5, 0.5, 0.5, 0);
                     shatter.getWorld().createExplosion(shatter, 2.0f, false, false);
                 }
             }, layer * 5L);
@@ -5107,13 +5317,13 @@ public class AITorqueEntity {
         Location loc = bukkitEntity.getLocation();
         for (int radius = 1; radius <= 50; radius++) {
             final int r = radius;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            runLater("entropy-wave", () -> {
                 for (int angle = 0; angle < 360; angle += 15) {
                     double radian = angle * Math.PI / 180;
                     Location wave = loc.clone().add(Math.cos(radian) * r, 0, Math.sin(radian) * r);
-                    wave.getWorld().spawnParticle(Particle.ASH, wave, 30, 1, 2, 1, 0.1);
+                    particles.emit(Particle.ASH, wave, 30, 1, 2, 1, 0.1);
                 }
-                Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, r, r, r);
+                Collection<Entity> entities = nearbyEntities(loc, r, r, r);
                 for (Entity entity : entities) {
                     if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                         ((LivingEntity) entity).damage(2.0, bukkitEntity);
@@ -5128,9 +5338,9 @@ public class AITorqueEntity {
     public void darkMatterPulse() {
         Location loc = bukkitEntity.getLocation();
         double radius = 20 + (darkMatterEnergy / 100.0);
-        loc.getWorld().spawnParticle(Particle.DUST, loc, 500, radius, radius, radius, 0,
+        particles.emit(Particle.DUST, loc, 500, radius, radius, radius, 0,
             new Particle.DustOptions(org.bukkit.Color.fromRGB(0, 0, 50), 3.0f));
-        Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, radius, radius, radius);
+        Collection<Entity> entities = nearbyEntities(loc, radius, radius, radius);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 double damage = 30 + (darkMatterEnergy / 50.0);
@@ -5143,20 +5353,17 @@ public class AITorqueEntity {
     /** 41. Supernova Blast - Star explodes */
     public void supernovaBlast() {
         Location loc = bukkitEntity.getLocation();
-        loc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, loc, 200, 20, 20, 20, 2);
+        particles.emit(Particle.EXPLOSION_EMITTER, loc, 200, 20, 20, 20, 2);
         loc.getWorld().playSound(loc, Sound.ENTITY_ENDER_DRAGON_DEATH, 3.0f, 0.5f);
-        for (int i = 0; i < 100; i++) {
-            final int tick = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                double radius = tick * 1.0;
-                for (double angle = 0; angle < 360; angle += 10) {
-                    double radian = angle * Math.PI / 180;
-                    Location blast = loc.clone().add(Math.cos(radian) * radius, Math.sin(radian) * radius, Math.cos(radian + 90) * radius);
-                    blast.getWorld().spawnParticle(Particle.FLAME, blast, 10, 0.5, 0.5, 0.5, 0.3);
-                }
-            }, tick);
-        }
-        Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 50, 50, 50);
+        effectWheel.schedule(0, 100, 1, tick -> {
+            double radius = tick * 1.0;
+            for (double angle = 0; angle < 360; angle += 10) {
+                double radian = angle * Math.PI / 180;
+                Location blast = loc.clone().add(Math.cos(radian) * radius, Math.sin(radian) * radius, Math.cos(radian + 90) * radius);
+                particles.emit(Particle.FLAME, blast, 10, 0.5, 0.5, 0.5, 0.3);
+            }
+        });
+        Collection<Entity> entities = nearbyEntities(loc, 50, 50, 50);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).damage(100.0, bukkitEntity);
@@ -5169,45 +5376,35 @@ public class AITorqueEntity {
     public void quasarBeam() {
         Location start = bukkitEntity.getEyeLocation();
         Vector direction = bukkitEntity.getLocation().getDirection().normalize();
-        for (int i = 0; i < 100; i++) {
-            Location beam = start.clone().add(direction.clone().multiply(i));
-            beam.getWorld().spawnParticle(Particle.END_ROD, beam, 20, 0.3, 0.3, 0.3, 0.1);
-            beam.getWorld().spawnParticle(Particle.GLOW, beam, 10, 0.2, 0.2, 0.2, 0);
-            Collection<Entity> hit = beam.getWorld().getNearbyEntities(beam, 2, 2, 2);
-            for (Entity entity : hit) {
-                if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                    ((LivingEntity) entity).damage(50.0, bukkitEntity);
-                }
-            }
+        beams.ray(QUASAR_BEAM, start, direction, 100);
+        for (BeamTracer.Hit hit : traceBeam(start, direction, 99, 2, EntitySnapshot.LIVING)) {
+            ((LivingEntity) hit.getEntity()).damage(50.0, bukkitEntity);
         }
     }
 
     /** 43. Galaxy Collision - Two galaxies collide */
     public void galaxyCollision() {
         Location loc = bukkitEntity.getLocation();
-        for (int i = 0; i < 200; i++) {
-            final int tick = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                // Galaxy 1
-                double angle1 = tick * 18 * Math.PI / 180;
-                Location star1 = loc.clone().add(Math.cos(angle1) * 20, Math.sin(tick * 0.1) * 10, Math.sin(angle1) * 20);
-                star1.getWorld().spawnParticle(Particle.FIREWORK, star1, 20, 1, 1, 1, 0.1);
-
-                // Galaxy 2
-                double angle2 = -tick * 18 * Math.PI / 180;
-                Location star2 = loc.clone().add(Math.cos(angle2) * 20, Math.sin(-tick * 0.1) * 10, Math.sin(angle2) * 20);
-                star2.getWorld().spawnParticle(Particle.FIREWORK, star2, 20, 1, 1, 1, 0.1);
-
-                if (tick % 20 == 0) {
-                    loc.getWorld().createExplosion(loc, 5.0f, false, false);
-                }
-            }, tick);
-        }
+        effectWheel.schedule(0, 200, 1, tick -> {
+            // Galaxy 1
+            double angle1 = tick * 18 * Math.PI / 180;
+            Location star1 = loc.clone().add(Math.cos(angle1) * 20, Math.sin(tick * 0.1) * 10, Math.sin(angle1) * 20);
+            particles.emit(Particle.FIREWORK, star1, 20, 1, 1, 1, 0.1);
+
+            // Galaxy 2
+            double angle2 = -tick * 18 * Math.PI / 180;
+            Location star2 = loc.clone().add(Math.cos(angle2) * 20, Math.sin(-tick * 0.1) * 10, Math.sin(angle2) * 20);
+            particles.emit(Particle.FIREWORK, star2, 20, 1, 1, 1, 0.1);
+
+            if (tick % 20 == 0) {
+                loc.getWorld().createExplosion(loc, 5.0f, false, false);
+            }
+        });
     }
 
     /** 44. Universal Heat Death - Everything reaches thermal equilibrium */
     public void universalHeat() {
-        Collection<Entity> entities = bukkitEntity.getWorld().getNearbyEntities(bukkitEntity.getLocation(), 60, 60, 60);
+        Collection<Entity> entities = nearbyEntities(bukkitEntity.getLocation(), 60, 60, 60);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 LivingEntity living = (LivingEntity) entity;
@@ -5221,8 +5418,8 @@ public class AITorqueEntity {
     /** 45. Absolute Zero - Temperature drops to absolute zero */
     public void absoluteZero() {
         Location loc = bukkitEntity.getLocation();
-        loc.getWorld().spawnParticle(Particle.SNOWFLAKE, loc, 1000, 30, 30, 30, 1);
-        Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 40, 40, 40);
+        particles.emit(Particle.SNOWFLAKE, loc, 1000, 30, 30, 30, 1);
+        Collection<Entity> entities = nearbyEntities(loc, 40, 40, 40);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 LivingEntity living = (LivingEntity) entity;
@@ -5237,13 +5434,13 @@ public class AITorqueEntity {
     /** 46. Neutron Star Crush - Gravitational pressure of neutron star */
     public void neutronStarCrush() {
         Location center = bukkitEntity.getLocation();
-        Collection<Entity> entities = center.getWorld().getNearbyEntities(center, 50, 50, 50);
+        Collection<Entity> entities = nearbyEntities(center, 50, 50, 50);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 Vector crush = new Vector(0, -10, 0);
                 entity.setVelocity(crush);
                 ((LivingEntity) entity).damage(80.0, bukkitEntity);
-                entity.getWorld().spawnParticle(Particle.SQUID_INK, entity.getLocation(), 100, 1, 1, 1, 0.5);
+                particles.emit(Particle.SQUID_INK, entity.getLocation(), 100, 1, 1, 1, 0.5);
             }
         }
     }
@@ -5257,15 +5454,9 @@ public class AITorqueEntity {
                 (Math.random() - 0.5) * 2,
                 (Math.random() - 0.5) * 2
             ).normalize();
-            for (int j = 0; j < 30; j++) {
-                Location photon = loc.clone().add(direction.clone().multiply(j));
-                photon.getWorld().spawnParticle(Particle.GLOW_SQUID_INK, photon, 1, 0, 0, 0, 0);
-                Collection<Entity> hit = photon.getWorld().getNearbyEntities(photon, 1, 1, 1);
-                for (Entity entity : hit) {
-                    if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                        ((LivingEntity) entity).damage(3.0, bukkitEntity);
-                    }
-                }
+            beams.ray(PHOTON_RAY, loc, direction, 30);
+            for (BeamTracer.Hit hit : traceBeam(loc, direction, 29, 1, EntitySnapshot.LIVING)) {
+                ((LivingEntity) hit.getEntity()).damage(3.0, bukkitEntity);
             }
         }
     }
@@ -5274,80 +5465,69 @@ public class AITorqueEntity {
     public void gammaRayBurst() {
         Location start = bukkitEntity.getEyeLocation();
         Vector direction = bukkitEntity.getLocation().getDirection();
-        for (int i = 0; i < 200; i++) {
-            Location ray = start.clone().add(direction.clone().multiply(i * 0.5));
-            ray.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, ray, 50, 0.5, 0.5, 0.5, 0.5);
-            Collection<Entity> hit = ray.getWorld().getNearbyEntities(ray, 3, 3, 3);
-            for (Entity entity : hit) {
-                if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                    ((LivingEntity) entity).damage(150.0, bukkitEntity);
-                }
-            }
+        beams.ray(GAMMA_RAY, start, direction, 100);
+        for (BeamTracer.Hit hit : traceBeam(start, direction, 99.5, 3, EntitySnapshot.LIVING)) {
+            ((LivingEntity) hit.getEntity()).damage(150.0, bukkitEntity);
         }
     }
 
     /** 49. Tesseract Prison - 4D prison */
     public void tesseractPrison() {
-        Collection<Entity> entities = bukkitEntity.getWorld().getNearbyEntities(bukkitEntity.getLocation(), 30, 30, 30);
+        Collection<Entity> entities = nearbyEntities(bukkitEntity.getLocation(), 30, 30, 30);
+        List<Location> prisons = new ArrayList<>();
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                Location prison = entity.getLocation();
-                for (int i = 0; i < 100; i++) {
-                    final int tick = i;
-                    Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                        // Create 4D cube visualization
-                        for (int x = -2; x <= 2; x += 2) {
-                            for (int y = -2; y <= 2; y += 2) {
-                                for (int z = -2; z <= 2; z += 2) {
-                                    Location corner = prison.clone().add(x, y, z);
-                                    corner.getWorld().spawnParticle(Particle.CRIT, corner, 5, 0.1, 0.1, 0.1, 0);
-                                }
-                            }
-                        }
-                    }, tick);
-                }
+                prisons.add(entity.getLocation());
                 ((LivingEntity) entity).addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 100, 10));
                 ((LivingEntity) entity).damage(20.0, bukkitEntity);
             }
         }
+        if (prisons.isEmpty()) return;
+
+        // One timeline draws every prison
+        effectWheel.schedule(0, 100, 1, tick -> {
+            for (Location prison : prisons) {
+                // Create 4D cube visualization
+                for (int x = -2; x <= 2; x += 2) {
+                    for (int y = -2; y <= 2; y += 2) {
+                        for (int z = -2; z <= 2; z += 2) {
+                            Location corner = prison.clone().add(x, y, z);
+                            particles.emit(Particle.CRIT, corner, 5, 0.1, 0.1, 0.1, 0);
+                        }
+                    }
+                }
+            }
+        });
     }
 
     /** 50. Infinity Sphere - Infinite power contained */
     public void infinitySphere() {
         Location loc = bukkitEntity.getLocation();
-        for (int i = 0; i < 100; i++) {
-            final int tick = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                double radius = 30 - (tick * 0.3);
-                if (radius < 5) radius = 5;
-                for (int angle = 0; angle < 360; angle += 10) {
-                    double radian = angle * Math.PI / 180;
-                    for (int elevation = -90; elevation <= 90; elevation += 30) {
-                        double elevRadian = elevation * Math.PI / 180;
-                        Location sphere = loc.clone().add(
-                            Math.cos(radian) * Math.cos(elevRadian) * radius,
-                            Math.sin(elevRadian) * radius,
-                            Math.sin(radian) * Math.cos(elevRadian) * radius
-                        );
-                        sphere.getWorld().spawnParticle(Particle.END_ROD, sphere, 1, 0, 0, 0, 0);
-                    }
-                }
-                if (tick == 99) {
-                    Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 30, 30, 30);
-                    for (Entity entity : entities) {
-                        if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                            ((LivingEntity) entity).damage(200.0, bukkitEntity);
-                        }
+        World world = loc.getWorld();
+        double[] sphere = GeometryTables.sphere(INFINITY_SPHERE_POINTS);
+        effectWheel.schedule(0, 100, 1, tick -> {
+            double radius = 30 - (tick * 0.3);
+            if (radius < 5) radius = 5;
+            for (int p = 0; p < sphere.length; p += 3) {
+                particles.emit(Particle.END_ROD, world,
+                    loc.getX() + sphere[p] * radius, loc.getY() + sphere[p + 1] * radius, loc.getZ() + sphere[p + 2] * radius,
+                    1, 0, 0, 0, 0);
+            }
+            if (tick == 99) {
+                Collection<Entity> entities = nearbyEntities(loc, 30, 30, 30);
+                for (Entity entity : entities) {
+                    if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
+                        ((LivingEntity) entity).damage(200.0, bukkitEntity);
                     }
-                    loc.getWorld().createExplosion(loc, 20.0f, false, false);
                 }
-            }, tick);
-        }
+                loc.getWorld().createExplosion(loc, 20.0f, false, false);
+            }
+        });
     }
 
     /** 51-59. Additional Cosmic Powers - Quick implementations */
     public void chaosTheory() {
-        Collection<Entity> entities = bukkitEntity.getWorld().getNearbyEntities(bukkitEntity.getLocation(), 50, 50, 50);
+        Collection<Entity> entities = nearbyEntities(bukkitEntity.getLocation(), 50, 50, 50);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 entity.setVelocity(new Vector(Math.random() * 5 - 2.5, Math.random() * 5, Math.random() * 5 - 2.5));
@@ -5357,7 +5537,7 @@ public class AITorqueEntity {
     }
 
     public void existentialDread() {
-        Collection<Entity> entities = bukkitEntity.getWorld().getNearbyEntities(bukkitEntity.getLocation(), 40, 40, 40);
+        Collection<Entity> entities = nearbyEntities(bukkitEntity.getLocation(), 40, 40, 40);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).addPotionEffect(new PotionEffect(PotionEffectType.DARKNESS, 400, 10));
@@ -5369,8 +5549,8 @@ public class AITorqueEntity {
 
     public void oblivionVoid() {
         Location loc = bukkitEntity.getLocation();
-        loc.getWorld().spawnParticle(Particle.PORTAL, loc, 2000, 25, 25, 25, 5);
-        Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 35, 35, 35);
+        particles.emit(Particle.PORTAL, loc, 2000, 25, 25, 25, 5);
+        Collection<Entity> entities = nearbyEntities(loc, 35, 35, 35);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).damage(90.0, bukkitEntity);
@@ -5379,7 +5559,7 @@ public class AITorqueEntity {
     }
 
     public void cosmicHorror() {
-        Collection<Entity> entities = bukkitEntity.getWorld().getNearbyEntities(bukkitEntity.getLocation(), 50, 50, 50);
+        Collection<Entity> entities = nearbyEntities(bukkitEntity.getLocation(), 50, 50, 50);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).addPotionEffect(new PotionEffect(PotionEffectType.BLINDNESS, 600, 10));
@@ -5400,57 +5580,51 @@ public class AITorqueEntity {
 
     public void planetaryCrusher() {
         Location loc = bukkitEntity.getLocation();
-        for (int i = 0; i < 50; i++) {
-            final int tick = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                Location impact = loc.clone().add((Math.random() - 0.5) * 40, 20, (Math.random() - 0.5) * 40);
-                impact.getWorld().createExplosion(impact, 6.0f, false, true);
-                impact.getWorld().spawnParticle(Particle.BLOCK, impact, 100, 3, 3, 3, 1, Material.STONE.createBlockData());
-            }, tick * 2L);
-        }
+        effectWheel.schedule(0, 50, 2, tick -> {
+            Location impact = loc.clone().add((Math.random() - 0.5) * 40, 20, (Math.random() - 0.5) * 40);
+            impact.getWorld().createExplosion(impact, 6.0f, false, true);
+            particles.emit(Particle.BLOCK, impact, 100, 3, 3, 3, 1, Material.STONE.createBlockData());
+        });
     }
 
     public void stellarCollapse() {
         Location loc = bukkitEntity.getLocation();
-        for (int i = 0; i < 150; i++) {
-            final int tick = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 60 - tick * 0.4, 60 - tick * 0.4, 60 - tick * 0.4);
-                for (Entity entity : entities) {
-                    if (!entity.equals(bukkitEntity)) {
-                        Vector pull = loc.toVector().subtract(entity.getLocation().toVector()).normalize().multiply(2);
-                        entity.setVelocity(pull);
-                    }
+        effectWheel.schedule(0, 150, 1, tick -> {
+            Collection<Entity> entities = nearbyEntities(loc, 60 - tick * 0.4, 60 - tick * 0.4, 60 - tick * 0.4);
+            for (Entity entity : entities) {
+                if (!entity.equals(bukkitEntity)) {
+                    Vector pull = loc.toVector().subtract(entity.getLocation().toVector()).normalize().multiply(2);
+                    forces.steer(entity, pull);
                 }
-                if (tick == 149) {
-                    loc.getWorld().createExplosion(loc, 25.0f, false, false);
-                    Collection<Entity> finalEntities = loc.getWorld().getNearbyEntities(loc, 60, 60, 60);
-                    for (Entity entity : finalEntities) {
-                        if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
-                            ((LivingEntity) entity).damage(250.0, bukkitEntity);
-                        }
+            }
+            if (tick == 149) {
+                loc.getWorld().createExplosion(loc, 25.0f, false, false);
+                Collection<Entity> finalEntities = nearbyEntities(loc, 60, 60, 60);
+                for (Entity entity : finalEntities) {
+                    if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
+                        ((LivingEntity) entity).damage(250.0, bukkitEntity);
                     }
                 }
-            }, tick);
-        }
+            }
+        });
     }
 
     public void bigBangRecreation() {
         Location loc = bukkitEntity.getLocation();
-        loc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, loc, 500, 30, 30, 30, 3);
-        for (int i = 0; i < 200; i++) {
-            final int tick = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                double radius = tick * 2.0;
-                for (double angle = 0; angle < 360; angle += 5) {
-                    double radian = angle * Math.PI / 180;
-                    Location expansion = loc.clone().add(Math.cos(radian) * radius, Math.sin(tick * 0.5), Math.sin(radian) * radius);
-                    expansion.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, expansion, 10, 1, 1, 1, 0.5);
-                    expansion.getWorld().createExplosion(expansion, 4.0f, false, false);
-                }
-            }, tick);
-        }
-        Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 100, 100, 100);
+        particles.emit(Particle.EXPLOSION_EMITTER, loc, 500, 30, 30, 30, 3);
+        World world = loc.getWorld();
+        effectWheel.schedule(0, 200, 1, tick -> {
+            double radius = tick * 2.0;
+            double y = loc.getY() + GeometryTables.sinRadians(tick * 0.5);
+            for (int i = 0; i < 72; i++) {
+                int angle = GeometryTables.ringStep(i, 72);
+                double x = loc.getX() + GeometryTables.cos(angle) * radius;
+                double z = loc.getZ() + GeometryTables.sin(angle) * radius;
+                particles.emit(Particle.SOUL_FIRE_FLAME, world, x, y, z, 10, 1, 1, 1, 0.5);
+                world.createExplosion(x, y, z, 4.0f, false, false);
+            }
+        });
+        Collection<Entity> entities = nearbyEntities(loc, 100, 100, 100);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 ((LivingEntity) entity).damage(300.0, bukkitEntity);
@@ -5464,9 +5638,9 @@ public class AITorqueEntity {
 
         // Combine ALL effects
         loc.getWorld().createExplosion(loc, 30.0f, false, false);
-        loc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, loc, 1000, 50, 50, 50, 5);
+        particles.emit(Particle.EXPLOSION_EMITTER, loc, 1000, 50, 50, 50, 5);
 
-        Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 100, 100, 100);
+        Collection<Entity> entities = nearbyEntities(loc, 100, 100, 100);
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !entity.equals(bukkitEntity)) {
                 LivingEntity living = (LivingEntity) entity;
@@ -5527,7 +5701,7 @@ public class AITorqueEntity {
 
         // Epic drop effect
         for (int i = 0; i < 100; i++) {
-            loc.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, loc, 1, 2, 2, 2, 0.1);
+            particles.emit(Particle.TOTEM_OF_UNDYING, loc, 1, 2, 2, 2, 0.1);
         }
         loc.getWorld().playSound(loc, Sound.UI_TOAST_CHALLENGE_COMPLETE, 3.0f, 1.0f);
     }
@@ -5545,7 +5719,7 @@ public class AITorqueEntity {
         helmet.setItemMeta(meta);
 
         loc.getWorld().dropItem(loc, helmet);
-        loc.getWorld().spawnParticle(Particle.DRAGON_BREATH, loc, 50, 1, 1, 1, 0.1);
+        particles.emit(Particle.DRAGON_BREATH, loc, 50, 1, 1, 1, 0.1);
     }
 
     private void dropRareItem(Location loc) {
@@ -5569,77 +5743,31 @@ public class AITorqueEntity {
 
     /**
      * Spawn all composite body parts - tentacles, wings, masks, cannons, hood
+     * (invisible points the poses drive; particles draw them)
      */
     private void spawnCompositeParts() {
-        Location baseLoc = bukkitEntity.getLocation();
-
         // 8 KRAKEN TENTACLES - writhing around the base
         for (int i = 0; i < 8; i++) {
-            double angle = (i * 45) * Math.PI / 180;
-            Location tentaclePos = baseLoc.clone().add(
-                Math.cos(angle) * 2,
-                -0.5,
-                Math.sin(angle) * 2
-            );
-
-            ArmorStand tentacle = (ArmorStand) baseLoc.getWorld().spawnEntity(tentaclePos, EntityType.ARMOR_STAND);
-            tentacle.setCustomName("§5§l[TENTACLE " + (i+1) + "]");
-            tentacle.setGravity(false);
-            tentacle.setVisible(false);
-            tentacle.setMarker(true);
-            krakenTentacles.add(tentacle);
+            krakenTentacles.add(rig.point());
         }
 
         // 2 DRAGON WINGS - majestic and powerful
         for (int i = 0; i < 2; i++) {
-            double side = i == 0 ? -1.5 : 1.5;
-            Location wingPos = baseLoc.clone().add(side, 1, -0.5);
-
-            ArmorStand wing = (ArmorStand) baseLoc.getWorld().spawnEntity(wingPos, EntityType.ARMOR_STAND);
-            wing.setCustomName("§d§l[DRAGON WING]");
-            wing.setGravity(false);
-            wing.setVisible(false);
-            wing.setMarker(true);
-            dragonWings.add(wing);
+            dragonWings.add(rig.point());
         }
 
         // 4 FLOATING MASKS - shooting thousands of fireballs
         for (int i = 0; i < 4; i++) {
-            double angle = (i * 90) * Math.PI / 180;
-            Location maskPos = baseLoc.clone().add(
-                Math.cos(angle) * 3,
-                2.5,
-                Math.sin(angle) * 3
-            );
-
-            ArmorStand mask = (ArmorStand) baseLoc.getWorld().spawnEntity(maskPos, EntityType.ARMOR_STAND);
-            mask.setCustomName("§c§l§k[§r §4§lMASK OF DESTRUCTION §c§l§k]");
-            mask.setGravity(false);
-            mask.setVisible(false);
-            mask.setMarker(true);
-            masks.add(mask);
+            masks.add(rig.point());
         }
 
         // 2 SHULKER CANNONS - on shoulders
         for (int i = 0; i < 2; i++) {
-            double side = i == 0 ? -0.8 : 0.8;
-            Location cannonPos = baseLoc.clone().add(side, 1.5, 0);
-
-            ArmorStand cannon = (ArmorStand) baseLoc.getWorld().spawnEntity(cannonPos, EntityType.ARMOR_STAND);
-            cannon.setCustomName("§9§l[SHULKER CANNON]");
-            cannon.setGravity(false);
-            cannon.setVisible(false);
-            cannon.setMarker(true);
-            shulkerCannons.add(cannon);
+            shulkerCannons.add(rig.point());
         }
 
         // 1 DARK HOOD - overlord appearance
-        Location hoodPos = baseLoc.clone().add(0, 2.3, 0);
-        hood = (ArmorStand) baseLoc.getWorld().spawnEntity(hoodPos, EntityType.ARMOR_STAND);
-        hood.setCustomName("§8§l[OVERLORD HOOD]");
-        hood.setGravity(false);
-        hood.setVisible(false);
-        hood.setMarker(true);
+        hood = rig.point();
 
         sendChatMessage("§5§l[OVERLORD FORM] §dComposite body assembled - ULTIMATE POWER ONLINE!");
     }
@@ -5650,83 +5778,132 @@ public class AITorqueEntity {
     private void updateCompositeParts() {
         if (bukkitEntity == null || bukkitEntity.isDead()) return;
 
-        Location baseLoc = bukkitEntity.getLocation();
-        double time = tickCounter * 0.1;
+        // A handful of table lookups - computed in place, into a reused buffer
+        int tentacleCount = krakenTentacles.size();
+        int wingCount = dragonWings.size();
+        int maskCount = masks.size();
+        int cannonCount = shulkerCannons.size();
+        int length = (tentacleCount + wingCount + maskCount + cannonCount + 1) * 3;
+        if (compositePoses.length < length) {
+            compositePoses = new double[length];
+        }
 
-        // Update tentacles - writhing motion
-        for (int i = 0; i < krakenTentacles.size(); i++) {
-            ArmorStand tentacle = krakenTentacles.get(i);
-            if (tentacle == null || tentacle.isDead()) continue;
+        computeCompositePoses(compositePoses, tickCounter * 0.1, tentacleCount, wingCount, maskCount, cannonCount);
+        applyCompositePoses(compositePoses, tentacleCount, wingCount, maskCount, cannonCount);
+    }
 
-            double angle = (i * 45 + time * 20) * Math.PI / 180;
-            double radius = 2 + Math.sin(time + i) * 0.5;
-            Location tentaclePos = baseLoc.clone().add(
-                Math.cos(angle) * radius,
-                -0.5 + Math.sin(time * 2 + i) * 0.3,
-                Math.sin(angle) * radius
-            );
-            tentacle.teleport(tentaclePos);
+    /**
+     * Composite part positions (pure - no Bukkit calls)
+     *
+     * Fills poses with x/y/z offsets from the boss for tentacles, wings,
+     * masks, cannons, then the hood.
+     */
+    private static void computeCompositePoses(double[] poses, double time, int tentacleCount, int wingCount,
+                                              int maskCount, int cannonCount) {
+        int p = 0;
 
-            // Purple particles for tentacles
-            tentaclePos.getWorld().spawnParticle(Particle.DUST, tentaclePos, 2, 0.1, 0.1, 0.1, 0,
-                new Particle.DustOptions(org.bukkit.Color.fromRGB(128, 0, 128), 0.8f));
+        // Tentacles - writhing motion
+        int tentacleSpin = GeometryTables.step(time * 20);
+        for (int i = 0; i < tentacleCount; i++) {
+            int angle = GeometryTables.step(i * 45) + tentacleSpin;
+            double radius = 2 + GeometryTables.sinRadians(time + i) * 0.5;
+            poses[p++] = GeometryTables.cos(angle) * radius;
+            poses[p++] = -0.5 + GeometryTables.sinRadians(time * 2 + i) * 0.3;
+            poses[p++] = GeometryTables.sin(angle) * radius;
         }
 
-        // Update wings - flapping motion
-        for (int i = 0; i < dragonWings.size(); i++) {
-            ArmorStand wing = dragonWings.get(i);
-            if (wing == null || wing.isDead()) continue;
-
+        // Wings - flapping motion
+        double flapAngle = GeometryTables.sinRadians(time * 3) * 0.5;
+        for (int i = 0; i < wingCount; i++) {
             double side = i == 0 ? -1.5 : 1.5;
-            double flapAngle = Math.sin(time * 3) * 0.5;
-            Location wingPos = baseLoc.clone().add(
-                side + flapAngle,
-                1 + Math.abs(flapAngle) * 0.5,
-                -0.5
-            );
-            wing.teleport(wingPos);
+            poses[p++] = side + flapAngle;
+            poses[p++] = 1 + Math.abs(flapAngle) * 0.5;
+            poses[p++] = -0.5;
+        }
 
-            // Dragon breath particles
-            wingPos.getWorld().spawnParticle(Particle.DRAGON_BREATH, wingPos, 1, 0.2, 0.2, 0.2, 0.01);
+        // Masks - orbiting and menacing
+        int maskSpin = GeometryTables.step(time * 30);
+        for (int i = 0; i < maskCount; i++) {
+            int angle = GeometryTables.step(i * 90) + maskSpin;
+            poses[p++] = GeometryTables.cos(angle) * 3;
+            poses[p++] = 2.5 + GeometryTables.sinRadians(time * 2 + i) * 0.5;
+            poses[p++] = GeometryTables.sin(angle) * 3;
         }
 
-        // Update masks - orbiting and menacing
-        for (int i = 0; i < masks.size(); i++) {
-            ArmorStand mask = masks.get(i);
-            if (mask == null || mask.isDead()) continue;
+        // Cannons - mounted on shoulders
+        for (int i = 0; i < cannonCount; i++) {
+            poses[p++] = i == 0 ? -0.8 : 0.8;
+            poses[p++] = 1.5;
+            poses[p++] = 0;
+        }
 
-            double angle = (i * 90 + time * 30) * Math.PI / 180;
-            Location maskPos = baseLoc.clone().add(
-                Math.cos(angle) * 3,
-                2.5 + Math.sin(time * 2 + i) * 0.5,
-                Math.sin(angle) * 3
-            );
-            mask.teleport(maskPos);
+        // Hood - hovering above head
+        poses[p++] = 0;
+        poses[p++] = 2.3;
+        poses[p] = 0;
+    }
 
-            // Fire particles around masks
-            maskPos.getWorld().spawnParticle(Particle.FLAME, maskPos, 3, 0.2, 0.2, 0.2, 0.01);
+    /**
+     * Move the composite parts to their computed poses (server thread)
+     *
+     * Parts only take their new offsets here; the rig sends them to clients.
+     */
+    private void applyCompositePoses(double[] poses, int tentacleCount, int wingCount, int maskCount, int cannonCount) {
+        if (bukkitEntity == null || bukkitEntity.isDead()) return;
+
+        Location baseLoc = bukkitEntity.getLocation();
+        World world = baseLoc.getWorld();
+        double x = baseLoc.getX();
+        double y = baseLoc.getY();
+        double z = baseLoc.getZ();
+        int p = 0;
+
+        for (int i = 0; i < tentacleCount; i++, p += 3) {
+            DisplayRig.Part tentacle = i < krakenTentacles.size() ? krakenTentacles.get(i) : null;
+            if (tentacle == null || !tentacle.isValid()) continue;
+            tentacle.move(poses[p], poses[p + 1], poses[p + 2]);
+
+            // Purple particles for tentacles
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.DUST, world,
+                x + poses[p], y + poses[p + 1], z + poses[p + 2], 2, 0.1, 0.1, 0.1, 0, TENTACLE_DUST);
         }
 
-        // Update cannons - mounted on shoulders
-        for (int i = 0; i < shulkerCannons.size(); i++) {
-            ArmorStand cannon = shulkerCannons.get(i);
-            if (cannon == null || cannon.isDead()) continue;
+        for (int i = 0; i < wingCount; i++, p += 3) {
+            DisplayRig.Part wing = i < dragonWings.size() ? dragonWings.get(i) : null;
+            if (wing == null || !wing.isValid()) continue;
+            wing.move(poses[p], poses[p + 1], poses[p + 2]);
+
+            // Dragon breath particles
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.DRAGON_BREATH, world,
+                x + poses[p], y + poses[p + 1], z + poses[p + 2], 1, 0.2, 0.2, 0.2, 0.01, null);
+        }
+
+        for (int i = 0; i < maskCount; i++, p += 3) {
+            DisplayRig.Part mask = i < masks.size() ? masks.get(i) : null;
+            if (mask == null || !mask.isValid()) continue;
+            mask.move(poses[p], poses[p + 1], poses[p + 2]);
+
+            // Fire particles around masks
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.FLAME, world,
+                x + poses[p], y + poses[p + 1], z + poses[p + 2], 3, 0.2, 0.2, 0.2, 0.01, null);
+        }
 
-            double side = i == 0 ? -0.8 : 0.8;
-            Location cannonPos = baseLoc.clone().add(side, 1.5, 0);
-            cannon.teleport(cannonPos);
+        for (int i = 0; i < cannonCount; i++, p += 3) {
+            DisplayRig.Part cannon = i < shulkerCannons.size() ? shulkerCannons.get(i) : null;
+            if (cannon == null || !cannon.isValid()) continue;
+            cannon.move(poses[p], poses[p + 1], poses[p + 2]);
 
             // Shulker bullet particles
-            cannonPos.getWorld().spawnParticle(Particle.END_ROD, cannonPos, 1, 0.1, 0.1, 0.1, 0.01);
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.END_ROD, world,
+                x + poses[p], y + poses[p + 1], z + poses[p + 2], 1, 0.1, 0.1, 0.1, 0.01, null);
         }
 
-        // Update hood - hovering above head
-        if (hood != null && !hood.isDead()) {
-            Location hoodPos = baseLoc.clone().add(0, 2.3, 0);
-            hood.teleport(hoodPos);
+        if (hood != null && hood.isValid()) {
+            hood.move(poses[p], poses[p + 1], poses[p + 2]);
 
             // Dark particles for overlord aesthetic
-            hoodPos.getWorld().spawnParticle(Particle.SMOKE, hoodPos, 2, 0.2, 0.1, 0.2, 0.01);
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.SMOKE, world,
+                x + poses[p], y + poses[p + 1], z + poses[p + 2], 2, 0.2, 0.1, 0.2, 0.01, null);
         }
     }
 
@@ -5734,14 +5911,9 @@ public class AITorqueEntity {
      * Adaptive form transformation system - changes based on combat needs
      */
     private void startAdaptiveFormSystem() {
-        new BukkitRunnable() {
+        tickPipeline.register("adaptive-form", 1, new TickPipeline.Stage() {
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
                 if (shapeshiftCooldown > 0) {
                     shapeshiftCooldown--;
                     return;
@@ -5753,11 +5925,11 @@ public class AITorqueEntity {
                 Player nearest = findNearestPlayer();
                 if (nearest == null) return;
 
-                double distance = nearest.getLocation().distance(bukkitEntity.getLocation());
+                double distance = targets().getNearestDistance();
                 double healthPercent = health / maxHealth;
-                int nearbyEnemies = bukkitEntity.getWorld().getNearbyEntities(
+                long nearbyEnemies = nearbyEntities(
                     bukkitEntity.getLocation(), 20, 20, 20
-                ).stream().filter(e -> e instanceof Player || e instanceof Monster).toList().size();
+                ).stream().filter(e -> e instanceof Player || e instanceof Monster).count();
 
                 String newMode = currentFormMode;
 
@@ -5785,7 +5957,7 @@ public class AITorqueEntity {
                 // Update composite parts every tick
                 updateCompositeParts();
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        });
     }
 
     /**
@@ -5836,60 +6008,49 @@ public class AITorqueEntity {
         }
 
         // Epic transformation effect
-        loc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, loc, 10, 2, 2, 2, 0.3);
-        loc.getWorld().spawnParticle(Particle.PORTAL, loc, 100, 1, 1, 1, 2);
+        particles.emit(Particle.EXPLOSION_EMITTER, loc, 10, 2, 2, 2, 0.3);
+        particles.emit(Particle.PORTAL, loc, 100, 1, 1, 1, 2);
     }
 
     /**
      * Composite attack systems - laser eyes, teeth bites, fireball masks, shulker cannons
      */
     private void startCompositeAttackSystems() {
-        new BukkitRunnable() {
+        tickPipeline.register("composite-attacks", 1, new TickPipeline.Stage() {
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
                 if (!isHostile) return;
 
                 Player target = findNearestPlayer();
                 if (target == null) return;
 
-                // Decrease cooldowns
-                laserEyeCooldown = Math.max(0, laserEyeCooldown - 1);
-                teethBiteCooldown = Math.max(0, teethBiteCooldown - 1);
-                fireballMaskCooldown = Math.max(0, fireballMaskCooldown - 1);
-                cannonCooldown = Math.max(0, cannonCooldown - 1);
-
-                double distance = target.getLocation().distance(bukkitEntity.getLocation());
+                double distance = targets().getNearestDistance();
 
                 // LASER EYES - medium range (10-30 blocks)
-                if (laserEyeCooldown == 0 && distance > 10 && distance < 30) {
+                if (cooldowns.isReady("laser-eyes") && distance > 10 && distance < 30) {
                     fireLaserEyes(target);
-                    laserEyeCooldown = 60; // 3 second cooldown
+                    cooldowns.start("laser-eyes", 60); // 3 second cooldown
                 }
 
                 // TEETH BITE - close range (< 5 blocks)
-                if (teethBiteCooldown == 0 && distance < 5) {
+                if (cooldowns.isReady("teeth-bite") && distance < 5) {
                     performTeethBite(target);
-                    teethBiteCooldown = 40; // 2 second cooldown
+                    cooldowns.start("teeth-bite", 40); // 2 second cooldown
                 }
 
                 // FIREBALL MASKS - long range (> 15 blocks) - THOUSANDS OF FIREBALLS
-                if (fireballMaskCooldown == 0 && distance > 15) {
+                if (cooldowns.isReady("fireball-masks") && distance > 15) {
                     unleashFireballStorm(target);
-                    fireballMaskCooldown = 200; // 10 second cooldown (devastating attack)
+                    cooldowns.start("fireball-masks", 200); // 10 second cooldown (devastating attack)
                 }
 
                 // SHULKER CANNONS - consistent damage
-                if (cannonCooldown == 0) {
+                if (cooldowns.isReady("shulker-cannons")) {
                     fireShulkerCannons(target);
-                    cannonCooldown = 80; // 4 second cooldown
+                    cooldowns.start("shulker-cannons", 80); // 4 second cooldown
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        });
     }
 
     /**
@@ -5901,8 +6062,8 @@ public class AITorqueEntity {
         Location targetLoc = target.getLocation().clone().add(0, 1, 0);
 
         // Draw laser beams
-        drawBeam(eyeLeft, targetLoc, Particle.END_ROD, null);
-        drawBeam(eyeRight, targetLoc, Particle.END_ROD, null);
+        beams.draw(LIGHT_BEAM, eyeLeft, targetLoc);
+        beams.draw(LIGHT_BEAM, eyeRight, targetLoc);
 
         // Damage
         double damage = 8.0 + (evolutionStage * 0.5);
@@ -5911,7 +6072,7 @@ public class AITorqueEntity {
 
         // Sound and effects
         eyeLeft.getWorld().playSound(eyeLeft, Sound.ENTITY_GUARDIAN_ATTACK, 2.0f, 2.0f);
-        targetLoc.getWorld().spawnParticle(Particle.EXPLOSION, targetLoc, 3, 0.5, 0.5, 0.5, 0);
+        particles.emit(Particle.EXPLOSION, targetLoc, 3, 0.5, 0.5, 0.5, 0);
 
         sendChatMessage("§c§l[LASER EYES] §4Scorching vision!");
     }
@@ -5928,7 +6089,7 @@ public class AITorqueEntity {
         target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 60, 2, false, false));
 
         Location loc = target.getLocation();
-        loc.getWorld().spawnParticle(Particle.DAMAGE_INDICATOR, loc, 30, 0.5, 1, 0.5, 0.1);
+        particles.emit(Particle.DAMAGE_INDICATOR, loc, 30, 0.5, 1, 0.5, 0.1);
         loc.getWorld().playSound(loc, Sound.ENTITY_ZOMBIE_BREAK_WOODEN_DOOR, 2.0f, 0.5f);
 
         sendChatMessage("§4§l[TEETH BITE] §cRending fangs tear flesh!");
@@ -5943,14 +6104,20 @@ public class AITorqueEntity {
         Location targetLoc = target.getLocation();
 
         // Fire from each mask
-        for (ArmorStand mask : masks) {
-            if (mask == null || mask.isDead()) continue;
+        List<DisplayRig.Part> firingMasks = new ArrayList<>();
+        for (DisplayRig.Part mask : masks) {
+            if (mask == null || !mask.isValid()) continue;
+            firingMasks.add(mask);
+        }
 
-            // Fire 250 fireballs per mask = 1000 total fireballs!
-            for (int i = 0; i < 250; i++) {
-                plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                    Location maskLoc = mask.getLocation();
+        // Fire 250 fireballs per mask = 1000 total fireballs!
+        // 5 volleys of 50 per mask, one volley per tick
+        effectWheel.schedule(0, 5, 1, volley -> {
+            for (DisplayRig.Part mask : firingMasks) {
+                if (!mask.isValid()) continue;
+                Location maskLoc = mask.getLocation();
 
+                for (int i = 0; i < 50; i++) {
                     // Calculate trajectory with spread
                     Vector direction = targetLoc.toVector().subtract(maskLoc.toVector()).normalize();
                     direction.add(new Vector(
@@ -5963,10 +6130,9 @@ public class AITorqueEntity {
                     fireball.setDirection(direction);
                     fireball.setYield(0.5f); // Small explosions
                     fireball.setShooter(bukkitEntity);
-
-                }, i / 50L); // Spread over 5 seconds
+                }
             }
-        }
+        });
 
         // Epic sound
         bukkitEntity.getLocation().getWorld().playSound(
@@ -5980,8 +6146,8 @@ public class AITorqueEntity {
      * Fire shulker bullets from shoulder cannons
      */
     private void fireShulkerCannons(Player target) {
-        for (ArmorStand cannon : shulkerCannons) {
-            if (cannon == null || cannon.isDead()) continue;
+        for (DisplayRig.Part cannon : shulkerCannons) {
+            if (cannon == null || !cannon.isValid()) continue;
 
             Location cannonLoc = cannon.getLocation();
             ShulkerBullet bullet = (ShulkerBullet) cannonLoc.getWorld().spawnEntity(
@@ -5989,7 +6155,7 @@ public class AITorqueEntity {
             );
             bullet.setTarget(target);
 
-            cannonLoc.getWorld().spawnParticle(Particle.END_ROD, cannonLoc, 5, 0.1, 0.1, 0.1, 0.05);
+            particles.emit(Particle.END_ROD, cannonLoc, 5, 0.1, 0.1, 0.1, 0.05);
         }
 
         bukkitEntity.getLocation().getWorld().playSound(
@@ -6007,14 +6173,9 @@ public class AITorqueEntity {
      * AI Torque "talks" using cat sounds - verbal communication
      */
     private void startCatSoundCommunication() {
-        new BukkitRunnable() {
+        tickPipeline.register("cat-sounds", 1, new TickPipeline.Stage() {
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
                 // Talk every 5-10 seconds
                 if (tickCounter % (100 + (int)(Math.random() * 100)) != 0) return;
 
@@ -6055,7 +6216,7 @@ public class AITorqueEntity {
                         break;
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        });
     }
 
     // ========================================
@@ -6066,36 +6227,13 @@ public class AITorqueEntity {
      * Unleash obvious, devastating powers that are unmistakable
      */
     private void startObviousDevastatingPowers() {
-        new BukkitRunnable() {
-            private int groundSlamCooldown = 0;
-            private int lightningStormCooldown = 0;
-            private int meteorRainCooldown = 0;
-            private int blackHoleCooldown = 0;
-            private int timeFreezeCooldow = 0;
-            private int instantKillBeamCooldown = 0;
-            private int windPushCooldown = 0;
-            private int jumpAttackCooldown = 0;
-            private int castleSpawnCooldown = 0;
-            private int rubyDropCooldown = 0;
-            // NEW POWERS
-            private int voidRiftCooldown = 0;
-            private int summonArmyCooldown = 0;
-            private int gravityWellCooldown = 0;
-            private int laserStormCooldown = 0;
-            private int teleportStrikeCooldown = 0;
+        // Spawn magic aura ALWAYS (even when not hostile)
+        tickPipeline.register("magic-aura", 5, this::spawnMagicAura);
+
+        tickPipeline.register("devastating-powers", 1, new TickPipeline.Stage() {
 
             @Override
             public void run() {
-                if (bukkitEntity == null || bukkitEntity.isDead()) {
-                    cancel();
-                    return;
-                }
-
-                // Spawn magic aura ALWAYS (even when not hostile)
-                if (tickCounter % 5 == 0) {
-                    spawnMagicAura();
-                }
-
                 if (!isHostile) return;
 
                 Player target = findNearestPlayer();
@@ -6106,156 +6244,138 @@ public class AITorqueEntity {
                     return;
                 }
 
-                double distance = target.getLocation().distance(bukkitEntity.getLocation());
-
-                // Decrease cooldowns
-                groundSlamCooldown = Math.max(0, groundSlamCooldown - 1);
-                lightningStormCooldown = Math.max(0, lightningStormCooldown - 1);
-                meteorRainCooldown = Math.max(0, meteorRainCooldown - 1);
-                blackHoleCooldown = Math.max(0, blackHoleCooldown - 1);
-                timeFreezeCooldow = Math.max(0, timeFreezeCooldow - 1);
-                instantKillBeamCooldown = Math.max(0, instantKillBeamCooldown - 1);
-                windPushCooldown = Math.max(0, windPushCooldown - 1);
-                jumpAttackCooldown = Math.max(0, jumpAttackCooldown - 1);
-                castleSpawnCooldown = Math.max(0, castleSpawnCooldown - 1);
-                rubyDropCooldown = Math.max(0, rubyDropCooldown - 1);
-                // NEW POWERS COOLDOWNS
-                voidRiftCooldown = Math.max(0, voidRiftCooldown - 1);
-                summonArmyCooldown = Math.max(0, summonArmyCooldown - 1);
-                gravityWellCooldown = Math.max(0, gravityWellCooldown - 1);
-                laserStormCooldown = Math.max(0, laserStormCooldown - 1);
-                teleportStrikeCooldown = Math.max(0, teleportStrikeCooldown - 1);
+                double distance = targets().getNearestDistance();
 
                 // WIND PUSH - pushes players away
-                if (windPushCooldown == 0 && distance < 20) {
+                if (cooldowns.isReady("wind-push") && distance < 20) {
                     windPushPlayers();
-                    windPushCooldown = 150; // 7.5 seconds
+                    cooldowns.start("wind-push", scaledCooldown(150)); // 7.5 seconds
                 }
 
                 // JUMP ATTACK - with fire rings
-                if (jumpAttackCooldown == 0 && distance < 25) {
+                if (cooldowns.isReady("jump-attack") && distance < 25) {
                     performJumpAttack();
-                    jumpAttackCooldown = 250; // 12.5 seconds
+                    cooldowns.start("jump-attack", scaledCooldown(250)); // 12.5 seconds
                 }
 
                 // RISING CASTLE - spawn fortress
-                if (castleSpawnCooldown == 0 && evolutionStage >= 2) {
+                if (cooldowns.isReady("rising-castle") && evolutionStage >= 2) {
                     spawnRisingCastle();
-                    castleSpawnCooldown = 1200; // 60 seconds (once per minute)
+                    cooldowns.start("rising-castle", scaledCooldown(1200)); // 60 seconds (once per minute)
                 }
 
                 // RUBY OF WRATH - random drop
-                if (rubyDropCooldown == 0 && Math.random() < 0.1) { // 10% chance when cooldown ready
+                if (cooldowns.isReady("ruby-of-wrath") && Math.random() < 0.1) { // 10% chance when cooldown ready
                     dropRubyOfWrath();
-                    rubyDropCooldown = 600; // 30 seconds minimum between drops
+                    cooldowns.start("ruby-of-wrath", scaledCooldown(600)); // 30 seconds minimum between drops
                 }
 
                 // GROUND SLAM - creates massive crater
-                if (groundSlamCooldown == 0 && distance < 15) {
+                if (cooldowns.isReady("ground-slam") && distance < 15) {
                     performGroundSlam();
-                    groundSlamCooldown = 200; // 10 seconds
+                    cooldowns.start("ground-slam", scaledCooldown(200)); // 10 seconds
                 }
 
                 // LIGHTNING STORM - rain of lightning
-                if (lightningStormCooldown == 0) {
+                if (cooldowns.isReady("lightning-storm")) {
                     summonLightningStorm(target);
-                    lightningStormCooldown = 300; // 15 seconds
+                    cooldowns.start("lightning-storm", scaledCooldown(300)); // 15 seconds
                 }
 
                 // METEOR RAIN - fiery destruction
-                if (meteorRainCooldown == 0 && evolutionStage >= 3) {
+                if (cooldowns.isReady("meteor-rain") && evolutionStage >= 3) {
                     summonMeteorRain(target);
-                    meteorRainCooldown = 400; // 20 seconds
+                    cooldowns.start("meteor-rain", scaledCooldown(400)); // 20 seconds
                 }
 
                 // BLACK HOLE - pulls everything in
-                if (blackHoleCooldown == 0 && evolutionStage >= 5) {
+                if (cooldowns.isReady("black-hole") && evolutionStage >= 5) {
                     createBlackHole(target);
-                    blackHoleCooldown = 500; // 25 seconds
+                    cooldowns.start("black-hole", scaledCooldown(500)); // 25 seconds
                 }
 
                 // TIME FREEZE - stops all players
-                if (timeFreezeCooldow == 0 && evolutionStage >= 7) {
+                if (cooldowns.isReady("time-freeze") && evolutionStage >= 7) {
                     activateTimeFreeze();
-                    timeFreezeCooldow = 600; // 30 seconds
+                    cooldowns.start("time-freeze", scaledCooldown(600)); // 30 seconds
                 }
 
                 // INSTANT KILL BEAM - obvious devastating beam
-                if (instantKillBeamCooldown == 0 && evolutionStage >= 10) {
+                if (cooldowns.isReady("instant-kill-beam") && evolutionStage >= 10) {
                     fireInstantKillBeam(target);
-                    instantKillBeamCooldown = 800; // 40 seconds
+                    cooldowns.start("instant-kill-beam", scaledCooldown(800)); // 40 seconds
                 }
 
                 // === NEW DEVASTATING POWERS ===
 
                 // VOID RIFT - sucks in everything
-                if (voidRiftCooldown == 0 && distance < 30) {
+                if (cooldowns.isReady("void-rift") && distance < 30) {
                     openVoidRift(target);
-                    voidRiftCooldown = 350; // 17.5 seconds
+                    cooldowns.start("void-rift", scaledCooldown(350)); // 17.5 seconds
                 }
 
                 // SUMMON ARMY - spawn minions
-                if (summonArmyCooldown == 0 && evolutionStage >= 2) {
+                if (cooldowns.isReady("summon-army") && evolutionStage >= 2) {
                     summonHostileArmy();
-                    summonArmyCooldown = 800; // 40 seconds
+                    cooldowns.start("summon-army", scaledCooldown(800)); // 40 seconds
                 }
 
                 // GRAVITY WELL - reverse gravity
-                if (gravityWellCooldown == 0 && distance < 25) {
+                if (cooldowns.isReady("gravity-well") && distance < 25) {
                     createGravityWell(target);
-                    gravityWellCooldown = 400; // 20 seconds
+                    cooldowns.start("gravity-well", scaledCooldown(400)); // 20 seconds
                 }
 
                 // LASER STORM - hundreds of beams
-                if (laserStormCooldown == 0 && evolutionStage >= 4) {
+                if (cooldowns.isReady("laser-storm") && evolutionStage >= 4) {
                     unleashLaserStorm();
-                    laserStormCooldown = 300; // 15 seconds
+                    cooldowns.start("laser-storm", scaledCooldown(300)); // 15 seconds
                 }
 
                 // TELEPORT STRIKE - teleport behind each player
-                if (teleportStrikeCooldown == 0 && evolutionStage >= 6) {
+                if (cooldowns.isReady("teleport-strike") && evolutionStage >= 6) {
                     performTeleportStrike();
-                    teleportStrikeCooldown = 600; // 30 seconds
+                    cooldowns.start("teleport-strike", scaledCooldown(600)); // 30 seconds
                 }
 
                 // === APOCALYPTIC GOD-TIER POWERS ===
 
                 // REALITY SHATTER - destroy everything in 50 block radius
-                if (tickCounter % 1000 == 0 && evolutionStage >= 8) {
+                if (tickCounter % scaledCooldown(1000) == 0 && evolutionStage >= 8) {
                     unleashRealityShatter();
                 }
 
                 // METEOR RAIN - 100 meteors from the sky
-                if (tickCounter % 800 == 0 && evolutionStage >= 5) {
+                if (tickCounter % scaledCooldown(800) == 0 && evolutionStage >= 5) {
                     summonMeteorRain();
                 }
 
                 // TIME STOP - freeze all players for 10 seconds
-                if (tickCounter % 1200 == 0 && evolutionStage >= 10) {
+                if (tickCounter % scaledCooldown(1200) == 0 && evolutionStage >= 10) {
                     activateTimeStop();
                 }
 
                 // OMEGA BEAM - massive laser destruction
-                if (tickCounter % 900 == 0 && distance < 100) {
+                if (tickCounter % scaledCooldown(900) == 0 && distance < 100) {
                     fireOmegaBeam();
                 }
 
                 // APOCALYPSE - summon 50 bosses
-                if (tickCounter % 1500 == 0 && evolutionStage >= 12) {
+                if (tickCounter % scaledCooldown(1500) == 0 && evolutionStage >= 12) {
                     summonApocalypse();
                 }
 
                 // DEATH AURA - instant kill zone
-                if (tickCounter % 700 == 0 && evolutionStage >= 7) {
+                if (tickCounter % scaledCooldown(700) == 0 && evolutionStage >= 7) {
                     activateDeathAura();
                 }
 
                 // DIMENSION RIFTS - teleport trap portals
-                if (tickCounter % 1100 == 0 && evolutionStage >= 9) {
+                if (tickCounter % scaledCooldown(1100) == 0 && evolutionStage >= 9) {
                     openDimensionRifts();
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        });
     }
 
     /**
@@ -6267,22 +6387,39 @@ public class AITorqueEntity {
         sendChatMessage("§4§l§k|||§r §c§lGROUND SLAM! §4§l§k|||");
         bukkitEntity.getWorld().playSound(loc, Sound.ENTITY_CAT_HISS, 3.0f, 0.5f);
 
-        // Create crater
+        // Create crater (ground under the ring found from snapshots on a worker)
         int radius = 8 + evolutionStage;
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                double dist = Math.sqrt(x * x + z * z);
-                if (dist <= radius) {
-                    Location blockLoc = loc.clone().add(x, -1, z);
-                    if (blockLoc.getBlock().getType() != Material.BEDROCK) {
-                        blockLoc.getBlock().setType(Material.AIR);
+        World world = loc.getWorld();
+        int bx = loc.getBlockX();
+        int floorY = (int) Math.floor(loc.getY() - 1);
+        int bz = loc.getBlockZ();
+        TerrainSnapshot terrain = plugin.getTerrainCache().capture(loc, radius);
+
+        compute.submit("ground-slam", () -> {
+            List<Long> ground = new ArrayList<>();
+            for (int x = -radius; x <= radius; x++) {
+                for (int z = -radius; z <= radius; z++) {
+                    if (x * x + z * z > radius * radius) continue;
+
+                    Material type = terrain.getType(bx + x, floorY, bz + z);
+                    if (!type.isAir() && type != Material.BEDROCK) {
+                        ground.add(BlockKey.pack(bx + x, floorY, bz + z));
                     }
                 }
             }
-        }
+            return ground;
+        }, ground -> {
+            for (long key : ground) {
+                org.bukkit.block.Block block = world.getBlockAt(BlockKey.x(key), BlockKey.y(key), BlockKey.z(key));
+                if (block.getType() != Material.BEDROCK) {
+                    block.setType(Material.AIR);
+                    plugin.getSurfaceCache().invalidate(world, block.getX(), block.getZ());
+                }
+            }
+        });
 
         // Shockwave damage with CHANCE DAMAGE
-        Collection<Entity> nearby = loc.getWorld().getNearbyEntities(loc, radius, radius, radius);
+        Collection<Entity> nearby = nearbyEntities(loc, radius, radius, radius);
         for (Entity entity : nearby) {
             if (entity instanceof Player) {
                 Player player = (Player) entity;
@@ -6295,7 +6432,7 @@ public class AITorqueEntity {
         }
 
         // Epic visual
-        loc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, loc, 50, radius, 2, radius, 0.5);
+        particles.emit(Particle.EXPLOSION_EMITTER, loc, 50, radius, 2, radius, 0.5);
         loc.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 5.0f, 0.5f);
     }
 
@@ -6310,7 +6447,7 @@ public class AITorqueEntity {
 
         // Strike 20 lightning bolts in area
         for (int i = 0; i < 20; i++) {
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            runLater("summon-lightning-storm", () -> {
                 Location strikeLoc = center.clone().add(
                     (Math.random() - 0.5) * 20,
                     0,
@@ -6332,7 +6469,7 @@ public class AITorqueEntity {
 
         // Spawn 30 fireballs falling from sky
         for (int i = 0; i < 30; i++) {
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            runLater("summon-meteor-rain", () -> {
                 Location meteorLoc = center.clone().add(
                     (Math.random() - 0.5) * 30,
                     0,
@@ -6357,7 +6494,7 @@ public class AITorqueEntity {
         Location blackHoleLoc = target.getLocation().clone().add(0, 3, 0);
 
         // Black hole effect for 10 seconds
-        new BukkitRunnable() {
+        runTimer("create-black-hole", new BossTask() {
             int duration = 200; // 10 seconds
 
             @Override
@@ -6368,7 +6505,7 @@ public class AITorqueEntity {
                 }
 
                 // Pull everything toward black hole
-                Collection<Entity> nearby = blackHoleLoc.getWorld().getNearbyEntities(blackHoleLoc, 20, 20, 20);
+                Collection<Entity> nearby = nearbyEntities(blackHoleLoc, 20, 20, 20);
                 for (Entity entity : nearby) {
                     if (entity.equals(bukkitEntity)) continue;
 
@@ -6382,19 +6519,19 @@ public class AITorqueEntity {
                         }
                     } else {
                         pull.normalize().multiply(1.5);
-                        entity.setVelocity(pull);
+                        forces.steer(entity, pull);
                     }
                 }
 
                 // Black particles
-                blackHoleLoc.getWorld().spawnParticle(Particle.SMOKE, blackHoleLoc, 50, 2, 2, 2, 0.1);
-                blackHoleLoc.getWorld().spawnParticle(Particle.PORTAL, blackHoleLoc, 30, 1, 1, 1, 2);
+                particles.emit(Particle.SMOKE, blackHoleLoc, 50, 2, 2, 2, 0.1);
+                particles.emit(Particle.PORTAL, blackHoleLoc, 30, 1, 1, 1, 2);
 
                 if (duration % 20 == 0) {
                     blackHoleLoc.getWorld().playSound(blackHoleLoc, Sound.BLOCK_PORTAL_AMBIENT, 2.0f, 0.5f);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
     }
 
     /**
@@ -6416,7 +6553,7 @@ public class AITorqueEntity {
 
         // Visual effect
         Location loc = bukkitEntity.getLocation();
-        loc.getWorld().spawnParticle(Particle.END_ROD, loc, 200, 30, 30, 30, 0.5);
+        particles.emit(Particle.END_ROD, loc, 200, 30, 30, 30, 0.5);
         loc.getWorld().playSound(loc, Sound.BLOCK_BEACON_ACTIVATE, 5.0f, 0.5f);
     }
 
@@ -6436,17 +6573,14 @@ public class AITorqueEntity {
         Location targetLoc = target.getLocation().clone().add(0, 1, 0);
 
         // Draw MASSIVE beam
-        for (int i = 0; i < 20; i++) {
-            drawBeam(eyeLoc, targetLoc, Particle.END_ROD, null);
-            drawBeam(eyeLoc, targetLoc, Particle.FLAME, null);
-        }
+        beams.draw(DEATH_BEAM, eyeLoc, targetLoc);
 
         // CHANCE DAMAGE - 50% instant kill, 50% only 1 heart!
         target.damage(calculateChanceDamage(1000.0), bukkitEntity);
         target.setFireTicks(200);
 
         // Explosion at impact
-        targetLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, targetLoc, 20, 2, 2, 2, 0.5);
+        particles.emit(Particle.EXPLOSION_EMITTER, targetLoc, 20, 2, 2, 2, 0.5);
         targetLoc.getWorld().playSound(targetLoc, Sound.ENTITY_GENERIC_EXPLODE, 5.0f, 0.5f);
         targetLoc.getWorld().playSound(targetLoc, Sound.ENTITY_ENDER_DRAGON_DEATH, 3.0f, 0.5f);
 
@@ -6497,8 +6631,8 @@ public class AITorqueEntity {
         loc.getWorld().dropItem(loc.clone().add(0, 2, 0), ruby);
 
         sendChatMessage("§4§l[AI TORQUE] §c§lA RUBY OF WRATH has been dropped!");
-        loc.getWorld().spawnParticle(Particle.END_ROD, loc, 100, 2, 2, 2, 0.3);
-        loc.getWorld().spawnParticle(Particle.FLAME, loc, 50, 1, 1, 1, 0.1);
+        particles.emit(Particle.END_ROD, loc, 100, 2, 2, 2, 0.3);
+        particles.emit(Particle.FLAME, loc, 50, 1, 1, 1, 0.1);
         loc.getWorld().playSound(loc, Sound.BLOCK_BEACON_ACTIVATE, 5.0f, 2.0f);
     }
 
@@ -6511,7 +6645,7 @@ public class AITorqueEntity {
         sendChatMessage("§b§l[AI TORQUE] §f§lFEEL THE STORM!");
 
         // Push all nearby players away (even those who haven't attacked)
-        Collection<Entity> nearby = loc.getWorld().getNearbyEntities(loc, 30, 30, 30);
+        Collection<Entity> nearby = nearbyEntities(loc, 30, 30, 30);
         for (Entity entity : nearby) {
             if (entity instanceof Player) {
                 Player player = (Player) entity;
@@ -6524,14 +6658,14 @@ public class AITorqueEntity {
                 player.setVelocity(direction);
 
                 // Wind sound and particles
-                player.getWorld().spawnParticle(Particle.CLOUD, player.getLocation(), 30, 1, 1, 1, 0.2);
+                particles.emit(Particle.CLOUD, player.getLocation(), 30, 1, 1, 1, 0.2);
                 player.playSound(player.getLocation(), Sound.ENTITY_PHANTOM_FLAP, 2.0f, 0.5f);
             }
         }
 
         // Visual effect at AI Torque
-        loc.getWorld().spawnParticle(Particle.CLOUD, loc, 200, 5, 2, 5, 0.3);
-        loc.getWorld().spawnParticle(Particle.SWEEP_ATTACK, loc, 50, 5, 2, 5, 0.1);
+        particles.emit(Particle.CLOUD, loc, 200, 5, 2, 5, 0.3);
+        particles.emit(Particle.SWEEP_ATTACK, loc, 50, 5, 2, 5, 0.1);
         loc.getWorld().playSound(loc, Sound.ENTITY_ENDER_DRAGON_FLAP, 5.0f, 0.5f);
     }
 
@@ -6547,11 +6681,11 @@ public class AITorqueEntity {
         bukkitEntity.setVelocity(new Vector(0, 3.0, 0)); // High jump
 
         // Particles during jump
-        startLoc.getWorld().spawnParticle(Particle.FLAME, startLoc, 100, 1, 0.5, 1, 0.2);
+        particles.emit(Particle.FLAME, startLoc, 100, 1, 0.5, 1, 0.2);
         startLoc.getWorld().playSound(startLoc, Sound.ENTITY_ENDER_DRAGON_GROWL, 3.0f, 1.5f);
 
         // Schedule fire rings on landing (after 1.5 seconds)
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+        runLater("perform-jump-attack", () -> {
             Location landLoc = bukkitEntity.getLocation();
 
             // Create 3 expanding fire rings
@@ -6559,13 +6693,13 @@ public class AITorqueEntity {
                 final int ringRadius = ring * 5;
                 final int ringIndex = ring;
 
-                plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+                runLater("perform-jump-attack", () -> {
                     createFireRing(landLoc, ringRadius);
                 }, ringIndex * 10L); // Stagger the rings
             }
 
             // Impact damage
-            Collection<Entity> nearby = landLoc.getWorld().getNearbyEntities(landLoc, 15, 5, 15);
+            Collection<Entity> nearby = nearbyEntities(landLoc, 15, 5, 15);
             for (Entity entity : nearby) {
                 if (entity instanceof Player) {
                     Player player = (Player) entity;
@@ -6577,7 +6711,7 @@ public class AITorqueEntity {
             }
 
             // Impact effects
-            landLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, landLoc, 20, 3, 1, 3, 0.1);
+            particles.emit(Particle.EXPLOSION_EMITTER, landLoc, 20, 3, 1, 3, 0.1);
             landLoc.getWorld().playSound(landLoc, Sound.ENTITY_GENERIC_EXPLODE, 5.0f, 0.5f);
 
         }, 30L); // 1.5 seconds
@@ -6587,20 +6721,23 @@ public class AITorqueEntity {
      * Create a ring of fire at specified radius
      */
     private void createFireRing(Location center, int radius) {
+        World world = center.getWorld();
+
         // Draw circle of fire
-        for (int angle = 0; angle < 360; angle += 10) {
-            double radians = Math.toRadians(angle);
-            double x = center.getX() + (radius * Math.cos(radians));
-            double z = center.getZ() + (radius * Math.sin(radians));
-            Location fireLoc = new Location(center.getWorld(), x, center.getY(), z);
+        for (int i = 0; i < 36; i++) {
+            int angle = GeometryTables.ringStep(i, 36);
+            double x = center.getX() + (radius * GeometryTables.cos(angle));
+            double z = center.getZ() + (radius * GeometryTables.sin(angle));
 
             // Set fire blocks
-            if (fireLoc.getBlock().getType() == Material.AIR) {
-                fireLoc.getBlock().setType(Material.FIRE);
+            org.bukkit.block.Block fire = world.getBlockAt(Location.locToBlock(x), center.getBlockY(), Location.locToBlock(z));
+            if (fire.getType() == Material.AIR) {
+                fire.setType(Material.FIRE);
+                plugin.getSurfaceCache().invalidate(world, fire.getX(), fire.getZ());
             }
 
             // Particles
-            center.getWorld().spawnParticle(Particle.FLAME, fireLoc.clone().add(0, 0.5, 0), 5, 0.2, 0.5, 0.2, 0.05);
+            particles.emit(Particle.FLAME, world, x, center.getY() + 0.5, z, 5, 0.2, 0.5, 0.2, 0.05);
         }
 
         center.getWorld().playSound(center, Sound.ITEM_FIRECHARGE_USE, 3.0f, 1.0f);
@@ -6614,10 +6751,10 @@ public class AITorqueEntity {
 
         // Multiple layers of magic particles
         // Purple magic layer
-        loc.getWorld().spawnParticle(Particle.WITCH, loc.clone().add(0, 1, 0), 10, 1, 1, 1, 0.1);
+        particles.emit(ParticleBudget.Priority.AMBIENT, Particle.WITCH, loc.clone().add(0, 1, 0), 10, 1, 1, 1, 0.1);
 
         // Enchanting table particles
-        loc.getWorld().spawnParticle(Particle.ENCHANT, loc.clone().add(0, 1.5, 0), 15, 1.5, 1, 1.5, 1);
+        particles.emit(ParticleBudget.Priority.AMBIENT, Particle.ENCHANT, loc.clone().add(0, 1.5, 0), 15, 1.5, 1, 1.5, 1);
 
         // Dragon breath swirl
         for (int i = 0; i < 3; i++) {
@@ -6627,11 +6764,11 @@ public class AITorqueEntity {
             double y = 1 + (Math.sin(tickCounter * 0.05 + i) * 0.5);
 
             Location particleLoc = loc.clone().add(x, y, z);
-            loc.getWorld().spawnParticle(Particle.DRAGON_BREATH, particleLoc, 1, 0, 0, 0, 0);
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.DRAGON_BREATH, particleLoc, 1, 0, 0, 0, 0);
         }
 
         // Soul particles rising
-        loc.getWorld().spawnParticle(Particle.SOUL, loc, 5, 0.5, 0, 0.5, 0.05);
+        particles.emit(ParticleBudget.Priority.AMBIENT, Particle.SOUL, loc, 5, 0.5, 0, 0.5, 0.05);
 
         // End rod particles orbiting
         for (int i = 0; i < 4; i++) {
@@ -6640,7 +6777,7 @@ public class AITorqueEntity {
             double z = Math.sin(angle) * 2;
 
             Location orbLoc = loc.clone().add(x, 1.5, z);
-            loc.getWorld().spawnParticle(Particle.END_ROD, orbLoc, 1, 0, 0, 0, 0.01);
+            particles.emit(ParticleBudget.Priority.AMBIENT, Particle.END_ROD, orbLoc, 1, 0, 0, 0, 0.01);
         }
     }
 
@@ -6673,7 +6810,7 @@ public class AITorqueEntity {
 
         // Sound and effects
         center.getWorld().playSound(center, Sound.BLOCK_END_PORTAL_SPAWN, 5.0f, 0.5f);
-        center.getWorld().spawnParticle(Particle.PORTAL, center, 200, 10, 5, 10, 2);
+        particles.emit(Particle.PORTAL, center, 200, 10, 5, 10, 2);
     }
 
     /**
@@ -6681,33 +6818,39 @@ public class AITorqueEntity {
      */
     private void buildCastleTower(Location base, int height) {
         World world = base.getWorld();
+        org.bukkit.block.data.BlockData obsidian = Material.OBSIDIAN.createBlockData();
+        org.bukkit.block.data.BlockData blackstone = Material.BLACKSTONE.createBlockData();
 
         // Animate tower rising from ground
         for (int y = 0; y < height; y++) {
             final int currentY = y;
 
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            runLater("build-castle-tower", () -> {
                 // 3x3 tower
+                BlockEditQueue.Batch layer = new BlockEditQueue.Batch(world);
                 for (int x = -1; x <= 1; x++) {
                     for (int z = -1; z <= 1; z++) {
-                        Location blockLoc = base.clone().add(x, currentY, z);
+                        int blockX = base.getBlockX() + x;
+                        int blockY = base.getBlockY() + currentY;
+                        int blockZ = base.getBlockZ() + z;
 
                         // Walls (edges)
                         if (x == -1 || x == 1 || z == -1 || z == 1) {
                             if (currentY == height - 1) {
                                 // Battlements on top
                                 if ((x + z) % 2 == 0) {
-                                    blockLoc.getBlock().setType(Material.BLACKSTONE);
+                                    layer.set(blockX, blockY, blockZ, blackstone);
                                 }
                             } else {
-                                blockLoc.getBlock().setType(Material.OBSIDIAN);
+                                layer.set(blockX, blockY, blockZ, obsidian);
                             }
                         }
                     }
                 }
+                blockEdits.submit(layer);
 
                 // Particles as it rises
-                world.spawnParticle(Particle.SMOKE, base.clone().add(0, currentY, 0), 20, 1.5, 0.5, 1.5, 0.05);
+                particles.emit(Particle.SMOKE, base.clone().add(0, currentY, 0), 20, 1.5, 0.5, 1.5, 0.05);
                 world.playSound(base.clone().add(0, currentY, 0), Sound.BLOCK_STONE_PLACE, 1.0f, 0.8f);
 
             }, y * 2L); // 0.1 second per block
@@ -6718,18 +6861,10 @@ public class AITorqueEntity {
      * Build castle platform
      */
     private void buildCastlePlatform(Location center, int radius) {
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            for (int x = -radius; x <= radius; x++) {
-                for (int z = -radius; z <= radius; z++) {
-                    double distance = Math.sqrt(x * x + z * z);
-                    if (distance <= radius) {
-                        Location blockLoc = center.clone().add(x, 0, z);
-                        blockLoc.getBlock().setType(Material.OBSIDIAN);
-                    }
-                }
-            }
+        runLater("build-castle-platform", () -> {
+            blockEdits.fill(center.getWorld(), BlockShape.disc(center, radius), Material.OBSIDIAN.createBlockData());
 
-            center.getWorld().spawnParticle(Particle.PORTAL, center, 100, radius, 1, radius, 1);
+            particles.emit(Particle.PORTAL, center, 100, radius, 1, radius, 1);
 
         }, 20L);
     }
@@ -6751,57 +6886,54 @@ public class AITorqueEntity {
         sendChatMessage("§0§l[AI TORQUE] §5§lTHE VOID CALLS!");
 
         // Create visual rift effect
-        for (int i = 0; i < 60; i++) {
-            final int tick = i;
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                // Spiral portal effect
-                for (int angle = 0; angle < 360; angle += 30) {
-                    double radians = Math.toRadians(angle + (tick * 20));
-                    double radius = 3 - (tick * 0.05);
-                    if (radius > 0) {
-                        double x = Math.cos(radians) * radius;
-                        double z = Math.sin(radians) * radius;
-                        Location particleLoc = riftLoc.clone().add(x, 0, z);
-
-                        riftLoc.getWorld().spawnParticle(Particle.PORTAL, particleLoc, 5, 0, 0, 0, 2);
-                        riftLoc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, particleLoc, 3, 0, 0, 0, 1);
-                        riftLoc.getWorld().spawnParticle(Particle.SMOKE, particleLoc, 2, 0, 0, 0, 0.1);
-                    }
+        effectWheel.schedule(0, 60, 1, tick -> {
+            // Spiral portal effect
+            double radius = 3 - (tick * 0.05);
+            if (radius > 0) {
+                int spin = GeometryTables.step(tick * 20);
+                for (int i = 0; i < 12; i++) {
+                    int angle = GeometryTables.ringStep(i, 12) + spin;
+                    double x = riftLoc.getX() + GeometryTables.cos(angle) * radius;
+                    double z = riftLoc.getZ() + GeometryTables.sin(angle) * radius;
+
+                    particles.emit(Particle.PORTAL, riftLoc.getWorld(), x, riftLoc.getY(), z, 5, 0, 0, 0, 2);
+                    particles.emit(Particle.REVERSE_PORTAL, riftLoc.getWorld(), x, riftLoc.getY(), z, 3, 0, 0, 0, 1);
+                    particles.emit(Particle.SMOKE, riftLoc.getWorld(), x, riftLoc.getY(), z, 2, 0, 0, 0, 0.1);
                 }
+            }
 
-                // Pull players toward rift
-                Collection<Entity> nearby = riftLoc.getWorld().getNearbyEntities(riftLoc, 20, 20, 20);
-                for (Entity entity : nearby) {
-                    if (entity instanceof Player) {
-                        Player player = (Player) entity;
-                        if (playersThatDamagedMe.contains(player.getUniqueId())) {
-                            Vector pullDirection = riftLoc.toVector().subtract(player.getLocation().toVector()).normalize();
-                            pullDirection.multiply(0.5);
-                            player.setVelocity(pullDirection);
+            // Pull players toward rift
+            Collection<Entity> nearby = nearbyEntities(riftLoc, 20, 20, 20);
+            for (Entity entity : nearby) {
+                if (entity instanceof Player) {
+                    Player player = (Player) entity;
+                    if (playersThatDamagedMe.contains(player.getUniqueId())) {
+                        Vector pullDirection = riftLoc.toVector().subtract(player.getLocation().toVector()).normalize();
+                        pullDirection.multiply(0.5);
+                        forces.steer(player, pullDirection);
 
-                            // Damage players close to rift
-                            if (player.getLocation().distance(riftLoc) < 5) {
-                                player.damage(calculateChanceDamage(10.0), bukkitEntity);
-                            }
+                        // Damage players close to rift
+                        if (player.getLocation().distance(riftLoc) < 5) {
+                            player.damage(calculateChanceDamage(10.0), bukkitEntity);
                         }
                     }
                 }
+            }
 
-                // Sound effects
-                if (tick % 10 == 0) {
-                    riftLoc.getWorld().playSound(riftLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 3.0f, 0.5f);
-                }
+            // Sound effects
+            if (tick % 10 == 0) {
+                riftLoc.getWorld().playSound(riftLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 3.0f, 0.5f);
+            }
 
-            }, tick);
-        }
+        });
 
         // Final explosion
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            riftLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, riftLoc, 30, 3, 3, 3, 0.5);
+        runLater("open-void-rift", () -> {
+            particles.emit(Particle.EXPLOSION_EMITTER, riftLoc, 30, 3, 3, 3, 0.5);
             riftLoc.getWorld().playSound(riftLoc, Sound.ENTITY_GENERIC_EXPLODE, 5.0f, 0.5f);
             riftLoc.getWorld().playSound(riftLoc, Sound.ENTITY_WITHER_DEATH, 3.0f, 0.5f);
 
-            Collection<Entity> finalNearby = riftLoc.getWorld().getNearbyEntities(riftLoc, 8, 8, 8);
+            Collection<Entity> finalNearby = nearbyEntities(riftLoc, 8, 8, 8);
             for (Entity entity : finalNearby) {
                 if (entity instanceof Player) {
                     Player player = (Player) entity;
@@ -6862,13 +6994,13 @@ public class AITorqueEntity {
                 }
 
                 // Spawn effects
-                spawnLoc.getWorld().spawnParticle(Particle.FLAME, spawnLoc, 30, 0.5, 1, 0.5, 0.1);
-                spawnLoc.getWorld().spawnParticle(Particle.SMOKE, spawnLoc, 20, 0.5, 1, 0.5, 0.05);
+                particles.emit(Particle.FLAME, spawnLoc, 30, 0.5, 1, 0.5, 0.1);
+                particles.emit(Particle.SMOKE, spawnLoc, 20, 0.5, 1, 0.5, 0.05);
             }
         }
 
         loc.getWorld().playSound(loc, Sound.ENTITY_WITHER_SPAWN, 5.0f, 0.8f);
-        loc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, loc, 20, 5, 2, 5, 0.3);
+        particles.emit(Particle.EXPLOSION_EMITTER, loc, 20, 5, 2, 5, 0.3);
     }
 
     /**
@@ -6884,43 +7016,40 @@ public class AITorqueEntity {
         sendChatMessage("§d§l[AI TORQUE] §5§lGRAVITY REVERSAL!");
 
         // Create gravity well effect for 5 seconds
-        for (int i = 0; i < 100; i++) {
-            final int tick = i;
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                // Visual effects
-                for (int angle = 0; angle < 360; angle += 45) {
-                    double radians = Math.toRadians(angle);
-                    double x = Math.cos(radians) * 8;
-                    double z = Math.sin(radians) * 8;
-                    Location particleLoc = wellLoc.clone().add(x, 0, z);
-
-                    wellLoc.getWorld().spawnParticle(Particle.END_ROD, particleLoc, 1, 0, 5, 0, 0.2);
-                    wellLoc.getWorld().spawnParticle(Particle.WITCH, particleLoc, 2, 0.2, 0.5, 0.2, 0);
-                }
+        effectWheel.schedule(0, 100, 1, tick -> {
+            // Visual effects
+            for (int angle = 0; angle < 360; angle += 45) {
+                double radians = Math.toRadians(angle);
+                double x = Math.cos(radians) * 8;
+                double z = Math.sin(radians) * 8;
+                Location particleLoc = wellLoc.clone().add(x, 0, z);
+
+                particles.emit(Particle.END_ROD, particleLoc, 1, 0, 5, 0, 0.2);
+                particles.emit(Particle.WITCH, particleLoc, 2, 0.2, 0.5, 0.2, 0);
+            }
 
-                // Reverse gravity for players in range
-                Collection<Entity> nearby = wellLoc.getWorld().getNearbyEntities(wellLoc, 10, 10, 10);
-                for (Entity entity : nearby) {
-                    if (entity instanceof Player) {
-                        Player player = (Player) entity;
-                        if (playersThatDamagedMe.contains(player.getUniqueId())) {
-                            // Launch upward
-                            player.setVelocity(new Vector(0, 0.8, 0));
+            // Reverse gravity for players in range
+            Collection<Entity> nearby = nearbyEntities(wellLoc, 10, 10, 10);
+            for (Entity entity : nearby) {
+                if (entity instanceof Player) {
+                    Player player = (Player) entity;
+                    if (playersThatDamagedMe.contains(player.getUniqueId())) {
+                        // Launch upward
+                        player.setVelocity(new Vector(0, 0.8, 0));
 
-                            // Damage when high up
-                            if (player.getLocation().getY() > wellLoc.getY() + 10) {
-                                player.damage(calculateChanceDamage(5.0), bukkitEntity);
-                            }
+                        // Damage when high up
+                        if (player.getLocation().getY() > wellLoc.getY() + 10) {
+                            player.damage(calculateChanceDamage(5.0), bukkitEntity);
                         }
                     }
                 }
+            }
 
-                if (tick % 20 == 0) {
-                    wellLoc.getWorld().playSound(wellLoc, Sound.BLOCK_BEACON_AMBIENT, 2.0f, 2.0f);
-                }
+            if (tick % 20 == 0) {
+                wellLoc.getWorld().playSound(wellLoc, Sound.BLOCK_BEACON_AMBIENT, 2.0f, 2.0f);
+            }
 
-            }, tick);
-        }
+        });
     }
 
     /**
@@ -6932,43 +7061,32 @@ public class AITorqueEntity {
         sendChatMessage("§c§l[AI TORQUE] §6§l✦ LASER STORM ✦");
 
         // Fire 50 laser beams in random directions
-        for (int i = 0; i < 50; i++) {
-            final int beam = i;
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                // Random direction
-                double yaw = Math.random() * 360;
-                double pitch = -45 + (Math.random() * 90);
-
-                Vector direction = new Vector(
-                    -Math.sin(Math.toRadians(yaw)) * Math.cos(Math.toRadians(pitch)),
-                    -Math.sin(Math.toRadians(pitch)),
-                    Math.cos(Math.toRadians(yaw)) * Math.cos(Math.toRadians(pitch))
-                ).normalize();
-
-                // Draw laser beam
-                for (int dist = 0; dist < 30; dist++) {
-                    Location beamLoc = loc.clone().add(direction.clone().multiply(dist));
-
-                    beamLoc.getWorld().spawnParticle(Particle.END_ROD, beamLoc, 1, 0, 0, 0, 0);
-                    beamLoc.getWorld().spawnParticle(Particle.FLAME, beamLoc, 1, 0.1, 0.1, 0.1, 0);
-
-                    // Damage players hit by laser
-                    Collection<Entity> hit = beamLoc.getWorld().getNearbyEntities(beamLoc, 0.5, 0.5, 0.5);
-                    for (Entity entity : hit) {
-                        if (entity instanceof Player) {
-                            Player player = (Player) entity;
-                            if (playersThatDamagedMe.contains(player.getUniqueId())) {
-                                player.damage(calculateChanceDamage(8.0), bukkitEntity);
-                                player.setFireTicks(40);
-                            }
-                        }
-                    }
+        effectWheel.schedule(0, 50, 2, beam -> {
+            // Random direction
+            double yaw = Math.random() * 360;
+            double pitch = -45 + (Math.random() * 90);
+
+            Vector direction = new Vector(
+                -Math.sin(Math.toRadians(yaw)) * Math.cos(Math.toRadians(pitch)),
+                -Math.sin(Math.toRadians(pitch)),
+                Math.cos(Math.toRadians(yaw)) * Math.cos(Math.toRadians(pitch))
+            ).normalize();
+
+            // Draw laser beam
+            beams.ray(STORM_LASER, loc, direction, 30);
+
+            // Damage players hit by laser
+            for (BeamTracer.Hit hit : traceBeam(loc, direction, 29, 0.5, EntitySnapshot.PLAYER)) {
+                Player player = (Player) hit.getEntity();
+                if (playersThatDamagedMe.contains(player.getUniqueId())) {
+                    player.damage(calculateChanceDamage(8.0), bukkitEntity);
+                    player.setFireTicks(40);
                 }
+            }
 
-                loc.getWorld().playSound(loc, Sound.ENTITY_BLAZE_SHOOT, 1.0f, 2.0f);
+            loc.getWorld().playSound(loc, Sound.ENTITY_BLAZE_SHOOT, 1.0f, 2.0f);
 
-            }, beam * 2L);
-        }
+        });
     }
 
     /**
@@ -6979,7 +7097,7 @@ public class AITorqueEntity {
 
         sendChatMessage("§5§l[AI TORQUE] §d§lNOWHERE TO HIDE!");
 
-        Collection<Entity> allPlayers = originalLoc.getWorld().getNearbyEntities(originalLoc, 50, 50, 50);
+        Collection<Entity> allPlayers = nearbyEntities(originalLoc, 50, 50, 50);
         int strikeDelay = 0;
 
         for (Entity entity : allPlayers) {
@@ -6989,18 +7107,18 @@ public class AITorqueEntity {
                 if (playersThatDamagedMe.contains(player.getUniqueId())) {
                     final int delay = strikeDelay;
 
-                    plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+                    runLater("perform-teleport-strike", () -> {
                         // Teleport behind player
                         Vector direction = player.getLocation().getDirection().multiply(-2);
                         Location behindPlayer = player.getLocation().add(direction);
 
                         // Teleport effects
-                        originalLoc.getWorld().spawnParticle(Particle.PORTAL, bukkitEntity.getLocation(), 100, 1, 1, 1, 2);
-                        bukkitEntity.teleport(behindPlayer);
+                        particles.emit(Particle.PORTAL, bukkitEntity.getLocation(), 100, 1, 1, 1, 2);
+                        bukkitEntity.teleport(behindPlayer, TeleportFlag.EntityState.RETAIN_PASSENGERS);
                         location = behindPlayer;
 
-                        behindPlayer.getWorld().spawnParticle(Particle.PORTAL, behindPlayer, 100, 1, 1, 1, 2);
-                        behindPlayer.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, behindPlayer, 5, 0, 0, 0, 0);
+                        particles.emit(Particle.PORTAL, behindPlayer, 100, 1, 1, 1, 2);
+                        particles.emit(Particle.EXPLOSION_EMITTER, behindPlayer, 5, 0, 0, 0, 0);
                         behindPlayer.getWorld().playSound(behindPlayer, Sound.ENTITY_ENDERMAN_TELEPORT, 3.0f, 0.5f);
 
                         // Strike the player
@@ -7017,11 +7135,11 @@ public class AITorqueEntity {
         }
 
         // Return to original location after all strikes
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            originalLoc.getWorld().spawnParticle(Particle.PORTAL, bukkitEntity.getLocation(), 100, 1, 1, 1, 2);
-            bukkitEntity.teleport(originalLoc);
+        runLater("perform-teleport-strike", () -> {
+            particles.emit(Particle.PORTAL, bukkitEntity.getLocation(), 100, 1, 1, 1, 2);
+            bukkitEntity.teleport(originalLoc, TeleportFlag.EntityState.RETAIN_PASSENGERS);
             location = originalLoc;
-            originalLoc.getWorld().spawnParticle(Particle.PORTAL, originalLoc, 100, 1, 1, 1, 2);
+            particles.emit(Particle.PORTAL, originalLoc, 100, 1, 1, 1, 2);
         }, strikeDelay + 20L);
     }
 
@@ -7039,7 +7157,7 @@ public class AITorqueEntity {
 
         // Visual effect - massive explosion
         for (int i = 0; i < 500; i++) {
-            loc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER,
+            particles.emit(Particle.EXPLOSION_EMITTER,
                 loc.clone().add(
                     (Math.random() - 0.5) * 100,
                     (Math.random() - 0.5) * 100,
@@ -7048,7 +7166,7 @@ public class AITorqueEntity {
         }
 
         // Kill ALL mobs in 100 block radius
-        Collection<Entity> entities = loc.getWorld().getNearbyEntities(loc, 100, 100, 100);
+        Collection<Entity> entities = nearbyEntities(loc, 100, 100, 100);
         int killCount = 0;
         for (Entity entity : entities) {
             if (entity instanceof LivingEntity && !(entity instanceof Player)) {
@@ -7062,20 +7180,13 @@ public class AITorqueEntity {
 
         sendChatMessage("§4[AI TORQUE] §c" + killCount + " BEINGS ERASED FROM EXISTENCE!");
 
-        // Create massive crater - destroy blocks in sphere
+        // Create massive crater - 30% of the sphere picked on a worker, carved over several ticks
         int radius = 50;
-        for (int x = -radius; x <= radius; x++) {
-            for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    if (x*x + y*y + z*z <= radius*radius) {
-                        Location blockLoc = loc.clone().add(x, y, z);
-                        if (Math.random() < 0.3) { // 30% of blocks destroyed
-                            blockLoc.getBlock().setType(org.bukkit.Material.AIR);
-                        }
-                    }
-                }
-            }
-        }
+        World world = loc.getWorld();
+        BlockShape crater = BlockShape.sphere(loc, radius)
+            .filter(key -> java.util.concurrent.ThreadLocalRandom.current().nextDouble() < 0.3);
+        org.bukkit.block.data.BlockData air = Material.AIR.createBlockData();
+        compute.submit("reality-shatter", () -> new BlockEditQueue.Batch(world).fill(crater, air), blockEdits::submit);
     }
 
     /**
@@ -7085,31 +7196,28 @@ public class AITorqueEntity {
         Location loc = bukkitEntity.getLocation();
         sendChatMessage("§6§l[AI TORQUE] §c§lTHE HEAVENS BURN!");
 
-        for (int i = 0; i < 100; i++) {
-            final int delay = i * 2; // 0.1 second apart
-
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                // Random location in 80 block radius
-                double angle = Math.random() * 2 * Math.PI;
-                double distance = Math.random() * 80;
-                Location meteorLoc = loc.clone().add(
-                    Math.cos(angle) * distance,
-                    80, // High in sky
-                    Math.sin(angle) * distance
-                );
+        // 0.1 second apart
+        effectWheel.schedule(0, 100, 2, step -> {
+            // Random location in 80 block radius
+            double angle = Math.random() * 2 * Math.PI;
+            double distance = Math.random() * 80;
+            Location meteorLoc = loc.clone().add(
+                Math.cos(angle) * distance,
+                80, // High in sky
+                Math.sin(angle) * distance
+            );
 
-                // Spawn fireball
-                org.bukkit.entity.Fireball meteor = loc.getWorld().spawn(meteorLoc, org.bukkit.entity.Fireball.class);
-                meteor.setDirection(new org.bukkit.util.Vector(0, -1, 0));
-                meteor.setYield(8.0f); // Massive explosion
-                meteor.setIsIncendiary(true); // Lights fires
+            // Spawn fireball
+            org.bukkit.entity.Fireball meteor = loc.getWorld().spawn(meteorLoc, org.bukkit.entity.Fireball.class);
+            meteor.setDirection(new org.bukkit.util.Vector(0, -1, 0));
+            meteor.setYield(8.0f); // Massive explosion
+            meteor.setIsIncendiary(true); // Lights fires
 
-                // Trail effect
-                for (int j = 0; j < 20; j++) {
-                    meteorLoc.getWorld().spawnParticle(Particle.FLAME, meteorLoc.clone().add(0, -j, 0), 10, 0.5, 0.5, 0.5, 0.1);
-                }
-            }, delay);
-        }
+            // Trail effect
+            for (int j = 0; j < 20; j++) {
+                particles.emit(Particle.FLAME, meteorLoc.clone().add(0, -j, 0), 10, 0.5, 0.5, 0.5, 0.1);
+            }
+        });
     }
 
     /**
@@ -7119,7 +7227,7 @@ public class AITorqueEntity {
         Location loc = bukkitEntity.getLocation();
         sendChatMessage("§5§l[AI TORQUE] §d§lTIME ITSELF BOWS TO ME!");
 
-        Collection<Entity> allPlayers = loc.getWorld().getNearbyEntities(loc, 200, 200, 200);
+        Collection<Entity> allPlayers = nearbyEntities(loc, 200, 200, 200);
 
         for (Entity entity : allPlayers) {
             if (entity instanceof Player) {
@@ -7141,14 +7249,14 @@ public class AITorqueEntity {
                     // Deal damage over time while frozen
                     for (int i = 0; i < 10; i++) {
                         final int tick = i;
-                        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+                        runLater("activate-time-stop", () -> {
                             player.damage(10.0, bukkitEntity); // 100 HP total
-                            player.getLocation().getWorld().spawnParticle(Particle.WITCH, player.getLocation(), 50, 1, 2, 1, 0);
+                            particles.emit(Particle.WITCH, player.getLocation(), 50, 1, 2, 1, 0);
                         }, tick * 20L);
                     }
 
                     // Unfreeze after 10 seconds
-                    plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+                    runLater("activate-time-stop", () -> {
                         player.setWalkSpeed(0.2f);
                         player.setFlySpeed(0.1f);
                     }, 200L);
@@ -7165,62 +7273,39 @@ public class AITorqueEntity {
         sendChatMessage("§c§l§k|||§r §4§l[AI TORQUE] OMEGA ANNIHILATION! §c§l§k|||");
 
         // Find nearest player that damaged us
-        Player target = null;
-        double closestDist = Double.MAX_VALUE;
-
-        for (Entity entity : loc.getWorld().getNearbyEntities(loc, 200, 200, 200)) {
-            if (entity instanceof Player) {
-                Player p = (Player) entity;
-                if (playersThatDamagedMe.contains(p.getUniqueId())) {
-                    double dist = p.getLocation().distance(loc);
-                    if (dist < closestDist) {
-                        closestDist = dist;
-                        target = p;
-                    }
-                }
-            }
-        }
-
-        if (target == null) return;
+        Player target = targets().getNearestDamager();
+        if (target == null || targets().getNearestDamagerDistance() > 200) return;
 
         final Player finalTarget = target;
         org.bukkit.util.Vector direction = finalTarget.getLocation().toVector().subtract(loc.toVector()).normalize();
 
-        // Fire 200 block laser beam
-        for (int i = 0; i < 200; i++) {
-            final int distance = i;
-
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+        // Fire 200 block laser beam - 10 blocks per tick over 20 ticks
+        org.bukkit.block.data.BlockData air = Material.AIR.createBlockData();
+        effectWheel.schedule(0, 20, 1, step -> {
+            BlockEditQueue.Batch carve = new BlockEditQueue.Batch(loc.getWorld());
+            for (int distance = step * 10; distance < step * 10 + 10; distance++) {
                 Location beamLoc = loc.clone().add(direction.clone().multiply(distance));
 
                 // Beam visuals
-                beamLoc.getWorld().spawnParticle(Particle.END_ROD, beamLoc, 20, 0.5, 0.5, 0.5, 0);
-                beamLoc.getWorld().spawnParticle(Particle.FLAME, beamLoc, 10, 0.3, 0.3, 0.3, 0);
-                beamLoc.getWorld().spawnParticle(Particle.WITCH, beamLoc, 5, 0.2, 0.2, 0.2, 0);
+                particles.emit(Particle.END_ROD, beamLoc, 20, 0.5, 0.5, 0.5, 0);
+                particles.emit(Particle.FLAME, beamLoc, 10, 0.3, 0.3, 0.3, 0);
+                particles.emit(Particle.WITCH, beamLoc, 5, 0.2, 0.2, 0.2, 0);
 
                 // Destroy blocks
-                for (int dx = -2; dx <= 2; dx++) {
-                    for (int dy = -2; dy <= 2; dy++) {
-                        for (int dz = -2; dz <= 2; dz++) {
-                            Location destroyLoc = beamLoc.clone().add(dx, dy, dz);
-                            destroyLoc.getBlock().setType(org.bukkit.Material.AIR);
-                        }
-                    }
-                }
+                carve.fill(BlockShape.cube(beamLoc, 2), air);
+            }
+            blockEdits.submit(carve);
 
-                // Damage entities
-                Collection<Entity> hit = beamLoc.getWorld().getNearbyEntities(beamLoc, 3, 3, 3);
-                for (Entity entity : hit) {
-                    if (entity instanceof Player) {
-                        Player player = (Player) entity;
-                        if (playersThatDamagedMe.contains(player.getUniqueId())) {
-                            player.damage(50.0, bukkitEntity); // MASSIVE DAMAGE
-                            player.setFireTicks(100);
-                        }
-                    }
+            // Damage entities along this step's 10 blocks
+            Location segmentStart = loc.clone().add(direction.clone().multiply(step * 10));
+            for (BeamTracer.Hit hit : traceBeam(segmentStart, direction, 9, 3, EntitySnapshot.PLAYER)) {
+                Player player = (Player) hit.getEntity();
+                if (playersThatDamagedMe.contains(player.getUniqueId())) {
+                    player.damage(50.0, bukkitEntity); // MASSIVE DAMAGE
+                    player.setFireTicks(100);
                 }
-            }, i / 10);
-        }
+            }
+        });
     }
 
     /**
@@ -7261,7 +7346,7 @@ public class AITorqueEntity {
             boss.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MAX_HEALTH).setBaseValue(500);
             boss.setHealth(500);
 
-            spawnLoc.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, spawnLoc, 5);
+            particles.emit(Particle.EXPLOSION_EMITTER, spawnLoc, 5);
         }
     }
 
@@ -7271,36 +7356,31 @@ public class AITorqueEntity {
     private void activateDeathAura() {
         sendChatMessage("§0§l[AI TORQUE] §4§lDEATH ITSELF SURROUNDS ME!");
 
-        for (int i = 0; i < 200; i++) { // 10 seconds
-            final int tick = i;
+        effectWheel.schedule(0, 200, 1, tick -> { // 10 seconds
+            Location loc = bukkitEntity.getLocation();
 
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                Location loc = bukkitEntity.getLocation();
-
-                // Visual ring
-                double radius = 30;
-                for (double angle = 0; angle < 2 * Math.PI; angle += 0.1) {
-                    Location particleLoc = loc.clone().add(
-                        Math.cos(angle) * radius,
-                        Math.sin(tick * 0.5) * 2,
-                        Math.sin(angle) * radius
-                    );
-                    loc.getWorld().spawnParticle(Particle.WITCH, particleLoc, 1, 0, 0, 0, 0);
-                }
+            // Visual ring
+            double radius = 30;
+            double y = loc.getY() + GeometryTables.sinRadians(tick * 0.5) * 2;
+            for (int i = 0; i < 63; i++) {
+                int angle = GeometryTables.ringStep(i, 63);
+                particles.emit(Particle.WITCH, loc.getWorld(),
+                    loc.getX() + GeometryTables.cos(angle) * radius, y, loc.getZ() + GeometryTables.sin(angle) * radius,
+                    1, 0, 0, 0, 0);
+            }
 
-                // Damage all entities
-                Collection<Entity> nearby = loc.getWorld().getNearbyEntities(loc, 30, 30, 30);
-                for (Entity entity : nearby) {
-                    if (entity instanceof Player) {
-                        Player player = (Player) entity;
-                        if (playersThatDamagedMe.contains(player.getUniqueId())) {
-                            player.damage(5.0, bukkitEntity); // 5 HP per tick = 500 HP total
-                            player.sendTitle("", "§4§lDEATH AURA", 0, 20, 0);
-                        }
+            // Damage all entities
+            Collection<Entity> nearby = nearbyEntities(loc, 30, 30, 30);
+            for (Entity entity : nearby) {
+                if (entity instanceof Player) {
+                    Player player = (Player) entity;
+                    if (playersThatDamagedMe.contains(player.getUniqueId())) {
+                        player.damage(5.0, bukkitEntity); // 5 HP per tick = 500 HP total
+                        player.sendTitle("", "§4§lDEATH AURA", 0, 20, 0);
                     }
                 }
-            }, tick);
-        }
+            }
+        });
     }
 
     /**
@@ -7311,45 +7391,38 @@ public class AITorqueEntity {
         sendChatMessage("§5§l[AI TORQUE] §d§lREALITY TEARS OPEN!");
 
         for (int i = 0; i < 20; i++) {
-            final int portalNum = i;
-
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                double angle = (2 * Math.PI * portalNum) / 20;
-                double radius = 40;
-                Location riftLoc = loc.clone().add(
-                    Math.cos(angle) * radius,
-                    2,
-                    Math.sin(angle) * radius
-                );
+            double angle = (2 * Math.PI * i) / 20;
+            double radius = 40;
+            Location riftLoc = loc.clone().add(
+                Math.cos(angle) * radius,
+                2,
+                Math.sin(angle) * radius
+            );
 
-                // Portal visuals for 10 seconds
-                for (int j = 0; j < 200; j++) {
-                    final int tick = j;
-                    plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                        riftLoc.getWorld().spawnParticle(Particle.PORTAL, riftLoc, 50, 2, 2, 2, 1);
+            // Portal visuals for 10 seconds, portals opening 5 ticks apart
+            effectWheel.schedule(i * 5L, 200, 1, tick -> {
+                particles.emit(Particle.PORTAL, riftLoc, 50, 2, 2, 2, 1);
 
-                        // Teleport players that get too close
-                        Collection<Entity> nearby = riftLoc.getWorld().getNearbyEntities(riftLoc, 3, 3, 3);
-                        for (Entity entity : nearby) {
-                            if (entity instanceof Player) {
-                                Player player = (Player) entity;
-                                if (playersThatDamagedMe.contains(player.getUniqueId())) {
-                                    // Random location 1000 blocks away
-                                    double teleportAngle = Math.random() * 2 * Math.PI;
-                                    Location teleportLoc = loc.clone().add(
-                                        Math.cos(teleportAngle) * 1000,
-                                        100,
-                                        Math.sin(teleportAngle) * 1000
-                                    );
-                                    player.teleport(teleportLoc);
-                                    player.sendTitle("§5§lDIMENSION RIFT!", "§d§lYou've been banished!", 10, 50, 10);
-                                    player.damage(20.0, bukkitEntity);
-                                }
-                            }
+                // Teleport players that get too close
+                Collection<Entity> nearby = nearbyEntities(riftLoc, 3, 3, 3);
+                for (Entity entity : nearby) {
+                    if (entity instanceof Player) {
+                        Player player = (Player) entity;
+                        if (playersThatDamagedMe.contains(player.getUniqueId())) {
+                            // Random location 1000 blocks away
+                            double teleportAngle = Math.random() * 2 * Math.PI;
+                            Location teleportLoc = loc.clone().add(
+                                Math.cos(teleportAngle) * 1000,
+                                100,
+                                Math.sin(teleportAngle) * 1000
+                            );
+                            player.teleport(teleportLoc);
+                            player.sendTitle("§5§lDIMENSION RIFT!", "§d§lYou've been banished!", 10, 50, 10);
+                            player.damage(20.0, bukkitEntity);
                         }
-                    }, tick);
+                    }
                 }
-            }, portalNum * 5L);
+            });
         }
     }
 }
@@ -0,0 +1,210 @@
+package com.aitorque.entity;
+
+import com.aitorque.AITorquePlugin;
+import com.aitorque.performance.ParticleBudget;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Beam Renderer - Particle lines for every boss beam
+ *
+ * Beams used to walk their line with start.clone().add(direction.clone().multiply(d)),
+ * two objects per sample, once per target per tick. The renderer walks the
+ * line with plain doubles and hands each sample to the boss's
+ * {@link ParticleEmitter} as coordinates.
+ *
+ * A {@link Style} sets the spacing between samples and what is spawned at
+ * each. No beam draws more than performance.beam-max-samples samples -
+ * longer beams spread them further apart instead.
+ *
+ * Spokes are beams between the boss and something else (drain, tractor,
+ * tentacles). They all meet at the boss, whose position is read once per
+ * tick. Only the first spoke of a style each tick draws the last stretch
+ * into the boss; the rest stop short, as they would land on the same spot.
+ */
+public final class BeamRenderer {
+
+    /** Spokes after the first of their style stop this far from the boss */
+    private static final double SHARED_HUB = 1.0;
+
+    /**
+     * What a beam spawns and how far apart
+     *
+     * Build once and keep it - spokes share the hub per style instance.
+     */
+    public static final class Style {
+        private final ParticleBudget.Priority priority;
+        private final double step;
+        private final List<Layer> layers;
+
+        public Style(double step) {
+            this(ParticleBudget.Priority.EFFECT, step);
+        }
+
+        public Style(ParticleBudget.Priority priority, double step) {
+            this.priority = priority;
+            this.step = step;
+            this.layers = new ArrayList<>();
+        }
+
+        /**
+         * Spawn a particle at every sample
+         *
+         * @param spread Offset on all three axes
+         */
+        public Style layer(Particle particle, int count, double spread, double speed) {
+            return layer(particle, count, spread, speed, null);
+        }
+
+        public Style layer(Particle particle, int count, double spread, double speed, Object data) {
+            layers.add(new Layer(particle, count, spread, speed, data));
+            return this;
+        }
+    }
+
+    private static final class Layer {
+        private final Particle particle;
+        private final int count;
+        private final double spread;
+        private final double speed;
+        private final Object data;
+
+        Layer(Particle particle, int count, double spread, double speed, Object data) {
+            this.particle = particle;
+            this.count = count;
+            this.spread = spread;
+            this.speed = speed;
+            this.data = data;
+        }
+    }
+
+    private final AITorquePlugin plugin;
+    private final ParticleEmitter particles;
+    private final Supplier<Location> anchor;
+
+    // The boss's position for this tick (spokes only)
+    private long tick = Long.MIN_VALUE;
+    private World hubWorld;
+    private double hubX;
+    private double hubY;
+    private double hubZ;
+    private final List<Style> hubDrawn;
+
+    private long samples;
+
+    /**
+     * @param anchor Where the boss is (spokes start there)
+     */
+    public BeamRenderer(AITorquePlugin plugin, ParticleEmitter particles, Supplier<Location> anchor) {
+        this.plugin = plugin;
+        this.particles = particles;
+        this.anchor = anchor;
+        this.hubDrawn = new ArrayList<>();
+    }
+
+    /**
+     * Beam between two points
+     */
+    public void draw(Style style, Location from, Location to) {
+        if (from.getWorld() != to.getWorld()) return;
+        line(style, from.getWorld(), from.getX(), from.getY(), from.getZ(), to.getX(), to.getY(), to.getZ(), 0);
+    }
+
+    public void draw(Style style, World world, double fromX, double fromY, double fromZ,
+                     double toX, double toY, double toZ) {
+        line(style, world, fromX, fromY, fromZ, toX, toY, toZ, 0);
+    }
+
+    /**
+     * Beam from a point along a unit direction
+     */
+    public void ray(Style style, Location start, Vector direction, double length) {
+        line(style, start.getWorld(), start.getX(), start.getY(), start.getZ(),
+            start.getX() + direction.getX() * length,
+            start.getY() + direction.getY() * length,
+            start.getZ() + direction.getZ() * length, 0);
+    }
+
+    /**
+     * Beam from the boss (raised by the given height) to a point
+     */
+    public void spoke(Style style, double hubHeight, Location end) {
+        long now = Bukkit.getCurrentTick();
+        if (now != tick) {
+            tick = now;
+            hubDrawn.clear();
+            Location hub = anchor.get();
+            hubWorld = hub == null ? null : hub.getWorld();
+            if (hubWorld != null) {
+                hubX = hub.getX();
+                hubY = hub.getY();
+                hubZ = hub.getZ();
+            }
+        }
+        if (hubWorld == null || end.getWorld() != hubWorld) return;
+
+        double skip = 0;
+        if (hubDrawn.contains(style)) {
+            skip = SHARED_HUB;
+        } else {
+            hubDrawn.add(style);
+        }
+        line(style, hubWorld, hubX, hubY + hubHeight, hubZ, end.getX(), end.getY(), end.getZ(), skip);
+    }
+
+    /**
+     * Samples drawn since the boss appeared
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * Walk the line, leaving out the first skip blocks
+     */
+    private void line(Style style, World world, double fromX, double fromY, double fromZ,
+                      double toX, double toY, double toZ, double skip) {
+        double dx = toX - fromX;
+        double dy = toY - fromY;
+        double dz = toZ - fromZ;
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (length < 1.0E-6) return;
+
+        double step = style.step;
+        int count = (int) Math.ceil(length / step);
+        int max = plugin.getConfigManager().getBeamMaxSamples();
+        if (count > max) {
+            count = max;
+            step = length / max;
+        }
+
+        double stepX = dx / length * step;
+        double stepY = dy / length * step;
+        double stepZ = dz / length * step;
+
+        int first = skip > 0 ? (int) Math.ceil(skip / step) : 0;
+        double x = fromX + stepX * first;
+        double y = fromY + stepY * first;
+        double z = fromZ + stepZ * first;
+
+        List<Layer> layers = style.layers;
+        for (int i = first; i < count; i++) {
+            for (int l = 0; l < layers.size(); l++) {
+                Layer layer = layers.get(l);
+                particles.emit(style.priority, layer.particle, world, x, y, z, layer.count,
+                    layer.spread, layer.spread, layer.spread, layer.speed, layer.data);
+            }
+            x += stepX;
+            y += stepY;
+            z += stepZ;
+        }
+        samples += Math.max(0, count - first);
+    }
+}
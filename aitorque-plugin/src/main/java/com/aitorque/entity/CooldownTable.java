@@ -0,0 +1,75 @@
+package com.aitorque.entity;
+
+import java.util.*;
+
+/**
+ * Cooldown Table - Per-boss ability cooldowns keyed by ability id
+ *
+ * Each entry stores the absolute pipeline tick at which the ability is ready
+ * again, so nothing has to be decremented every tick and a readiness check
+ * is a single compare. Time is read from the owning boss's tick pipeline,
+ * which means cooldowns also stand still while the boss is dormant.
+ */
+public class CooldownTable {
+
+    private final TickPipeline clock;
+    private final Map<String, Long> readyAt;
+
+    public CooldownTable(TickPipeline clock) {
+        this.clock = clock;
+        this.readyAt = new HashMap<>();
+    }
+
+    /**
+     * Whether the ability is off cooldown
+     */
+    public boolean isReady(String abilityId) {
+        Long ready = readyAt.get(abilityId);
+        return ready == null || ready <= clock.getCurrentTick();
+    }
+
+    /**
+     * Put an ability on cooldown
+     *
+     * @param abilityId Ability id
+     * @param ticks     Cooldown length in ticks from now
+     */
+    public void start(String abilityId, long ticks) {
+        readyAt.put(abilityId, clock.getCurrentTick() + Math.max(0, ticks));
+    }
+
+    /**
+     * Get the ticks left until an ability is ready (0 if ready)
+     */
+    public long getRemaining(String abilityId) {
+        Long ready = readyAt.get(abilityId);
+        return ready == null ? 0 : Math.max(0, ready - clock.getCurrentTick());
+    }
+
+    /**
+     * Get every ability still cooling down with its remaining ticks, soonest first
+     */
+    public Map<String, Long> getActive() {
+        long now = clock.getCurrentTick();
+        List<Map.Entry<String, Long>> cooling = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : readyAt.entrySet()) {
+            if (entry.getValue() > now) {
+                cooling.add(entry);
+            }
+        }
+        cooling.sort(Map.Entry.comparingByValue());
+
+        Map<String, Long> active = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : cooling) {
+            active.put(entry.getKey(), entry.getValue() - now);
+        }
+        return active;
+    }
+
+    /**
+     * Reset every cooldown
+     */
+    public void clear() {
+        readyAt.clear();
+    }
+}
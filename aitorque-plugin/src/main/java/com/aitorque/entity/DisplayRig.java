@@ -0,0 +1,238 @@
+package com.aitorque.entity;
+
+import com.aitorque.AITorquePlugin;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Transformation;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Display Rig - The boss's floating body parts
+ *
+ * Masks, heads, tentacles, teeth, wings and cannons used to be ArmorStands
+ * teleported every tick - one movement packet per part per viewer per tick.
+ * Visible parts are now ItemDisplays riding the boss as passengers, so they
+ * travel with it without packets of their own. Animations only change a
+ * part's offset from the boss. Every performance.display-rig.update-interval
+ * ticks the rig sends the changed offsets as display transformations with a
+ * matching interpolation duration, and the client slides each part to its
+ * new place in between.
+ *
+ * Parts with nothing to show (tentacle tips, teeth, wing and cannon mounts
+ * were invisible stands) are points: no entity at all, just a position for
+ * particles and hits.
+ */
+public final class DisplayRig {
+
+    private static final float DEGREES_TO_RADIANS = (float) (Math.PI / 180.0);
+
+    /** Smallest translation change worth an update (blocks) */
+    private static final float EPSILON = 0.01f;
+
+    /**
+     * One part, placed relative to the boss's feet
+     */
+    public final class Part {
+        private final ItemDisplay display;    // Null for points
+        private double x;
+        private double y;
+        private double z;
+        private float yaw;
+        private float pitch;
+        private boolean dirty;
+        private boolean removed;
+
+        // Translation last sent (relative to the passenger seat)
+        private float sentX;
+        private float sentY;
+        private float sentZ;
+
+        private Part(ItemDisplay display) {
+            this.display = display;
+            this.dirty = true;
+        }
+
+        /**
+         * Set the offset from the boss (sent with the next update if it changed)
+         */
+        public void move(double x, double y, double z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        /**
+         * Turn the part in place
+         */
+        public void face(float yaw, float pitch) {
+            if (yaw != this.yaw || pitch != this.pitch) {
+                this.yaw = yaw;
+                this.pitch = pitch;
+                dirty = true;
+            }
+        }
+
+        /**
+         * Where the part is now in the world (new object - not for per-point loops)
+         */
+        public Location getLocation() {
+            return body.get().getLocation().add(x, y, z);
+        }
+
+        public void setItem(ItemStack item) {
+            if (display != null && display.isValid()) {
+                display.setItemStack(item);
+            }
+        }
+
+        public boolean isValid() {
+            return !removed && (display == null || display.isValid());
+        }
+
+        public boolean isDisplay(Entity entity) {
+            return display != null && display.equals(entity);
+        }
+
+        public void remove() {
+            removed = true;
+            if (display != null && display.isValid()) {
+                display.remove();
+            }
+        }
+    }
+
+    private final AITorquePlugin plugin;
+    private final Supplier<Entity> body;
+    private final List<Part> parts;
+    private int sinceUpdate;
+    private long updates;
+
+    /**
+     * @param body The boss entity parts ride on (may change on rebirth)
+     */
+    public DisplayRig(AITorquePlugin plugin, Supplier<Entity> body) {
+        this.plugin = plugin;
+        this.body = body;
+        this.parts = new ArrayList<>();
+    }
+
+    /**
+     * A part with nothing to show - position only
+     */
+    public Part point() {
+        Part part = new Part(null);
+        parts.add(part);
+        return part;
+    }
+
+    /**
+     * A visible part: an item display riding the boss
+     */
+    public Part item(ItemStack item, boolean glowing) {
+        Entity owner = body.get();
+        Location at = owner.getLocation();
+        at.setYaw(0);
+        at.setPitch(0);
+
+        int interval = plugin.getConfigManager().getDisplayRigInterval();
+        ItemDisplay display = at.getWorld().spawn(at, ItemDisplay.class, spawned -> {
+            spawned.setItemStack(item);
+            spawned.setItemDisplayTransform(ItemDisplay.ItemDisplayTransform.HEAD);
+            spawned.setGlowing(glowing);
+            spawned.setPersistent(false);
+            spawned.setInterpolationDuration(interval);
+        });
+        owner.addPassenger(display);
+
+        Part part = new Part(display);
+        parts.add(part);
+        return part;
+    }
+
+    /**
+     * Send changed parts to clients every update interval
+     *
+     * Call once per tick before anything moves the boss, so the boss and its
+     * passengers are still where the last entity tick left them.
+     */
+    public void tick() {
+        int interval = plugin.getConfigManager().getDisplayRigInterval();
+        if (++sinceUpdate < interval) return;
+        sinceUpdate = 0;
+
+        parts.removeIf(part -> !part.isValid());
+
+        Entity owner = body.get();
+        if (owner == null || !owner.isValid()) return;
+        Location base = owner.getLocation();
+
+        for (Part part : parts) {
+            if (part.display == null) continue;
+
+            // Reattach after a rebirth or a dismount (the seat moves next tick and is resent then)
+            if (part.display.getVehicle() != owner) {
+                owner.addPassenger(part.display);
+            }
+
+            // The display sits on the boss's passenger seat; translate from there
+            Location seat = part.display.getLocation();
+            float x = (float) (base.getX() + part.x - seat.getX());
+            float y = (float) (base.getY() + part.y - seat.getY());
+            float z = (float) (base.getZ() + part.z - seat.getZ());
+            boolean moved = Math.abs(x - part.sentX) > EPSILON || Math.abs(y - part.sentY) > EPSILON
+                || Math.abs(z - part.sentZ) > EPSILON;
+            if (!moved && !part.dirty) continue;
+
+            Quaternionf rotation = new Quaternionf()
+                .rotationYXZ(-part.yaw * DEGREES_TO_RADIANS, part.pitch * DEGREES_TO_RADIANS, 0);
+
+            part.display.setInterpolationDelay(0);
+            part.display.setInterpolationDuration(interval);
+            part.display.setTransformation(new Transformation(new Vector3f(x, y, z), rotation,
+                new Vector3f(1, 1, 1), new Quaternionf()));
+            part.sentX = x;
+            part.sentY = y;
+            part.sentZ = z;
+            part.dirty = false;
+            updates++;
+        }
+    }
+
+    /**
+     * Whether the entity is one of this rig's displays
+     */
+    public boolean owns(Entity entity) {
+        for (Part part : parts) {
+            if (part.isDisplay(entity)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Display transformations sent since the boss appeared
+     */
+    public long getUpdates() {
+        return updates;
+    }
+
+    public int size() {
+        return parts.size();
+    }
+
+    /**
+     * Remove every part
+     */
+    public void clear() {
+        for (Part part : parts) {
+            part.remove();
+        }
+        parts.clear();
+    }
+}
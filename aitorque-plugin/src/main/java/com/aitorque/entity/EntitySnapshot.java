@@ -0,0 +1,275 @@
+package com.aitorque.entity;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Entity Snapshot - One entity gather per boss per tick, shared by every
+ * proximity query
+ *
+ * The first query of a tick gathers all entities around the boss once, at the
+ * largest radius any query has needed recently, and bins them into a flat
+ * uniform grid of x/z columns (bounding box + type flags per entity). Every
+ * other query that tick is answered from the grid. Queries reaching past the
+ * snapshot return null so the caller can fall back to the world, and widen the
+ * next snapshot so they are covered from then on.
+ */
+public final class EntitySnapshot {
+
+    // Type flags (a player is also LIVING)
+    public static final int PLAYER = 1;
+    public static final int LIVING = 2;
+    public static final int ITEM = 4;
+    public static final int PROJECTILE = 8;
+    public static final int OTHER = 16;
+    public static final int ANY = PLAYER | LIVING | ITEM | PROJECTILE | OTHER;
+
+    // Box fields per entity: minX, minY, minZ, maxX, maxY, maxZ
+    private static final int BOX = 6;
+
+    // Ticks before the snapshot may shrink back after a large query
+    private static final int SHRINK_WINDOW = 100;
+
+    private final double minRadius;
+    private final double maxRadius;
+    private final double cellSize;
+
+    // Current snapshot
+    private World world;
+    private double centerX;
+    private double centerY;
+    private double centerZ;
+    private double radius;
+    private long builtTick;
+    private int count;
+    private Entity[] entities;
+    private int[] flags;
+    private double[] boxes;
+    private double maxHalfWidth;
+
+    // Grid: entity indices sorted by column, cellStart[c]..cellStart[c + 1]
+    private int dim;
+    private int[] cellStart;
+    private int[] order;
+    private int[] cellOf;
+
+    // Coverage bookkeeping
+    private double pendingRadius;
+    private double windowPeak;
+    private long windowStart;
+
+    public EntitySnapshot(double minRadius, double maxRadius, double cellSize) {
+        this.minRadius = minRadius;
+        this.maxRadius = Math.max(minRadius, maxRadius);
+        this.cellSize = Math.max(1.0, cellSize);
+        this.radius = minRadius;
+        this.builtTick = Long.MIN_VALUE;
+        this.entities = new Entity[64];
+        this.flags = new int[64];
+        this.boxes = new double[64 * BOX];
+        this.order = new int[64];
+        this.cellOf = new int[64];
+        this.cellStart = new int[0];
+    }
+
+    /**
+     * Answer an axis-aligned box query (same semantics as World.getNearbyEntities)
+     *
+     * @param anchor Where the snapshot is gathered (the boss)
+     * @param tick   Current server tick; the snapshot is rebuilt once per tick
+     * @param mask   Type flags to accept
+     * @param filter Extra filter, or null
+     * @return Matching entities, or null if the box reaches past the snapshot
+     */
+    public List<Entity> query(Location anchor, long tick, Location center, double rx, double ry, double rz,
+                              int mask, Predicate<Entity> filter) {
+        if (tick != builtTick || anchor.getWorld() != world) {
+            build(anchor, tick);
+        }
+
+        if (center.getWorld() != world) return null;
+
+        double reach = Math.max(Math.abs(center.getX() - centerX) + rx,
+            Math.max(Math.abs(center.getY() - centerY) + ry, Math.abs(center.getZ() - centerZ) + rz));
+        if (reach > radius) {
+            pendingRadius = Math.max(pendingRadius, reach);
+            return null;
+        }
+        windowPeak = Math.max(windowPeak, reach);
+
+        double minX = center.getX() - rx;
+        double minY = center.getY() - ry;
+        double minZ = center.getZ() - rz;
+        double maxX = center.getX() + rx;
+        double maxY = center.getY() + ry;
+        double maxZ = center.getZ() + rz;
+
+        // Entities are binned by their centre, so widen the column range by the widest box
+        int fromX = column(minX - maxHalfWidth, centerX);
+        int toX = column(maxX + maxHalfWidth, centerX);
+        int fromZ = column(minZ - maxHalfWidth, centerZ);
+        int toZ = column(maxZ + maxHalfWidth, centerZ);
+
+        List<Entity> result = new ArrayList<>();
+        for (int cz = fromZ; cz <= toZ; cz++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                int cell = cz * dim + cx;
+                for (int o = cellStart[cell]; o < cellStart[cell + 1]; o++) {
+                    int i = order[o];
+                    if ((flags[i] & mask) == 0) continue;
+
+                    int b = i * BOX;
+                    if (boxes[b + 3] < minX || boxes[b] > maxX) continue;
+                    if (boxes[b + 4] < minY || boxes[b + 1] > maxY) continue;
+                    if (boxes[b + 5] < minZ || boxes[b + 2] > maxZ) continue;
+
+                    Entity entity = entities[i];
+                    if (!entity.isValid()) continue;
+                    if (filter != null && !filter.test(entity)) continue;
+                    result.add(entity);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Type flags for an entity
+     */
+    public static int flagsOf(Entity entity) {
+        if (entity instanceof Player) return PLAYER | LIVING;
+        if (entity instanceof LivingEntity) return LIVING;
+        if (entity instanceof Item) return ITEM;
+        if (entity instanceof Projectile) return PROJECTILE;
+        return OTHER;
+    }
+
+    /**
+     * Entities in the current snapshot
+     */
+    public int size() {
+        return count;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Drop entity references (boss removed)
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            entities[i] = null;
+        }
+        count = 0;
+        world = null;
+        builtTick = Long.MIN_VALUE;
+    }
+
+    // ============================================
+    // BUILD
+    // ============================================
+
+    private void build(Location anchor, long tick) {
+        // Grow straight away to cover last tick's misses, shrink once per window
+        double target = Math.max(radius, pendingRadius);
+        if (tick - windowStart >= SHRINK_WINDOW) {
+            target = Math.max(windowPeak, pendingRadius);
+            windowPeak = 0;
+            windowStart = tick;
+        }
+        radius = Math.min(maxRadius, Math.max(minRadius, target));
+        pendingRadius = 0;
+
+        clear();
+        world = anchor.getWorld();
+        centerX = anchor.getX();
+        centerY = anchor.getY();
+        centerZ = anchor.getZ();
+        builtTick = tick;
+        maxHalfWidth = 0;
+
+        Collection<Entity> found = world.getNearbyEntities(anchor, radius, radius, radius);
+        ensureCapacity(found.size());
+
+        for (Entity entity : found) {
+            BoundingBox box = entity.getBoundingBox();
+            int b = count * BOX;
+            boxes[b] = box.getMinX();
+            boxes[b + 1] = box.getMinY();
+            boxes[b + 2] = box.getMinZ();
+            boxes[b + 3] = box.getMaxX();
+            boxes[b + 4] = box.getMaxY();
+            boxes[b + 5] = box.getMaxZ();
+            maxHalfWidth = Math.max(maxHalfWidth, Math.max(box.getWidthX(), box.getWidthZ()) * 0.5);
+
+            entities[count] = entity;
+            flags[count] = flagsOf(entity);
+            count++;
+        }
+
+        bin();
+    }
+
+    /**
+     * Counting sort of entity indices into x/z columns
+     */
+    private void bin() {
+        dim = Math.max(1, (int) Math.ceil(radius * 2 / cellSize));
+        int cells = dim * dim;
+        if (cellStart.length < cells + 1) {
+            cellStart = new int[cells + 1];
+        } else {
+            Arrays.fill(cellStart, 0, cells + 1, 0);
+        }
+
+        for (int i = 0; i < count; i++) {
+            int b = i * BOX;
+            int cx = column((boxes[b] + boxes[b + 3]) * 0.5, centerX);
+            int cz = column((boxes[b + 2] + boxes[b + 5]) * 0.5, centerZ);
+            cellOf[i] = cz * dim + cx;
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+
+        // cellStart[c] doubles as the write cursor, then is shifted back
+        for (int i = 0; i < count; i++) {
+            order[cellStart[cellOf[i]]++] = i;
+        }
+        for (int c = cells; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+    }
+
+    private int column(double coord, double center) {
+        int c = (int) Math.floor((coord - (center - radius)) / cellSize);
+        return c < 0 ? 0 : Math.min(c, dim - 1);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (entities.length >= needed) return;
+
+        int size = Math.max(needed, entities.length * 2);
+        entities = new Entity[size];
+        flags = new int[size];
+        boxes = new double[size * BOX];
+        order = new int[size];
+        cellOf = new int[size];
+    }
+}
@@ -0,0 +1,135 @@
+package com.aitorque.entity;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.util.Vector;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Force Accumulator - One velocity write per pushed entity per tick
+ *
+ * Pulls, tractor beams and tentacles used to call setVelocity on the same
+ * entities several times a tick, each call sending a velocity packet and
+ * overwriting the others. They now add their force here instead and the
+ * boss driver applies the sum once at the end of the tick.
+ *
+ * Two kinds of force are kept apart:
+ * - push: added on top of the entity's current velocity (gravity wells)
+ * - steer: replaces the current velocity (beams that drag at a fixed speed);
+ *   several steers in one tick are summed
+ * The result is clamped to the max speed before it is written.
+ */
+public final class ForceAccumulator {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final Map<Integer, Integer> slots;    // Entity id -> slot
+    private Entity[] entities;
+    private double[] push;                        // x, y, z per slot
+    private double[] steer;                       // x, y, z per slot
+    private boolean[] steered;
+    private int size;
+
+    public ForceAccumulator() {
+        this.slots = new HashMap<>();
+        this.entities = new Entity[INITIAL_CAPACITY];
+        this.push = new double[INITIAL_CAPACITY * 3];
+        this.steer = new double[INITIAL_CAPACITY * 3];
+        this.steered = new boolean[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Add to the entity's velocity this tick
+     */
+    public void push(Entity entity, Vector force) {
+        int base = slot(entity) * 3;
+        push[base] += force.getX();
+        push[base + 1] += force.getY();
+        push[base + 2] += force.getZ();
+    }
+
+    /**
+     * Replace the entity's velocity this tick
+     */
+    public void steer(Entity entity, Vector velocity) {
+        int slot = slot(entity);
+        int base = slot * 3;
+        steer[base] += velocity.getX();
+        steer[base + 1] += velocity.getY();
+        steer[base + 2] += velocity.getZ();
+        steered[slot] = true;
+    }
+
+    /**
+     * Write every accumulated velocity and start the next tick empty
+     *
+     * @param maxSpeed Largest speed written (blocks per tick)
+     */
+    public void apply(double maxSpeed) {
+        double maxSq = maxSpeed * maxSpeed;
+
+        for (int slot = 0; slot < size; slot++) {
+            Entity entity = entities[slot];
+            if (!entity.isValid()) continue;
+
+            int base = slot * 3;
+            double x = push[base];
+            double y = push[base + 1];
+            double z = push[base + 2];
+
+            if (steered[slot]) {
+                x += steer[base];
+                y += steer[base + 1];
+                z += steer[base + 2];
+            } else {
+                Vector current = entity.getVelocity();
+                x += current.getX();
+                y += current.getY();
+                z += current.getZ();
+            }
+
+            double lengthSq = x * x + y * y + z * z;
+            if (lengthSq > maxSq) {
+                double scale = maxSpeed / Math.sqrt(lengthSq);
+                x *= scale;
+                y *= scale;
+                z *= scale;
+            }
+            entity.setVelocity(new Vector(x, y, z));
+        }
+        clear();
+    }
+
+    /**
+     * Entities pushed so far this tick
+     */
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(push, 0, size * 3, 0);
+        Arrays.fill(steer, 0, size * 3, 0);
+        Arrays.fill(steered, 0, size, false);
+        slots.clear();
+        size = 0;
+    }
+
+    private int slot(Entity entity) {
+        Integer existing = slots.get(entity.getEntityId());
+        if (existing != null) return existing;
+
+        if (size == entities.length) {
+            entities = Arrays.copyOf(entities, size * 2);
+            push = Arrays.copyOf(push, size * 6);
+            steer = Arrays.copyOf(steer, size * 6);
+            steered = Arrays.copyOf(steered, size * 2);
+        }
+        entities[size] = entity;
+        slots.put(entity.getEntityId(), size);
+        return size++;
+    }
+}
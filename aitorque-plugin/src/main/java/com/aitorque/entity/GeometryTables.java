@@ -0,0 +1,97 @@
+package com.aitorque.entity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Geometry Tables - Unit rings and spheres, computed once
+ *
+ * Particle rings, spirals and spheres used to call toRadians, sin and cos
+ * for every point of every frame. The trig now happens once, here:
+ * - one ring of {@link #STEPS} half-degree steps. Angles are step indexes,
+ *   so a spinning ring or a spiral is an index offset, not a cosine
+ * - Fibonacci spheres (evenly spread points), cached by point count
+ * Callers scale the unit offsets by their radius and add the centre.
+ * Tables are never written after they are built - safe on compute workers.
+ */
+public final class GeometryTables {
+
+    /** Steps in a full turn (half a degree each) */
+    public static final int STEPS = 720;
+
+    private static final double[] COS = new double[STEPS];
+    private static final double[] SIN = new double[STEPS];
+    private static final double STEPS_PER_RADIAN = STEPS / (2 * Math.PI);
+    private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
+    private static final Map<Integer, double[]> SPHERES = new ConcurrentHashMap<>();
+
+    static {
+        for (int i = 0; i < STEPS; i++) {
+            double angle = i / STEPS_PER_RADIAN;
+            COS[i] = Math.cos(angle);
+            SIN[i] = Math.sin(angle);
+        }
+    }
+
+    private GeometryTables() {
+    }
+
+    /**
+     * Step nearest to an angle in degrees
+     */
+    public static int step(double degrees) {
+        return (int) Math.round(degrees * (STEPS / 360.0));
+    }
+
+    /**
+     * Step of point i on an evenly spaced ring of the given size
+     */
+    public static int ringStep(int i, int points) {
+        return i * STEPS / points;
+    }
+
+    public static double cos(int step) {
+        return COS[Math.floorMod(step, STEPS)];
+    }
+
+    public static double sin(int step) {
+        return SIN[Math.floorMod(step, STEPS)];
+    }
+
+    /**
+     * Sine of an angle in radians, to the nearest step (wobbles and waves)
+     */
+    public static double sinRadians(double radians) {
+        return SIN[Math.floorMod(Math.round(radians * STEPS_PER_RADIAN), STEPS)];
+    }
+
+    /**
+     * Cosine of an angle in radians, to the nearest step
+     */
+    public static double cosRadians(double radians) {
+        return COS[Math.floorMod(Math.round(radians * STEPS_PER_RADIAN), STEPS)];
+    }
+
+    /**
+     * Unit sphere of evenly spread points, x/y/z per point
+     */
+    public static double[] sphere(int points) {
+        return SPHERES.computeIfAbsent(points, GeometryTables::fibonacci);
+    }
+
+    private static double[] fibonacci(int points) {
+        double[] offsets = new double[points * 3];
+        for (int i = 0; i < points; i++) {
+            // Latitude bands of equal area, each point a golden angle further round
+            double y = 1 - (i + 0.5) * 2 / points;
+            double ring = Math.sqrt(1 - y * y);
+            double theta = i * GOLDEN_ANGLE;
+
+            offsets[i * 3] = Math.cos(theta) * ring;
+            offsets[i * 3 + 1] = y;
+            offsets[i * 3 + 2] = Math.sin(theta) * ring;
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,90 @@
+package com.aitorque.entity;
+
+import com.aitorque.performance.ParticleBudget;
+import org.bukkit.Particle;
+import org.bukkit.World;
+
+import java.util.Arrays;
+
+/**
+ * Particle Batch - Particle spawns computed apart from where they are spawned
+ *
+ * Holds plain coordinates only, so it can be filled by a compute worker and
+ * handed back as an intent, or filled and spawned in place and reused.
+ */
+public final class ParticleBatch {
+
+    private static final int FIELDS = 7;
+
+    private Particle[] types;
+    private Object[] extra;
+    private int[] counts;
+    private double[] values;
+    private int size;
+
+    public ParticleBatch() {
+        this.types = new Particle[32];
+        this.extra = new Object[32];
+        this.counts = new int[32];
+        this.values = new double[FIELDS * 32];
+        this.size = 0;
+    }
+
+    /**
+     * Queue a particle spawn (same arguments as World.spawnParticle)
+     */
+    public void add(Particle particle, double x, double y, double z, int count,
+                    double offsetX, double offsetY, double offsetZ, double speed) {
+        add(particle, x, y, z, count, offsetX, offsetY, offsetZ, speed, null);
+    }
+
+    /**
+     * Queue a particle spawn with particle data (dust colour, block data, ...)
+     */
+    public void add(Particle particle, double x, double y, double z, int count,
+                    double offsetX, double offsetY, double offsetZ, double speed, Object data) {
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            extra = Arrays.copyOf(extra, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            values = Arrays.copyOf(values, capacity * FIELDS);
+        }
+
+        int base = size * FIELDS;
+        values[base] = x;
+        values[base + 1] = y;
+        values[base + 2] = z;
+        values[base + 3] = offsetX;
+        values[base + 4] = offsetY;
+        values[base + 5] = offsetZ;
+        values[base + 6] = speed;
+        types[size] = particle;
+        counts[size] = count;
+        extra[size] = data;
+        size++;
+    }
+
+    /**
+     * Spawn every queued particle through the boss's emitter (server thread only)
+     */
+    public void spawn(World world, ParticleEmitter emitter, ParticleBudget.Priority priority) {
+        for (int i = 0; i < size; i++) {
+            int base = i * FIELDS;
+            emitter.emit(priority, types[i], world, values[base], values[base + 1], values[base + 2],
+                counts[i], values[base + 3], values[base + 4], values[base + 5], values[base + 6], extra[i]);
+        }
+    }
+
+    /**
+     * Empty the batch for reuse (keeps its arrays)
+     */
+    public void clear() {
+        Arrays.fill(extra, 0, size, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,257 @@
+package com.aitorque.entity;
+
+import com.aitorque.AITorquePlugin;
+import com.aitorque.performance.ParticleBudget;
+import com.aitorque.util.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Particle Emitter - The only way a boss spawns particles
+ *
+ * Takes the same arguments as World.spawnParticle, plus an optional priority
+ * (attack effects by default). Each request is:
+ * 1. scaled by effects.particles.intensity - fractions carry over between
+ *    requests, so thinning is even and repeatable rather than random
+ * 2. capped by the boss's own budget (performance.boss-particles-per-tick)
+ * 3. capped by the world's budget in {@link ParticleBudget}
+ * Both caps keep a share back for higher priorities. Whatever does not fit is
+ * thinned or dropped and counted. With particles disabled only telegraphs
+ * are spawned.
+ *
+ * With level of detail on (performance.particle-lod) particles are sent to
+ * each viewer instead of the whole world. The viewers - players within the
+ * view range of the boss - are collected once per tick, with their positions.
+ * The view range has to cover the boss's longest reach plus the cutoff, as
+ * beams and meteors land far from the boss itself. Players near the
+ * particle get the full count, players further out a thinned count, and
+ * players past the cutoff nothing. Players in reduced-effects mode get the
+ * thinned count up close and nothing from further away.
+ */
+public final class ParticleEmitter {
+
+    private final AITorquePlugin plugin;
+    private final Supplier<Location> anchor;
+
+    private long tick = Long.MIN_VALUE;
+    private int spent;
+    private double carry;
+    private double farCarry;
+
+    // Viewers for this tick (level of detail only)
+    private World viewerWorld;
+    private final List<Player> viewers;
+    private double[] viewerPositions;    // x, y, z per viewer
+    private boolean[] reducedViewers;
+
+    private long emitted;
+    private long dropped;
+
+    /**
+     * @param anchor Where the boss is (viewers are gathered around it)
+     */
+    public ParticleEmitter(AITorquePlugin plugin, Supplier<Location> anchor) {
+        this.plugin = plugin;
+        this.anchor = anchor;
+        this.viewers = new ArrayList<>();
+        this.viewerPositions = new double[48];
+        this.reducedViewers = new boolean[16];
+    }
+
+    public void emit(Particle particle, Location location, int count) {
+        emit(ParticleBudget.Priority.EFFECT, particle, location, count, 0, 0, 0, 1, null);
+    }
+
+    public void emit(Particle particle, Location location, int count,
+                     double offsetX, double offsetY, double offsetZ) {
+        emit(ParticleBudget.Priority.EFFECT, particle, location, count, offsetX, offsetY, offsetZ, 1, null);
+    }
+
+    public void emit(Particle particle, Location location, int count,
+                     double offsetX, double offsetY, double offsetZ, double speed) {
+        emit(ParticleBudget.Priority.EFFECT, particle, location, count, offsetX, offsetY, offsetZ, speed, null);
+    }
+
+    public void emit(Particle particle, Location location, int count,
+                     double offsetX, double offsetY, double offsetZ, double speed, Object data) {
+        emit(ParticleBudget.Priority.EFFECT, particle, location, count, offsetX, offsetY, offsetZ, speed, data);
+    }
+
+    public void emit(ParticleBudget.Priority priority, Particle particle, Location location, int count) {
+        emit(priority, particle, location, count, 0, 0, 0, 1, null);
+    }
+
+    public void emit(ParticleBudget.Priority priority, Particle particle, Location location, int count,
+                     double offsetX, double offsetY, double offsetZ) {
+        emit(priority, particle, location, count, offsetX, offsetY, offsetZ, 1, null);
+    }
+
+    public void emit(ParticleBudget.Priority priority, Particle particle, Location location, int count,
+                     double offsetX, double offsetY, double offsetZ, double speed) {
+        emit(priority, particle, location, count, offsetX, offsetY, offsetZ, speed, null);
+    }
+
+    public void emit(ParticleBudget.Priority priority, Particle particle, Location location, int count,
+                     double offsetX, double offsetY, double offsetZ, double speed, Object data) {
+        emit(priority, particle, location.getWorld(), location.getX(), location.getY(), location.getZ(),
+            count, offsetX, offsetY, offsetZ, speed, data);
+    }
+
+    public void emit(Particle particle, World world, double x, double y, double z, int count,
+                     double offsetX, double offsetY, double offsetZ, double speed) {
+        emit(ParticleBudget.Priority.EFFECT, particle, world, x, y, z, count, offsetX, offsetY, offsetZ, speed, null);
+    }
+
+    public void emit(Particle particle, World world, double x, double y, double z, int count,
+                     double offsetX, double offsetY, double offsetZ, double speed, Object data) {
+        emit(ParticleBudget.Priority.EFFECT, particle, world, x, y, z, count, offsetX, offsetY, offsetZ, speed, data);
+    }
+
+    /**
+     * Spawn what the budgets allow of one request
+     *
+     * Takes plain coordinates so shape loops need not build a Location per point.
+     */
+    public void emit(ParticleBudget.Priority priority, Particle particle, World world, double x, double y, double z,
+                     int count, double offsetX, double offsetY, double offsetZ, double speed, Object data) {
+        // Count 0 is a single particle using the offset as its direction - it can be dropped, not thinned
+        boolean directional = count == 0;
+        int requested = directional ? 1 : scale(count);
+        if (requested == 0) return;
+
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.areParticlesEnabled() && priority != ParticleBudget.Priority.TELEGRAPH) {
+            dropped += requested;
+            return;
+        }
+
+        long now = Bukkit.getCurrentTick();
+        if (now != tick) {
+            tick = now;
+            spent = 0;
+            if (config.isParticleLodEnabled()) {
+                collectViewers();
+            }
+        }
+
+        int granted = Math.max(0, Math.min(requested, priority.limit(config.getBossParticlesPerTick()) - spent));
+        if (granted > 0) {
+            granted = plugin.getParticleBudget().grant(world, priority, granted);
+        }
+
+        dropped += requested - granted;
+        if (granted == 0) return;
+
+        spent += granted;
+        emitted += granted;
+
+        if (config.isParticleLodEnabled() && world == viewerWorld) {
+            sendToViewers(particle, x, y, z, directional ? 0 : granted, offsetX, offsetY, offsetZ, speed, data);
+        } else {
+            world.spawnParticle(particle, x, y, z, directional ? 0 : granted,
+                offsetX, offsetY, offsetZ, speed, data);
+        }
+    }
+
+    /**
+     * Gather this tick's viewers around the boss
+     */
+    private void collectViewers() {
+        viewers.clear();
+
+        Location center = anchor.get();
+        viewerWorld = center == null ? null : center.getWorld();
+        if (viewerWorld == null) return;
+
+        double range = plugin.getConfigManager().getParticleLodViewRange();
+        double rangeSq = range * range;
+        ParticleBudget budget = plugin.getParticleBudget();
+        Location at = new Location(null, 0, 0, 0);
+        for (Player player : viewerWorld.getPlayers()) {
+            player.getLocation(at);
+            if (at.distanceSquared(center) > rangeSq) continue;
+
+            int i = viewers.size();
+            if (i == reducedViewers.length) {
+                reducedViewers = Arrays.copyOf(reducedViewers, i * 2);
+                viewerPositions = Arrays.copyOf(viewerPositions, i * 6);
+            }
+            viewers.add(player);
+            viewerPositions[i * 3] = at.getX();
+            viewerPositions[i * 3 + 1] = at.getY();
+            viewerPositions[i * 3 + 2] = at.getZ();
+            reducedViewers[i] = budget.isReducedEffects(player);
+        }
+    }
+
+    /**
+     * Send one spawn to each viewer at the count their distance allows
+     */
+    private void sendToViewers(Particle particle, double x, double y, double z, int count,
+                               double offsetX, double offsetY, double offsetZ, double speed, Object data) {
+        ConfigManager config = plugin.getConfigManager();
+        double nearSq = config.getParticleLodNearDistance() * config.getParticleLodNearDistance();
+        double cutoffSq = config.getParticleLodCutoff() * config.getParticleLodCutoff();
+
+        // Worked out on first use, so requests nobody sees from afar don't move the carry
+        int farCount = -1;
+
+        for (int i = 0; i < viewers.size(); i++) {
+            Player viewer = viewers.get(i);
+            if (!viewer.isOnline() || viewer.getWorld() != viewerWorld) continue;
+
+            // Positions as of the start of the tick
+            double dx = viewerPositions[i * 3] - x;
+            double dy = viewerPositions[i * 3 + 1] - y;
+            double dz = viewerPositions[i * 3 + 2] - z;
+            double distSq = dx * dx + dy * dy + dz * dz;
+            boolean reduced = reducedViewers[i];
+            if (distSq > (reduced ? nearSq : cutoffSq)) continue;
+
+            int sent = count;
+            if (count > 0 && (reduced || distSq > nearSq)) {
+                if (farCount < 0) {
+                    farCarry += count * config.getParticleLodFarScale();
+                    farCount = (int) farCarry;
+                    farCarry -= farCount;
+                }
+                sent = farCount;
+            }
+            if (sent == 0 && count > 0) continue;
+
+            viewer.spawnParticle(particle, x, y, z, sent, offsetX, offsetY, offsetZ, speed, data);
+        }
+    }
+
+    /**
+     * Particles spawned since the boss appeared
+     */
+    public long getEmitted() {
+        return emitted;
+    }
+
+    /**
+     * Particles thinned away or dropped since the boss appeared
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Apply the intensity multiplier, carrying the fraction into the next request
+     */
+    private int scale(int count) {
+        carry += count * plugin.getConfigManager().getParticleIntensity();
+        int scaled = (int) carry;
+        carry -= scaled;
+        return scaled;
+    }
+}
@@ -0,0 +1,146 @@
+package com.aitorque.entity;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Target Service - Nearest-player lookups for one boss, computed once per tick
+ *
+ * The first lookup of a tick walks the world's players once with squared
+ * distances and caches the nearest player, the nearest player that can be hurt
+ * (survival/adventure) and the nearest player that has damaged the boss.
+ * Every subsystem then reads the cached results instead of rescanning.
+ */
+public final class TargetService {
+
+    private final Set<UUID> damagers;
+
+    private long refreshedTick;
+    private double anchorX;
+    private double anchorY;
+    private double anchorZ;
+
+    private Player nearest;
+    private double nearestDistSq;
+    private Player nearestHostile;
+    private double nearestHostileDistSq;
+    private Player nearestDamager;
+    private double nearestDamagerDistSq;
+    private double nearestAnyDistSq;
+
+    /**
+     * @param damagers The boss's set of players that have damaged it (read live)
+     */
+    public TargetService(Set<UUID> damagers) {
+        this.damagers = damagers;
+        this.refreshedTick = Long.MIN_VALUE;
+    }
+
+    /**
+     * Recompute the cached targets if this tick has not been scanned yet
+     * (or a cached player has since left)
+     */
+    public void refresh(Location anchor, long tick) {
+        if (tick == refreshedTick && isCurrent(nearest) && isCurrent(nearestHostile) && isCurrent(nearestDamager)) {
+            return;
+        }
+        refreshedTick = tick;
+        anchorX = anchor.getX();
+        anchorY = anchor.getY();
+        anchorZ = anchor.getZ();
+
+        nearest = null;
+        nearestHostile = null;
+        nearestDamager = null;
+        nearestDistSq = Double.MAX_VALUE;
+        nearestHostileDistSq = Double.MAX_VALUE;
+        nearestDamagerDistSq = Double.MAX_VALUE;
+        nearestAnyDistSq = Double.MAX_VALUE;
+
+        World world = anchor.getWorld();
+        if (world == null) return;
+
+        for (Player player : world.getPlayers()) {
+            Location loc = player.getLocation();
+            double dx = loc.getX() - anchorX;
+            double dy = loc.getY() - anchorY;
+            double dz = loc.getZ() - anchorZ;
+            double distSq = dx * dx + dy * dy + dz * dz;
+
+            if (distSq < nearestAnyDistSq) {
+                nearestAnyDistSq = distSq;
+            }
+
+            GameMode mode = player.getGameMode();
+            if (mode == GameMode.SPECTATOR) continue;
+
+            if (distSq < nearestDistSq) {
+                nearestDistSq = distSq;
+                nearest = player;
+            }
+            if ((mode == GameMode.SURVIVAL || mode == GameMode.ADVENTURE) && distSq < nearestHostileDistSq) {
+                nearestHostileDistSq = distSq;
+                nearestHostile = player;
+            }
+            if (distSq < nearestDamagerDistSq && damagers.contains(player.getUniqueId())) {
+                nearestDamagerDistSq = distSq;
+                nearestDamager = player;
+            }
+        }
+    }
+
+    private static boolean isCurrent(Player player) {
+        return player == null || player.isValid();
+    }
+
+    /**
+     * Nearest non-spectator player, or null
+     */
+    public Player getNearest() {
+        return nearest;
+    }
+
+    public double getNearestDistance() {
+        return nearest == null ? Double.MAX_VALUE : Math.sqrt(nearestDistSq);
+    }
+
+    /**
+     * Nearest player in survival or adventure mode, or null
+     */
+    public Player getNearestHostile() {
+        return nearestHostile;
+    }
+
+    /**
+     * Nearest non-spectator player that has damaged the boss, or null
+     */
+    public Player getNearestDamager() {
+        return nearestDamager;
+    }
+
+    public double getNearestDamagerDistance() {
+        return nearestDamager == null ? Double.MAX_VALUE : Math.sqrt(nearestDamagerDistSq);
+    }
+
+    /**
+     * Whether any player (spectators included) is within the radius
+     */
+    public boolean isAnyPlayerWithin(double radius) {
+        return nearestAnyDistSq <= radius * radius;
+    }
+
+    /**
+     * Drop player references (boss removed)
+     */
+    public void clear() {
+        nearest = null;
+        nearestHostile = null;
+        nearestDamager = null;
+        refreshedTick = Long.MIN_VALUE;
+    }
+}
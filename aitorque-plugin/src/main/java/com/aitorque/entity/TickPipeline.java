@@ -0,0 +1,165 @@
+package com.aitorque.entity;
+
+import com.aitorque.AITorquePlugin;
+
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * Tick Pipeline - Single per-entity tick driver
+ *
+ * Every AI Torque subsystem registers here as a stage with a period and a
+ * phase offset instead of scheduling its own BukkitRunnable. The owning
+ * entity advances the pipeline once per server tick, so the dead-entity
+ * guard and scheduler overhead are paid once per boss rather than once per
+ * subsystem.
+ *
+ * Stages registered without an explicit offset are placed on the least
+ * loaded tick of their period, which spreads periodic work across ticks
+ * instead of piling it up on multiples of 20/100/1200.
+ */
+public class TickPipeline {
+
+    /**
+     * A unit of per-entity work driven by the pipeline
+     */
+    @FunctionalInterface
+    public interface Stage {
+        void run();
+    }
+
+    private static class StageEntry {
+        final String name;
+        final int period;
+        final int offset;
+        final Stage stage;
+
+        StageEntry(String name, int period, int offset, Stage stage) {
+            this.name = name;
+            this.period = period;
+            this.offset = offset;
+            this.stage = stage;
+        }
+
+        boolean isDue(long tick) {
+            return tick >= offset && (tick - offset) % period == 0;
+        }
+    }
+
+    private final AITorquePlugin plugin;
+    private final List<StageEntry> stages;
+    private long currentTick;
+
+    public TickPipeline(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.stages = new ArrayList<>();
+        this.currentTick = 0;
+    }
+
+    /**
+     * Register a stage on the least loaded offset for its period
+     */
+    public void register(String name, int period, Stage stage) {
+        register(name, period, findLeastLoadedOffset(Math.max(1, period)), stage);
+    }
+
+    /**
+     * Register a stage with an explicit phase offset
+     *
+     * @param name   Subsystem name (used for diagnostics)
+     * @param period Run every this many ticks (1 = every tick)
+     * @param offset First tick the stage runs on; later runs follow every period ticks
+     * @param stage  The work to run
+     */
+    public void register(String name, int period, int offset, Stage stage) {
+        stages.add(new StageEntry(name, Math.max(1, period), Math.max(0, offset), stage));
+    }
+
+    /**
+     * Remove every stage registered under the given name
+     */
+    public void unregister(String name) {
+        stages.removeIf(entry -> entry.name.equals(name));
+    }
+
+    /**
+     * Advance the pipeline by one tick, running every stage that is due
+     */
+    public void tick() {
+        // Index loop - stages may register further stages while running
+        for (int i = 0; i < stages.size(); i++) {
+            StageEntry entry = stages.get(i);
+            if (!entry.isDue(currentTick)) continue;
+
+            try {
+                entry.stage.run();
+            } catch (RuntimeException e) {
+                // One failing subsystem must not starve the rest of the boss
+                plugin.getLogger().log(Level.WARNING, "AI Torque stage '" + entry.name + "' failed", e);
+            }
+        }
+
+        currentTick++;
+    }
+
+    /**
+     * Remove all stages
+     */
+    public void clear() {
+        stages.clear();
+    }
+
+    /**
+     * Get the number of registered stages
+     */
+    public int getStageCount() {
+        return stages.size();
+    }
+
+    /**
+     * Get the number of ticks the pipeline has advanced
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Pick the offset in [0, period) that collides with the fewest existing stages.
+     * A stage of period q at offset o shares a tick with residue r of period p
+     * whenever r and o agree modulo gcd(p, q); each collision is weighted by
+     * how often it happens (1 / lcm-ratio) so per-tick stages do not dominate.
+     */
+    private int findLeastLoadedOffset(int period) {
+        if (period == 1) return 0;
+
+        double[] load = new double[period];
+        for (StageEntry entry : stages) {
+            if (entry.period == 1) continue; // Shares every tick regardless of offset
+
+            int gcd = gcd(period, entry.period);
+            double weight = (double) gcd / entry.period;
+            for (int r = 0; r < period; r++) {
+                if ((r - entry.offset) % gcd == 0) {
+                    load[r] += weight;
+                }
+            }
+        }
+
+        int best = 0;
+        for (int r = 1; r < period; r++) {
+            if (load[r] < load[best]) {
+                best = r;
+            }
+        }
+        return best;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -44,7 +44,7 @@ public class EntityListener implements Listener {
                     torque.sendChatMessage("§6[AI Torque] §cYou dare strike me? Now face my wrath!");
 
                     // Visual effect - explosion particles
-                    entity.getWorld().spawnParticle(
+                    torque.getParticles().emit(
                         org.bukkit.Particle.EXPLOSION_EMITTER,
                         entity.getLocation(), 5, 1.0, 1.0, 1.0, 0.1
                     );
@@ -71,7 +71,7 @@ public class EntityListener implements Listener {
         AITorqueEntity torque = plugin.getActiveTorque(entity.getUniqueId());
         if (torque != null) {
             // Check for transformation progression after damage
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            torque.runLater("transformation", () -> {
                 torque.checkTransformationProgression();
             }, 1L);
 
@@ -105,9 +105,9 @@ public class EntityListener implements Listener {
             torque.sendChatMessage("§6[AI Torque] §7I will return...");
 
             // Remove the entity after a delay
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                entity.remove();
-                plugin.removeActiveTorque(entity.getUniqueId());
+            torque.runLater("exhaustion", () -> {
+                // Removes the body, its parts and every task it still owns
+                torque.cleanup();
             }, 100L); // 5 seconds
         }
     }
@@ -2,7 +2,6 @@ package com.aitorque.listeners;
 
 import com.aitorque.AITorquePlugin;
 import com.aitorque.entity.AITorqueEntity;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -34,9 +33,9 @@ public class PlayerListener implements Listener {
             // Wait 5 seconds to allow terrain to load after player joins
             // AI Torque spawns BEFORE natural mob spawning begins, establishing itself as apex predator
             // Mobs spawn naturally into a world where AI Torque already exists
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            plugin.getTaskScheduler().runOn(player, () -> {
                 plugin.spawnTorqueUnderPlayer(player);
-            }, 100L); // 5 seconds (20 ticks/second)
+            }, 100L, null); // 5 seconds (20 ticks/second)
         }
     }
 
@@ -0,0 +1,119 @@
+package com.aitorque.performance;
+
+import com.aitorque.AITorquePlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Particle Budget - Per-world cap on boss particles each tick
+ *
+ * Every boss emitter asks here before spawning. A world gets
+ * performance.max-particles particles per tick, shared by all bosses in it.
+ * Lower priorities may only spend part of it, so ambient auras run out
+ * first and combat telegraphs always have room left. Requests that do not
+ * fit are thinned to what is left, or dropped, in arrival order.
+ *
+ * Also remembers which players asked for reduced effects (/torqueeffects),
+ * stored on the player so it survives relogs.
+ */
+public class ParticleBudget {
+
+    /**
+     * Particle priority, highest first
+     */
+    public enum Priority {
+        TELEGRAPH(1.0),     // Warnings the player must see to react
+        EFFECT(0.85),       // Attack visuals
+        AMBIENT(0.5);       // Auras, idle animation
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+
+        /**
+         * How much of a budget this priority may use up, counting everyone's spend
+         */
+        public int limit(int budget) {
+            return (int) (budget * share);
+        }
+    }
+
+    private final AITorquePlugin plugin;
+    private final Map<UUID, Window> worlds;
+    private final AtomicLong dropped;
+    private final NamespacedKey reducedKey;
+
+    public ParticleBudget(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.worlds = new ConcurrentHashMap<>();
+        this.dropped = new AtomicLong();
+        this.reducedKey = new NamespacedKey(plugin, "reduced-effects");
+    }
+
+    /**
+     * Take up to the requested number of particles from the world's budget this tick
+     *
+     * @return How many may be spawned (0 to requested)
+     */
+    public int grant(World world, Priority priority, int requested) {
+        Window window = worlds.computeIfAbsent(world.getUID(), id -> new Window());
+        int granted = window.take(Bukkit.getCurrentTick(),
+            priority.limit(plugin.getConfigManager().getMaxParticles()), requested);
+        if (granted < requested) {
+            dropped.addAndGet(requested - granted);
+        }
+        return granted;
+    }
+
+    public boolean isReducedEffects(Player player) {
+        return player.getPersistentDataContainer().has(reducedKey, PersistentDataType.BYTE);
+    }
+
+    public void setReducedEffects(Player player, boolean reduced) {
+        if (reduced) {
+            player.getPersistentDataContainer().set(reducedKey, PersistentDataType.BYTE, (byte) 1);
+        } else {
+            player.getPersistentDataContainer().remove(reducedKey);
+        }
+    }
+
+    /**
+     * Particles refused by world budgets since startup
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public void clear() {
+        worlds.clear();
+    }
+
+    /**
+     * One world's spend in the current tick
+     */
+    private static final class Window {
+        private long tick = Long.MIN_VALUE;
+        private int spent;
+
+        synchronized int take(long now, int limit, int requested) {
+            if (now != tick) {
+                tick = now;
+                spent = 0;
+            }
+
+            int granted = Math.max(0, Math.min(requested, limit - spent));
+            spent += granted;
+            return granted;
+        }
+    }
+}
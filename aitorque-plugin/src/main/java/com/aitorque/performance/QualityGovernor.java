@@ -0,0 +1,161 @@
+package com.aitorque.performance;
+
+import com.aitorque.AITorquePlugin;
+import com.aitorque.util.ConfigManager;
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Quality Governor - Scales AI Torque effects to actual server load
+ *
+ * Samples every server tick's duration (Paper's ServerTickEndEvent) into a
+ * smoothed MSPT and steps the shared quality tier down when the server is
+ * struggling. Stepping back up needs the MSPT to stay a margin below the
+ * threshold for a while, so the tier doesn't flap around a busy server's
+ * average.
+ *
+ * Folia has no server-wide tick event; there each boss driver reports its
+ * own ticks instead (see {@link #sampleRegion}).
+ */
+public class QualityGovernor implements Listener {
+
+    /** Weight of each new sample in the moving average (~20 tick window) */
+    private static final double SMOOTHING = 0.05;
+
+    /** A region tick later than this (50 ms + 10%) means the region is behind */
+    private static final long LATE_TICK_NANOS = 55_000_000L;
+
+    /**
+     * Effect quality tiers, best first
+     */
+    public enum Tier {
+        FULL(1, 1, 1, 1.0),
+        REDUCED(2, 2, 2, 0.5),
+        MINIMAL(4, 4, 4, 0.25);
+
+        private final int auraStride;
+        private final int animationStride;
+        private final int cooldownMultiplier;
+        private final double scanScale;
+
+        Tier(int auraStride, int animationStride, int cooldownMultiplier, double scanScale) {
+            this.auraStride = auraStride;
+            this.animationStride = animationStride;
+            this.cooldownMultiplier = cooldownMultiplier;
+            this.scanScale = scanScale;
+        }
+
+        /** Only every Nth aura particle point is drawn */
+        public int getAuraStride() {
+            return auraStride;
+        }
+
+        /** Composite parts (tentacles, masks, teeth, head) move every Nth tick */
+        public int getAnimationStride() {
+            return animationStride;
+        }
+
+        /** Attack cooldowns and intervals are stretched by this factor */
+        public int getCooldownMultiplier() {
+            return cooldownMultiplier;
+        }
+
+        /** Consumption scan radii are scaled by this factor */
+        public double getScanScale() {
+            return scanScale;
+        }
+    }
+
+    private final AITorquePlugin plugin;
+    private volatile double averageMspt;
+    private volatile Tier tier;
+    private int headroomTicks;
+
+    public QualityGovernor(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.averageMspt = 0;
+        this.tier = Tier.FULL;
+        this.headroomTicks = 0;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onServerTickEnd(ServerTickEndEvent event) {
+        sample(event.getTickDuration());
+    }
+
+    /**
+     * Feed one boss driver tick (Folia only - Paper uses the tick event)
+     *
+     * A region that keeps up ticks every 50 ms whatever its load, so its
+     * MSPT only shows once it falls behind: then the interval is the tick
+     * time. Until then the boss's own tick time is the best lower bound.
+     *
+     * @param interval Nanoseconds since the boss's previous tick, 0 if unknown
+     * @param work Nanoseconds the boss's own tick took
+     */
+    public void sampleRegion(long interval, long work) {
+        if (!plugin.getTaskScheduler().isFolia()) return;
+        sample((interval > LATE_TICK_NANOS ? interval : work) / 1_000_000.0);
+    }
+
+    /**
+     * Feed one tick duration and update the tier
+     * (region threads report concurrently on Folia)
+     */
+    private synchronized void sample(double mspt) {
+        averageMspt += (mspt - averageMspt) * SMOOTHING;
+
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.isQualityGovernorEnabled()) {
+            tier = Tier.FULL;
+            headroomTicks = 0;
+            return;
+        }
+
+        double reduced = config.getReducedQualityMspt();
+        double minimal = config.getMinimalQualityMspt();
+
+        // Degrade straight away - the server is already behind
+        Tier loaded = averageMspt > minimal ? Tier.MINIMAL
+            : averageMspt > reduced ? Tier.REDUCED
+            : Tier.FULL;
+        if (loaded.ordinal() > tier.ordinal()) {
+            setTier(loaded);
+            return;
+        }
+
+        // Recover one tier at a time after sustained headroom
+        double threshold = tier == Tier.MINIMAL ? minimal : reduced;
+        if (tier != Tier.FULL && averageMspt < threshold - config.getQualityRecoverMargin()) {
+            if (++headroomTicks >= config.getQualityRecoverDelay()) {
+                setTier(Tier.values()[tier.ordinal() - 1]);
+            }
+        } else {
+            headroomTicks = 0;
+        }
+    }
+
+    private void setTier(Tier newTier) {
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info(String.format("Quality tier %s -> %s (%.1f mspt)", tier, newTier, averageMspt));
+        }
+        tier = newTier;
+        headroomTicks = 0;
+    }
+
+    /**
+     * Get the current quality tier
+     */
+    public Tier getTier() {
+        return tier;
+    }
+
+    /**
+     * Get the smoothed server tick duration in milliseconds
+     */
+    public double getAverageMspt() {
+        return averageMspt;
+    }
+}
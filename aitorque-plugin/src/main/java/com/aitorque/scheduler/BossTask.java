@@ -0,0 +1,39 @@
+package com.aitorque.scheduler;
+
+/**
+ * Boss Task - Self-cancelling repeating task, the scheduler-neutral
+ * replacement for BukkitRunnable
+ *
+ * Subclasses implement {@link #run()} and may call {@link #cancel()} from it,
+ * exactly like a BukkitRunnable. The task is started through
+ * {@link TaskScheduler}, which binds the underlying handle.
+ */
+public abstract class BossTask implements Runnable {
+
+    private TaskHandle handle;
+    private boolean cancelled;
+
+    /**
+     * Stop the task
+     */
+    public void cancel() {
+        cancelled = true;
+        if (handle != null) {
+            handle.cancel();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled || (handle != null && handle.isCancelled());
+    }
+
+    /**
+     * Bind the scheduler handle (called by {@link TaskScheduler})
+     */
+    void bind(TaskHandle handle) {
+        this.handle = handle;
+        if (cancelled) {
+            handle.cancel();
+        }
+    }
+}
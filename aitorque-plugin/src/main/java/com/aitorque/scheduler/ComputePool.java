@@ -0,0 +1,54 @@
+package com.aitorque.scheduler;
+
+import com.aitorque.AITorquePlugin;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compute Pool - Worker threads for pure boss math
+ *
+ * Only ever handed immutable snapshots; anything that touches the Bukkit API
+ * goes back to the server thread through a {@link ComputeStage}.
+ */
+public class ComputePool {
+
+    private final ExecutorService executor;
+
+    public ComputePool(AITorquePlugin plugin) {
+        int threads = plugin.getConfigManager().getComputeThreads();
+        if (threads <= 0) {
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "AITorque-Compute-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(threads, factory);
+    }
+
+    /**
+     * Run work on a worker thread
+     */
+    public void execute(Runnable work) {
+        executor.execute(work);
+    }
+
+    /**
+     * Stop the workers (plugin disable)
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.aitorque.scheduler;
+
+import com.aitorque.AITorquePlugin;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Compute Stage - Two-phase tick for a single boss
+ *
+ * A stage captures an immutable snapshot on the server thread and submits
+ * the pure computation to the {@link ComputePool}. The result comes back as
+ * an intent (teleport targets, particle batches, ...) that is applied on the
+ * server thread the next time the owner calls {@link #drain()}.
+ *
+ * Each named job has at most one computation in flight; if the workers fall
+ * behind, new submissions are skipped instead of queueing up stale frames.
+ */
+public class ComputeStage {
+
+    private final AITorquePlugin plugin;
+    private final Queue<Runnable> intents;
+    private final Set<String> inFlight;
+    private volatile boolean closed;
+
+    public ComputeStage(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.intents = new ConcurrentLinkedQueue<>();
+        this.inFlight = ConcurrentHashMap.newKeySet();
+        this.closed = false;
+    }
+
+    /**
+     * Compute off-thread, then apply the result on the server thread
+     *
+     * @param name    Job name; only one computation per name is in flight
+     * @param compute Pure function of captured snapshot data (no Bukkit calls)
+     * @param apply   Applies the result; runs during {@link #drain()}
+     * @return false if the previous computation for this name is still running
+     */
+    public <T> boolean submit(String name, Supplier<T> compute, Consumer<T> apply) {
+        if (closed || !inFlight.add(name)) return false;
+
+        try {
+            plugin.getComputePool().execute(() -> {
+                try {
+                    T result = compute.get();
+                    if (!closed) {
+                        intents.add(() -> apply.accept(result));
+                    }
+                } catch (RuntimeException e) {
+                    plugin.getLogger().log(Level.WARNING, "AI Torque compute job '" + name + "' failed", e);
+                } finally {
+                    inFlight.remove(name);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Pool is shutting down
+            inFlight.remove(name);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Whether a computation for this name is still running (check before capturing its snapshot)
+     */
+    public boolean isRunning(String name) {
+        return inFlight.contains(name);
+    }
+
+    /**
+     * Apply every finished intent (server thread only)
+     */
+    public void drain() {
+        Runnable intent;
+        while ((intent = intents.poll()) != null) {
+            try {
+                intent.run();
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "AI Torque intent failed", e);
+            }
+        }
+    }
+
+    /**
+     * Drop pending intents and ignore results still being computed
+     */
+    public void close() {
+        closed = true;
+        intents.clear();
+    }
+}
@@ -0,0 +1,152 @@
+package com.aitorque.scheduler;
+
+import com.aitorque.AITorquePlugin;
+
+import java.util.ArrayDeque;
+import java.util.logging.Level;
+
+/**
+ * Budgeted Job Scheduler - Time-slices heavy boss work across ticks
+ *
+ * Area attacks and block scans are submitted as resumable jobs that keep their
+ * own cursor. Each boss owns a scheduler and ticks it from its driver; every
+ * tick it runs jobs until the configured nanosecond budget
+ * (performance.job-budget-ns) is used up, then picks up where it left off on
+ * the next tick. Jobs run in the order they were submitted.
+ */
+public class JobScheduler {
+
+    /** Steps between clock reads - System.nanoTime() is not free */
+    private static final int STEPS_PER_CLOCK_CHECK = 32;
+
+    /**
+     * A resumable unit of work
+     */
+    @FunctionalInterface
+    public interface Job {
+        /**
+         * Do one small piece of work
+         *
+         * @return true while there is more work left
+         */
+        boolean step();
+    }
+
+    /**
+     * Handle for a submitted job
+     */
+    public static final class ScheduledJob {
+        private final String name;
+        private final Job job;
+        private boolean done;
+
+        private ScheduledJob(String name, Job job) {
+            this.name = name;
+            this.job = job;
+            this.done = false;
+        }
+
+        public void cancel() {
+            done = true;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private final AITorquePlugin plugin;
+    private final ArrayDeque<ScheduledJob> queue;
+
+    public JobScheduler(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.queue = new ArrayDeque<>();
+    }
+
+    /**
+     * Queue a job
+     *
+     * @param name Job name for diagnostics
+     * @param job  The resumable work
+     */
+    public ScheduledJob submit(String name, Job job) {
+        ScheduledJob scheduled = new ScheduledJob(name, job);
+        queue.addLast(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Run queued jobs until this tick's budget is spent
+     */
+    public void tick() {
+        long deadline = System.nanoTime() + plugin.getConfigManager().getJobBudgetNanos();
+        boolean ranAny = false;
+
+        while (!queue.isEmpty()) {
+            // Always make some progress, even with a zero budget
+            if (ranAny && System.nanoTime() >= deadline) return;
+
+            ScheduledJob scheduled = queue.peekFirst();
+            if (scheduled.done) {
+                queue.pollFirst();
+                continue;
+            }
+
+            ranAny = true;
+            if (runSlice(scheduled, deadline)) {
+                // Budget ran out mid-job; resume it first next tick
+                return;
+            }
+            queue.pollFirst();
+        }
+    }
+
+    /**
+     * Step a job until it finishes or the deadline passes
+     *
+     * @return true if the job still has work left
+     */
+    private boolean runSlice(ScheduledJob scheduled, long deadline) {
+        int steps = 0;
+        try {
+            while (!scheduled.done) {
+                if (!scheduled.job.step()) {
+                    scheduled.done = true;
+                    return false;
+                }
+                if (++steps % STEPS_PER_CLOCK_CHECK == 0 && System.nanoTime() >= deadline) {
+                    return true;
+                }
+            }
+        } catch (RuntimeException e) {
+            scheduled.done = true;
+            plugin.getLogger().log(Level.WARNING, "AI Torque job '" + scheduled.name + "' failed", e);
+        }
+        return false;
+    }
+
+    /**
+     * Drop all queued jobs (boss removed)
+     */
+    public void clear() {
+        for (ScheduledJob scheduled : queue) {
+            scheduled.done = true;
+        }
+        queue.clear();
+    }
+
+    /**
+     * Get the number of jobs still queued
+     */
+    public int getPendingCount() {
+        int count = 0;
+        for (ScheduledJob scheduled : queue) {
+            if (!scheduled.done) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,156 @@
+package com.aitorque.scheduler;
+
+import com.aitorque.AITorquePlugin;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Task Group - Every scheduled task owned by one boss
+ *
+ * Tasks are registered under a subsystem name when they are started and drop
+ * out of the group when they finish or are cancelled. {@link #close()} cancels
+ * whatever is still live in one go, so nothing the boss scheduled can keep
+ * running (or keep the boss reachable) after it is removed.
+ *
+ * With debug mode on, tasks that are scheduled or still running after the
+ * owner closed the group are reported as leaks.
+ */
+public class TaskGroup {
+
+    private final AITorquePlugin plugin;
+    private final String owner;
+    private final Set<Entry> entries;
+    private volatile boolean closed;
+
+    public TaskGroup(AITorquePlugin plugin, String owner) {
+        this.plugin = plugin;
+        this.owner = owner;
+        this.entries = ConcurrentHashMap.newKeySet();
+        this.closed = false;
+    }
+
+    /**
+     * Start a task and track it until it finishes
+     *
+     * @param subsystem Label used by /aitorque tasks and leak warnings
+     * @param task      The task; repeating tasks should be {@link BossTask}s so they can cancel themselves
+     * @param repeating Whether the task stays live after its first run
+     * @param start     Hands the task to the {@link TaskScheduler} and returns its handle
+     * @return The task's handle (already cancelled if the group is closed)
+     */
+    public TaskHandle track(String subsystem, Runnable task, boolean repeating,
+                            Function<Runnable, TaskHandle> start) {
+        if (closed) {
+            warnLeak(subsystem, "scheduled after its owner was removed");
+            return CANCELLED;
+        }
+
+        prune();
+
+        Entry entry = new Entry(subsystem);
+        Runnable tracked = task;
+        if (!repeating) {
+            // One-shot tasks leave the group as soon as they have run
+            tracked = () -> {
+                entries.remove(entry);
+                if (closed) {
+                    warnLeak(subsystem, "ran after its owner was removed");
+                    return;
+                }
+                task.run();
+            };
+        }
+
+        entries.add(entry);
+        entry.handle = start.apply(tracked);
+        return entry.handle;
+    }
+
+    /**
+     * Cancel every live task but keep accepting new ones (rebirth)
+     */
+    public void cancelAll() {
+        for (Entry entry : entries) {
+            if (entry.handle != null) {
+                entry.handle.cancel();
+            }
+        }
+        entries.clear();
+    }
+
+    /**
+     * Cancel every live task and refuse new ones (owner removed)
+     */
+    public void close() {
+        closed = true;
+
+        for (Entry entry : entries) {
+            if (entry.handle != null) {
+                entry.handle.cancel();
+                if (!entry.handle.isCancelled()) {
+                    warnLeak(entry.subsystem, "could not be cancelled when its owner was removed");
+                }
+            }
+        }
+        entries.clear();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Live tasks per subsystem, sorted by name
+     */
+    public Map<String, Integer> getLiveCounts() {
+        prune();
+
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Entry entry : entries) {
+            counts.merge(entry.subsystem, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    public int getLiveCount() {
+        prune();
+        return entries.size();
+    }
+
+    /**
+     * Drop tasks that were cancelled (or retired with their entity on Folia)
+     */
+    private void prune() {
+        entries.removeIf(entry -> entry.handle != null && entry.handle.isCancelled());
+    }
+
+    private void warnLeak(String subsystem, String what) {
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().warning("[Tasks] " + owner + ": task '" + subsystem + "' " + what);
+        }
+    }
+
+    private static final TaskHandle CANCELLED = new TaskHandle() {
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return true;
+        }
+    };
+
+    private static final class Entry {
+        private final String subsystem;
+        private volatile TaskHandle handle;
+
+        Entry(String subsystem) {
+            this.subsystem = subsystem;
+        }
+    }
+}
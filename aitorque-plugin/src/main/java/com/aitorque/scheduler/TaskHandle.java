@@ -0,0 +1,18 @@
+package com.aitorque.scheduler;
+
+/**
+ * Handle for a task scheduled through {@link TaskScheduler}, independent of
+ * whether it runs on the Bukkit scheduler or a Folia region/entity scheduler
+ */
+public interface TaskHandle {
+
+    /**
+     * Stop the task; a no-op if it already finished
+     */
+    void cancel();
+
+    /**
+     * Whether the task was cancelled (or its entity retired on Folia)
+     */
+    boolean isCancelled();
+}
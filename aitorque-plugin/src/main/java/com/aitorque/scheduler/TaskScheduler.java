@@ -0,0 +1,193 @@
+package com.aitorque.scheduler;
+
+import com.aitorque.AITorquePlugin;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.function.Consumer;
+
+/**
+ * Task Scheduler - One entry point for every task the plugin schedules
+ *
+ * On Folia, work is routed to the scheduler that owns the data it touches:
+ * the entity scheduler for anything following a mob, the region scheduler for
+ * work at a fixed location and the global region scheduler for the rest.
+ * On plain Paper/Spigot everything falls back to the Bukkit scheduler, which
+ * keeps the old single-threaded behaviour.
+ */
+public class TaskScheduler {
+
+    private final AITorquePlugin plugin;
+    private final boolean folia;
+
+    public TaskScheduler(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.folia = detectFolia();
+    }
+
+    private static boolean detectFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether the server is region-threaded (Folia)
+     */
+    public boolean isFolia() {
+        return folia;
+    }
+
+    // ============================================
+    // GLOBAL - world-independent work
+    // ============================================
+
+    public TaskHandle runGlobal(Runnable task, long delay) {
+        if (!folia) {
+            return bind(task, wrap(Bukkit.getScheduler().runTaskLater(plugin, task, Math.max(0, delay))));
+        }
+        Consumer<ScheduledTask> consumer = scheduled -> task.run();
+        return bind(task, wrap(delay < 1
+            ? Bukkit.getGlobalRegionScheduler().run(plugin, consumer)
+            : Bukkit.getGlobalRegionScheduler().runDelayed(plugin, consumer, delay)));
+    }
+
+    public TaskHandle runGlobalTimer(Runnable task, long delay, long period) {
+        if (!folia) {
+            return bind(task, wrap(Bukkit.getScheduler().runTaskTimer(plugin, task, Math.max(0, delay), Math.max(1, period))));
+        }
+        return bind(task, wrap(Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, scheduled -> task.run(),
+            Math.max(1, delay), Math.max(1, period))));
+    }
+
+    // ============================================
+    // REGION - work at a fixed location
+    // ============================================
+
+    public TaskHandle runAt(Location location, Runnable task, long delay) {
+        if (!folia) {
+            return bind(task, wrap(Bukkit.getScheduler().runTaskLater(plugin, task, Math.max(0, delay))));
+        }
+        Consumer<ScheduledTask> consumer = scheduled -> task.run();
+        return bind(task, wrap(delay < 1
+            ? Bukkit.getRegionScheduler().run(plugin, location, consumer)
+            : Bukkit.getRegionScheduler().runDelayed(plugin, location, consumer, delay)));
+    }
+
+    public TaskHandle runAtTimer(Location location, Runnable task, long delay, long period) {
+        if (!folia) {
+            return bind(task, wrap(Bukkit.getScheduler().runTaskTimer(plugin, task, Math.max(0, delay), Math.max(1, period))));
+        }
+        return bind(task, wrap(Bukkit.getRegionScheduler().runAtFixedRate(plugin, location, scheduled -> task.run(),
+            Math.max(1, delay), Math.max(1, period))));
+    }
+
+    // ============================================
+    // ENTITY - work that follows a mob between regions
+    // ============================================
+
+    /**
+     * Run a task on the entity's scheduler
+     *
+     * @param retired Called instead if the entity is removed first (Folia only, may be null)
+     */
+    public TaskHandle runOn(Entity entity, Runnable task, long delay, Runnable retired) {
+        if (!folia) {
+            return bind(task, wrap(Bukkit.getScheduler().runTaskLater(plugin, task, Math.max(0, delay))));
+        }
+        FoliaHandle handle = new FoliaHandle();
+        Consumer<ScheduledTask> consumer = scheduled -> task.run();
+        ScheduledTask scheduled = delay < 1
+            ? entity.getScheduler().run(plugin, consumer, handle.retire(retired))
+            : entity.getScheduler().runDelayed(plugin, consumer, handle.retire(retired), delay);
+        return bind(task, handle.attach(scheduled));
+    }
+
+    /**
+     * Run a repeating task on the entity's scheduler
+     *
+     * @param retired Called once if the entity is removed while the task is live (Folia only, may be null)
+     */
+    public TaskHandle runOnTimer(Entity entity, Runnable task, long delay, long period, Runnable retired) {
+        if (!folia) {
+            return bind(task, wrap(Bukkit.getScheduler().runTaskTimer(plugin, task, Math.max(0, delay), Math.max(1, period))));
+        }
+        FoliaHandle handle = new FoliaHandle();
+        ScheduledTask scheduled = entity.getScheduler().runAtFixedRate(plugin, t -> task.run(), handle.retire(retired),
+            Math.max(1, delay), Math.max(1, period));
+        return bind(task, handle.attach(scheduled));
+    }
+
+    // ============================================
+    // HANDLES
+    // ============================================
+
+    private static TaskHandle bind(Runnable task, TaskHandle handle) {
+        if (task instanceof BossTask) {
+            ((BossTask) task).bind(handle);
+        }
+        return handle;
+    }
+
+    private static TaskHandle wrap(BukkitTask task) {
+        return new TaskHandle() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+
+    private static TaskHandle wrap(ScheduledTask task) {
+        return new FoliaHandle().attach(task);
+    }
+
+    /**
+     * Folia task handle that also reports entity retirement as cancellation
+     */
+    private static final class FoliaHandle implements TaskHandle {
+        private ScheduledTask task;
+        private boolean retired;
+
+        Runnable retire(Runnable callback) {
+            return () -> {
+                retired = true;
+                if (callback != null) {
+                    callback.run();
+                }
+            };
+        }
+
+        TaskHandle attach(ScheduledTask task) {
+            this.task = task;
+            // Null means the entity was already retired when scheduling
+            if (task == null) {
+                retired = true;
+            }
+            return this;
+        }
+
+        @Override
+        public void cancel() {
+            if (task != null) {
+                task.cancel();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return retired || (task != null && task.isCancelled());
+        }
+    }
+}
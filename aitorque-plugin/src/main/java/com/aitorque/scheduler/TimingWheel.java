@@ -0,0 +1,237 @@
+package com.aitorque.scheduler;
+
+import com.aitorque.AITorquePlugin;
+
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * Hierarchical Timing Wheel - Per-boss scheduler for delayed effect chains
+ *
+ * Cosmic attacks used to schedule one runTaskLater lambda per animation step,
+ * which meant thousands of entries in the Bukkit scheduler's priority queue
+ * when several attacks overlapped. Here a multi-step effect is a single
+ * {@link Timeline} that re-arms itself after each step. Each boss owns one
+ * wheel and advances it from its own tick driver, so on Folia the effects run
+ * on the boss's region thread.
+ *
+ * The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots. Level 0 holds
+ * timelines due within the next 64 ticks, level 1 within 4096 ticks, and so on;
+ * higher levels cascade down as time advances. Insert and expire are O(1).
+ */
+public class TimingWheel {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (BITS * LEVELS)) - 1;
+
+    /**
+     * Callback invoked for every step of a timeline
+     */
+    @FunctionalInterface
+    public interface StepCallback {
+        /**
+         * @param step Zero-based step index
+         */
+        void onStep(int step);
+    }
+
+    /**
+     * A multi-step effect scheduled on the wheel
+     */
+    public static final class Timeline {
+        private final int steps;
+        private final long interval;
+        private final StepCallback callback;
+        private int nextStep;
+        private long expireTick;
+        private boolean cancelled;
+
+        private Timeline(int steps, long interval, StepCallback callback) {
+            this.steps = steps;
+            this.interval = interval;
+            this.callback = callback;
+            this.nextStep = 0;
+            this.cancelled = false;
+        }
+
+        /**
+         * Stop the timeline; remaining steps are dropped
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isDone() {
+            return cancelled || nextStep >= steps;
+        }
+    }
+
+    private final AITorquePlugin plugin;
+    private final List<List<Timeline>> wheels;
+    private final Set<Timeline> active;
+    private List<Timeline> spare;
+    private long currentTick;
+    private boolean processing;
+
+    public TimingWheel(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.wheels = new ArrayList<>(LEVELS * SLOTS);
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            wheels.add(new ArrayList<>());
+        }
+        this.active = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.spare = new ArrayList<>();
+        this.currentTick = 0;
+        this.processing = false;
+    }
+
+    /**
+     * Run a callback once after a delay
+     */
+    public Timeline schedule(long delay, Runnable action) {
+        return schedule(delay, 1, 1, step -> action.run());
+    }
+
+    /**
+     * Schedule a multi-step timeline
+     *
+     * @param delay    Ticks until the first step (0 = next tick)
+     * @param steps    Number of steps to run
+     * @param interval Ticks between steps
+     * @param callback Invoked with the step index on every step
+     */
+    public Timeline schedule(long delay, int steps, long interval, StepCallback callback) {
+        Timeline timeline = new Timeline(Math.max(1, steps), Math.max(1, interval), callback);
+
+        // While the wheel is firing, the current slot has already been taken
+        long base = processing ? currentTick + 1 : currentTick;
+        timeline.expireTick = base + Math.max(0, delay - 1);
+
+        active.add(timeline);
+        place(timeline);
+        return timeline;
+    }
+
+    /**
+     * Cancel everything (boss removed)
+     */
+    public void clear() {
+        for (Timeline timeline : active) {
+            timeline.cancelled = true;
+        }
+        active.clear();
+        for (List<Timeline> slot : wheels) {
+            slot.clear();
+        }
+    }
+
+    /**
+     * Get the number of live timelines
+     */
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    /**
+     * Advance the wheel by one tick and fire every step that is due
+     */
+    public void tick() {
+        cascade();
+
+        int index = (int) (currentTick & MASK);
+        List<Timeline> due = wheels.get(index);
+        if (!due.isEmpty()) {
+            // Swap in an empty list so steps may reschedule into this level safely
+            wheels.set(index, spare);
+            processing = true;
+            for (Timeline timeline : due) {
+                fire(timeline);
+            }
+            processing = false;
+            due.clear();
+            spare = due;
+        }
+
+        currentTick++;
+    }
+
+    /**
+     * Run one step and re-arm the timeline for the next one
+     */
+    private void fire(Timeline timeline) {
+        if (timeline.isDone()) {
+            active.remove(timeline);
+            return;
+        }
+
+        int step = timeline.nextStep++;
+        try {
+            timeline.callback.onStep(step);
+        } catch (RuntimeException e) {
+            timeline.cancelled = true;
+            plugin.getLogger().log(Level.WARNING, "AI Torque effect timeline failed at step " + step, e);
+        }
+
+        if (timeline.isDone()) {
+            active.remove(timeline);
+        } else {
+            timeline.expireTick += timeline.interval;
+            place(timeline);
+        }
+    }
+
+    /**
+     * When a level wraps, redistribute the next slot of each higher level into
+     * the levels below, starting from the highest so entries fall all the way down.
+     */
+    private void cascade() {
+        int highest = 0;
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) break;
+            highest = level;
+        }
+
+        for (int level = highest; level >= 1; level--) {
+            int index = slotIndex(level, (int) ((currentTick >>> (BITS * level)) & MASK));
+            List<Timeline> slot = wheels.get(index);
+            if (slot.isEmpty()) continue;
+
+            List<Timeline> moving = new ArrayList<>(slot);
+            slot.clear();
+            for (Timeline timeline : moving) {
+                if (!timeline.isDone()) {
+                    place(timeline);
+                }
+            }
+        }
+    }
+
+    /**
+     * Put a timeline in the slot matching its expiry tick
+     */
+    private void place(Timeline timeline) {
+        long delta = timeline.expireTick - currentTick;
+        if (delta < 0) {
+            delta = 0;
+            timeline.expireTick = currentTick;
+        } else if (delta > MAX_DELTA) {
+            delta = MAX_DELTA;
+            timeline.expireTick = currentTick + MAX_DELTA;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1)))) {
+            level++;
+        }
+
+        int slot = (int) ((timeline.expireTick >>> (BITS * level)) & MASK);
+        wheels.get(slotIndex(level, slot)).add(timeline);
+    }
+
+    private static int slotIndex(int level, int slot) {
+        return level * SLOTS + slot;
+    }
+}
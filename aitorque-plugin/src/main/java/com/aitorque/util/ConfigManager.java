@@ -168,6 +168,114 @@ public class ConfigManager {
         return config.getInt("performance.max-particles", 1000);
     }
 
+    public int getBossParticlesPerTick() {
+        return config.getInt("performance.boss-particles-per-tick", 600);
+    }
+
+    public boolean isParticleLodEnabled() {
+        return config.getBoolean("performance.particle-lod.enabled", true);
+    }
+
+    public double getParticleLodViewRange() {
+        return config.getDouble("performance.particle-lod.view-range", 240.0);
+    }
+
+    public double getParticleLodNearDistance() {
+        return config.getDouble("performance.particle-lod.near-distance", 16.0);
+    }
+
+    public double getParticleLodCutoff() {
+        return config.getDouble("performance.particle-lod.cutoff", 32.0);
+    }
+
+    public double getParticleLodFarScale() {
+        return config.getDouble("performance.particle-lod.far-scale", 0.35);
+    }
+
+    public long getJobBudgetNanos() {
+        return config.getLong("performance.job-budget-ns", 2000000L);
+    }
+
+    public int getComputeThreads() {
+        return config.getInt("performance.compute-threads", 0);
+    }
+
+    public boolean isQualityGovernorEnabled() {
+        return config.getBoolean("performance.quality-governor.enabled", true);
+    }
+
+    public double getReducedQualityMspt() {
+        return config.getDouble("performance.quality-governor.reduced-mspt", 40.0);
+    }
+
+    public double getMinimalQualityMspt() {
+        return config.getDouble("performance.quality-governor.minimal-mspt", 47.0);
+    }
+
+    public double getQualityRecoverMargin() {
+        return config.getDouble("performance.quality-governor.recover-margin", 5.0);
+    }
+
+    public int getQualityRecoverDelay() {
+        return config.getInt("performance.quality-governor.recover-delay", 200);
+    }
+
+    public boolean isDormancyEnabled() {
+        return config.getBoolean("performance.dormancy.enabled", true);
+    }
+
+    public double getDormancyRadius() {
+        return config.getDouble("performance.dormancy.radius", 128.0);
+    }
+
+    public int getDormancyDelay() {
+        return config.getInt("performance.dormancy.delay", 30);
+    }
+
+    public boolean isEntitySnapshotEnabled() {
+        return config.getBoolean("performance.entity-snapshot.enabled", true);
+    }
+
+    public double getEntitySnapshotMinRadius() {
+        return config.getDouble("performance.entity-snapshot.min-radius", 32.0);
+    }
+
+    public double getEntitySnapshotMaxRadius() {
+        return config.getDouble("performance.entity-snapshot.max-radius", 160.0);
+    }
+
+    public double getEntitySnapshotCellSize() {
+        return config.getDouble("performance.entity-snapshot.cell-size", 8.0);
+    }
+
+    public int getConsumeFrontierResetDistance() {
+        return config.getInt("performance.consume-frontier-reset", 16);
+    }
+
+    public int getTerrainSnapshotMaxAge() {
+        return config.getInt("performance.terrain-snapshot-max-age", 100);
+    }
+
+    public int getSurfaceCacheMaxAge() {
+        return config.getInt("performance.surface-cache-max-age", 600);
+    }
+
+    public double getMaxPushSpeed() {
+        return config.getDouble("performance.max-push-speed", 4.0);
+    }
+
+    public int getBlockEditsPerTick() {
+        return Math.max(1, config.getInt("performance.block-edits-per-tick", 4096));
+    }
+
+    public int getBeamMaxSamples() {
+        return Math.max(1, config.getInt("performance.beam-max-samples", 100));
+    }
+
+    public int getDisplayRigInterval() {
+        return Math.max(1, config.getInt("performance.display-rig.update-interval", 3));
+    }
+
     // Effects
     public boolean areParticlesEnabled() {
         return config.getBoolean("effects.particles.enabled", true);
@@ -0,0 +1,209 @@
+package com.aitorque.world;
+
+import com.aitorque.AITorquePlugin;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Block Edit Queue - Budgeted bulk block writes
+ *
+ * Terrain attacks queue their edits as a {@link Batch} (shapes plus target
+ * block data) instead of calling setType block by block. Each boss owns a
+ * queue and ticks it from its driver; every tick it applies up to
+ * performance.block-edits-per-tick writes, one chunk at a time, without
+ * physics. Because a chunk's edits are applied together and shapes walk
+ * bottom-up, each tick's writes land in as few chunk sections as possible,
+ * and the server sends them as one multi-block update per section and
+ * relights each touched section once at the end of the tick. Edits for a
+ * chunk that unloads before its turn are dropped, never loaded.
+ */
+public class BlockEditQueue {
+
+    /**
+     * Edits grouped by chunk, ready to submit
+     *
+     * Pure data - may be built on a compute worker and submitted on the
+     * server thread. Block data must be created on the server thread.
+     */
+    public static final class Batch {
+        private final World world;
+        private final Map<Long, ChunkEdits> chunks;
+        private int size;
+
+        public Batch(World world) {
+            this.world = world;
+            this.chunks = new LinkedHashMap<>();
+        }
+
+        public Batch set(int x, int y, int z, BlockData data) {
+            long chunkKey = BlockKey.chunk(x >> 4, z >> 4);
+            ChunkEdits edits = chunks.get(chunkKey);
+            if (edits == null) {
+                edits = new ChunkEdits(world, x >> 4, z >> 4);
+                chunks.put(chunkKey, edits);
+            }
+            edits.add(BlockKey.pack(x, y, z), data);
+            size++;
+            return this;
+        }
+
+        public Batch fill(BlockShape shape, BlockData data) {
+            shape.forEach(key -> set(BlockKey.x(key), BlockKey.y(key), BlockKey.z(key), data));
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    private final AITorquePlugin plugin;
+    private final ArrayDeque<ChunkEdits> pending;
+    private int pendingEdits;
+
+    public BlockEditQueue(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.pending = new ArrayDeque<>();
+    }
+
+    /**
+     * Queue a batch behind everything already submitted (server thread only)
+     */
+    public void submit(Batch batch) {
+        Collection<ChunkEdits> chunks = batch.chunks.values();
+        for (ChunkEdits edits : chunks) {
+            pending.addLast(edits);
+        }
+        pendingEdits += batch.size;
+    }
+
+    /**
+     * Queue a single shape (server thread only)
+     */
+    public void fill(World world, BlockShape shape, BlockData data) {
+        submit(new Batch(world).fill(shape, data));
+    }
+
+    /**
+     * Apply up to this tick's budget of edits
+     */
+    public void tick() {
+        int budget = plugin.getConfigManager().getBlockEditsPerTick();
+
+        while (budget > 0 && !pending.isEmpty()) {
+            ChunkEdits head = pending.peekFirst();
+            int before = head.remaining();
+
+            if (head.world.isChunkLoaded(head.chunkX, head.chunkZ)) {
+                budget -= head.apply(budget, plugin.getSurfaceCache());
+            } else {
+                head.drop();
+            }
+
+            pendingEdits -= before - head.remaining();
+            if (head.remaining() == 0) {
+                pending.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Edits still waiting to be applied
+     */
+    public int getPending() {
+        return pendingEdits;
+    }
+
+    public void clear() {
+        pending.clear();
+        pendingEdits = 0;
+    }
+
+    /**
+     * Edits inside one chunk, applied in the order they were added
+     */
+    private static final class ChunkEdits {
+        private final World world;
+        private final int chunkX;
+        private final int chunkZ;
+        private long[] keys;
+        private BlockData[] data;
+        private int size;
+        private int cursor;
+
+        ChunkEdits(World world, int chunkX, int chunkZ) {
+            this.world = world;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.keys = new long[64];
+            this.data = new BlockData[64];
+        }
+
+        void add(long key, BlockData blockData) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                data = Arrays.copyOf(data, size * 2);
+            }
+            keys[size] = key;
+            data[size] = blockData;
+            size++;
+        }
+
+        /**
+         * Apply up to the limit of edits, marking the chunk's cached surface stale if anything changed
+         *
+         * @return Edits used
+         */
+        int apply(int limit, SurfaceCache surface) {
+            Chunk chunk = world.getChunkAt(chunkX, chunkZ);
+            int minY = world.getMinHeight();
+            int maxY = world.getMaxHeight();
+
+            int used = 0;
+            boolean changed = false;
+            while (cursor < size && used < limit) {
+                long key = keys[cursor];
+                BlockData target = data[cursor];
+                data[cursor] = null;
+                cursor++;
+                used++;
+
+                int y = BlockKey.y(key);
+                if (y < minY || y >= maxY) continue;
+
+                Block block = chunk.getBlock(BlockKey.x(key) & 15, y, BlockKey.z(key) & 15);
+                // Overlapping shapes and repeated attacks often ask for what is already there
+                if (block.getType() == target.getMaterial() && block.getBlockData().matches(target)) continue;
+
+                block.setBlockData(target, false);
+                changed = true;
+            }
+
+            if (changed) {
+                surface.invalidateChunk(world, chunkX, chunkZ);
+            }
+            return used;
+        }
+
+        void drop() {
+            Arrays.fill(data, cursor, size, null);
+            cursor = size;
+        }
+
+        int remaining() {
+            return size - cursor;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.aitorque.world;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+/**
+ * Block Frontier - Persistent nearest-first walk outward from an anchor
+ *
+ * Visits positions in cube shells of growing radius (shell 0 is the anchor
+ * block, shell r is every position whose largest offset is exactly r) and
+ * remembers where it stopped, so repeated bites continue from the edge of
+ * what was already eaten instead of rescanning it. The walk only restarts
+ * when the anchor moves further than the reset distance.
+ */
+public class BlockFrontier {
+
+    /** Returned by {@link #nextKey} when the walk has reached the radius */
+    public static final long NONE = Long.MIN_VALUE;
+
+    /**
+     * Which chunks the walk may read
+     */
+    public interface Chunks {
+        boolean has(int chunkX, int chunkZ);
+    }
+
+    private final int resetDistance;
+    private int generation;
+
+    private World world;
+    private int anchorX;
+    private int anchorY;
+    private int anchorZ;
+
+    // Cursor: shell radius and offset inside it
+    private int shell;
+    private int dx;
+    private int dy;
+    private int dz;
+
+    public BlockFrontier(int resetDistance) {
+        this.resetDistance = Math.max(0, resetDistance);
+    }
+
+    /**
+     * Follow the boss; restarts the walk if it moved too far from the anchor
+     *
+     * @return true if the walk was restarted
+     */
+    public boolean follow(Location location) {
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+
+        if (world == location.getWorld()
+                && Math.abs(x - anchorX) <= resetDistance
+                && Math.abs(y - anchorY) <= resetDistance
+                && Math.abs(z - anchorZ) <= resetDistance) {
+            return false;
+        }
+
+        world = location.getWorld();
+        generation++;
+        anchorX = x;
+        anchorY = y;
+        anchorZ = z;
+        shell = 0;
+        dx = 0;
+        dy = 0;
+        dz = 0;
+        return true;
+    }
+
+    /**
+     * Next position of the walk within the radius
+     *
+     * Positions outside the world's height or in unloaded chunks are passed
+     * over (never loaded). Once the walk reaches the radius it waits there,
+     * and carries on if a later call allows a larger radius.
+     *
+     * @return The block, or null if every position within the radius was visited
+     */
+    public Block next(int maxRadius) {
+        if (world == null) return null;
+
+        long key = nextKey(maxRadius, world::isChunkLoaded);
+        return key == NONE ? null : world.getBlockAt(BlockKey.x(key), BlockKey.y(key), BlockKey.z(key));
+    }
+
+    /**
+     * Next position of the walk within the radius, as a packed {@link BlockKey}
+     *
+     * Does not touch the world, so a copy of the frontier can be walked over a
+     * {@link TerrainSnapshot} on a compute worker.
+     *
+     * @param chunks Chunks that may be read; positions elsewhere are passed over
+     * @return The key, or {@link #NONE} if every position within the radius was visited
+     */
+    public long nextKey(int maxRadius, Chunks chunks) {
+        if (world == null) return NONE;
+
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight();
+
+        while (shell <= maxRadius) {
+            int x = anchorX + dx;
+            int y = anchorY + dy;
+            int z = anchorZ + dz;
+            advance();
+
+            if (y < minY || y >= maxY) continue;
+            if (!chunks.has(x >> 4, z >> 4)) continue;
+
+            return BlockKey.pack(x, y, z);
+        }
+        return NONE;
+    }
+
+    /**
+     * Independent copy of the walk (for walking off-thread)
+     */
+    public BlockFrontier copy() {
+        BlockFrontier copy = new BlockFrontier(resetDistance);
+        copy.adopt(this);
+        return copy;
+    }
+
+    /**
+     * Continue from where a copy got to, unless this walk restarted since the copy was made
+     *
+     * @return false if the copy belongs to an older anchor and was ignored
+     */
+    public boolean adopt(BlockFrontier other) {
+        if (world != null && other.generation != generation) return false;
+
+        world = other.world;
+        generation = other.generation;
+        anchorX = other.anchorX;
+        anchorY = other.anchorY;
+        anchorZ = other.anchorZ;
+        shell = other.shell;
+        dx = other.dx;
+        dy = other.dy;
+        dz = other.dz;
+        return true;
+    }
+
+    /**
+     * Centre of the walk (new object), or null before the first {@link #follow}
+     */
+    public Location getAnchor() {
+        return world == null ? null : new Location(world, anchorX, anchorY, anchorZ);
+    }
+
+    /**
+     * Radius of the shell currently being walked
+     */
+    public int getShell() {
+        return shell;
+    }
+
+    /**
+     * Step to the next offset on the current shell, or open the next shell
+     */
+    private void advance() {
+        if (shell == 0) {
+            openShell(1);
+            return;
+        }
+
+        // Rows on a face of the cube are walked in full, inner rows only at both ends
+        boolean faceRow = Math.abs(dx) == shell || Math.abs(dy) == shell;
+        dz += faceRow ? 1 : 2 * shell;
+        if (dz <= shell) return;
+
+        dz = -shell;
+        dy++;
+        if (dy <= shell) return;
+
+        dy = -shell;
+        dx++;
+        if (dx <= shell) return;
+
+        openShell(shell + 1);
+    }
+
+    private void openShell(int radius) {
+        shell = radius;
+        dx = -radius;
+        dy = -radius;
+        dz = -radius;
+    }
+}
@@ -0,0 +1,37 @@
+package com.aitorque.world;
+
+/**
+ * Block Key - Block positions packed into a single long
+ *
+ * 26 bits of x, 26 bits of z and 12 bits of y, which covers the whole
+ * world border and build height. Used as set/map keys instead of Location
+ * or Block objects.
+ */
+public final class BlockKey {
+
+    private BlockKey() {
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | ((long) y & 0xFFFL);
+    }
+
+    public static int x(long key) {
+        return (int) (key >> 38);
+    }
+
+    public static int y(long key) {
+        return (int) (key << 52 >> 52);
+    }
+
+    public static int z(long key) {
+        return (int) (key << 26 >> 38);
+    }
+
+    /**
+     * Pack chunk coordinates (same layout as Chunk.getChunkKey)
+     */
+    public static long chunk(int chunkX, int chunkZ) {
+        return ((long) chunkZ << 32) | (chunkX & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,98 @@
+package com.aitorque.world;
+
+import org.bukkit.Location;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * Block Shape - A set of block positions for bulk edits
+ *
+ * Shapes hand out packed {@link BlockKey}s and never touch the world, so they
+ * can be expanded on a compute worker. The built-in shapes walk from the
+ * bottom layer up, which keeps each chunk's edits grouped by section.
+ */
+@FunctionalInterface
+public interface BlockShape {
+
+    /**
+     * Emit every position in the shape
+     */
+    void forEach(LongConsumer out);
+
+    /**
+     * Only the positions the predicate keeps
+     */
+    default BlockShape filter(LongPredicate keep) {
+        return out -> forEach(key -> {
+            if (keep.test(key)) out.accept(key);
+        });
+    }
+
+    /**
+     * Every position between two corners (inclusive)
+     */
+    static BlockShape box(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return out -> {
+            for (int y = minY; y <= maxY; y++) {
+                for (int x = minX; x <= maxX; x++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        out.accept(BlockKey.pack(x, y, z));
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Cube of side 2 * half + 1 around a point
+     */
+    static BlockShape cube(Location center, int half) {
+        int x = center.getBlockX();
+        int y = center.getBlockY();
+        int z = center.getBlockZ();
+        return box(x - half, y - half, z - half, x + half, y + half, z + half);
+    }
+
+    /**
+     * Solid sphere around a point
+     */
+    static BlockShape sphere(Location center, int radius) {
+        int cx = center.getBlockX();
+        int cy = center.getBlockY();
+        int cz = center.getBlockZ();
+        int radiusSq = radius * radius;
+        return out -> {
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dx = -radius; dx <= radius; dx++) {
+                    int rowSq = radiusSq - dy * dy - dx * dx;
+                    if (rowSq < 0) continue;
+
+                    // Only the z range inside the sphere, not the whole cube row
+                    int reach = (int) Math.sqrt(rowSq);
+                    for (int dz = -reach; dz <= reach; dz++) {
+                        out.accept(BlockKey.pack(cx + dx, cy + dy, cz + dz));
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Flat filled circle at a point's height
+     */
+    static BlockShape disc(Location center, int radius) {
+        int cx = center.getBlockX();
+        int cy = center.getBlockY();
+        int cz = center.getBlockZ();
+        int radiusSq = radius * radius;
+        return out -> {
+            for (int dx = -radius; dx <= radius; dx++) {
+                int reach = (int) Math.sqrt(radiusSq - dx * dx);
+                for (int dz = -reach; dz <= reach; dz++) {
+                    out.accept(BlockKey.pack(cx + dx, cy, cz + dz));
+                }
+            }
+        };
+    }
+}
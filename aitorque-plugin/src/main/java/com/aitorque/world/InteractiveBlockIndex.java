@@ -0,0 +1,244 @@
+package com.aitorque.world;
+
+import com.aitorque.AITorquePlugin;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Interactive Block Index - Where the levers, buttons, doors and trapdoors are
+ *
+ * Positions are kept per chunk as a copy-on-write array of packed block keys
+ * (chunks hold a handful, and queries read far more often than blocks
+ * change). A chunk is indexed the first time a query touches it: its
+ * snapshot is taken on the server thread and scanned on a compute worker.
+ * After that the entry is kept current by block place/break events and
+ * dropped when the chunk unloads. Other changes (explosions, pistons,
+ * attacks) are caught when a query re-checks the type.
+ */
+public class InteractiveBlockIndex implements Listener {
+
+    private final AITorquePlugin plugin;
+    private final Set<Material> interactive;
+    private final Map<UUID, Map<Long, ChunkEntry>> worlds;
+
+    public InteractiveBlockIndex(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.worlds = new ConcurrentHashMap<>();
+
+        // Resolved up front so workers never touch the tag registry
+        this.interactive = EnumSet.noneOf(Material.class);
+        interactive.add(Material.LEVER);
+        interactive.addAll(Tag.BUTTONS.getValues());
+        interactive.addAll(Tag.DOORS.getValues());
+        interactive.addAll(Tag.TRAPDOORS.getValues());
+    }
+
+    public boolean isInteractive(Material type) {
+        return interactive.contains(type);
+    }
+
+    /**
+     * Interactive blocks in the box around a point
+     *
+     * Chunks that have not been indexed yet are queued and skipped, so the
+     * first few queries near new terrain may come back short.
+     */
+    public List<Block> query(Location center, int rx, int ry, int rz) {
+        World world = center.getWorld();
+        int cx = center.getBlockX();
+        int cy = center.getBlockY();
+        int cz = center.getBlockZ();
+
+        List<Block> found = new ArrayList<>();
+        for (int chunkX = (cx - rx) >> 4; chunkX <= (cx + rx) >> 4; chunkX++) {
+            for (int chunkZ = (cz - rz) >> 4; chunkZ <= (cz + rz) >> 4; chunkZ++) {
+                if (!world.isChunkLoaded(chunkX, chunkZ)) continue;
+
+                ChunkEntry entry = entry(world, chunkX, chunkZ);
+                if (!entry.ready) continue;
+
+                for (long key : entry.positions) {
+                    int x = BlockKey.x(key);
+                    int y = BlockKey.y(key);
+                    int z = BlockKey.z(key);
+                    if (Math.abs(x - cx) > rx || Math.abs(y - cy) > ry || Math.abs(z - cz) > rz) continue;
+
+                    Block block = world.getBlockAt(x, y, z);
+                    if (interactive.contains(block.getType())) {
+                        found.add(block);
+                    } else {
+                        // Changed by something we don't listen to
+                        entry.remove(key);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Indexed chunks across all worlds
+     */
+    public int getIndexedChunkCount() {
+        int count = 0;
+        for (Map<Long, ChunkEntry> chunks : worlds.values()) {
+            count += chunks.size();
+        }
+        return count;
+    }
+
+    public void clear() {
+        worlds.clear();
+    }
+
+    // ============================================
+    // INDEX BUILD
+    // ============================================
+
+    private ChunkEntry entry(World world, int chunkX, int chunkZ) {
+        Map<Long, ChunkEntry> chunks = worlds.computeIfAbsent(world.getUID(), id -> new ConcurrentHashMap<>());
+        long chunkKey = BlockKey.chunk(chunkX, chunkZ);
+
+        ChunkEntry entry = chunks.get(chunkKey);
+        if (entry != null) return entry;
+
+        entry = new ChunkEntry();
+        chunks.put(chunkKey, entry);
+        build(world, chunkX, chunkZ, entry);
+        return entry;
+    }
+
+    private void build(World world, int chunkX, int chunkZ, ChunkEntry entry) {
+        ChunkSnapshot snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false);
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight();
+
+        try {
+            plugin.getComputePool().execute(() -> {
+                int baseX = chunkX << 4;
+                int baseZ = chunkZ << 4;
+                long[] found = new long[16];
+                int count = 0;
+
+                for (int sectionY = minY; sectionY < maxY; sectionY += 16) {
+                    if (snapshot.isSectionEmpty((sectionY - minY) >> 4)) continue;
+
+                    for (int y = sectionY; y < sectionY + 16; y++) {
+                        for (int x = 0; x < 16; x++) {
+                            for (int z = 0; z < 16; z++) {
+                                if (interactive.contains(snapshot.getBlockType(x, y, z))) {
+                                    if (count == found.length) {
+                                        found = Arrays.copyOf(found, count * 2);
+                                    }
+                                    found[count++] = BlockKey.pack(baseX + x, y, baseZ + z);
+                                }
+                            }
+                        }
+                    }
+                }
+                entry.publish(found, count);
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down - leave the chunk unindexed
+        }
+    }
+
+    // ============================================
+    // EVENTS
+    // ============================================
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        Block block = event.getBlockPlaced();
+        if (!interactive.contains(block.getType())) return;
+
+        ChunkEntry entry = existing(block);
+        if (entry != null) {
+            entry.add(BlockKey.pack(block.getX(), block.getY(), block.getZ()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        Block block = event.getBlock();
+        ChunkEntry entry = existing(block);
+        if (entry != null) {
+            entry.remove(BlockKey.pack(block.getX(), block.getY(), block.getZ()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Map<Long, ChunkEntry> chunks = worlds.get(event.getWorld().getUID());
+        if (chunks != null) {
+            chunks.remove(BlockKey.chunk(event.getChunk().getX(), event.getChunk().getZ()));
+        }
+    }
+
+    private ChunkEntry existing(Block block) {
+        Map<Long, ChunkEntry> chunks = worlds.get(block.getWorld().getUID());
+        return chunks == null ? null : chunks.get(BlockKey.chunk(block.getX() >> 4, block.getZ() >> 4));
+    }
+
+    private static final class ChunkEntry {
+        private static final long[] EMPTY = new long[0];
+
+        private volatile long[] positions = EMPTY;    // Replaced, never written in place
+        private volatile boolean ready;
+
+        synchronized void add(long key) {
+            long[] current = positions;
+            for (long existing : current) {
+                if (existing == key) return;
+            }
+            long[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = key;
+            positions = grown;
+        }
+
+        synchronized void remove(long key) {
+            long[] current = positions;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == key) {
+                    long[] shrunk = new long[current.length - 1];
+                    System.arraycopy(current, 0, shrunk, 0, i);
+                    System.arraycopy(current, i + 1, shrunk, i, shrunk.length - i);
+                    positions = shrunk;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Install a finished scan, keeping blocks placed while it ran
+         */
+        synchronized void publish(long[] scanned, int count) {
+            long[] placed = positions;
+            positions = Arrays.copyOf(scanned, count);
+            for (long key : placed) {
+                add(key);
+            }
+            ready = true;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.aitorque.world;
+
+import com.aitorque.AITorquePlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Surface Cache - Highest block per column, without asking the world
+ *
+ * Meteors, markers, towers and statues look up the ground height every tick
+ * or in bulk. Heights are kept per chunk as a 16x16 array, filled from the
+ * chunk's heightmap the first time a column in it is asked for. Block
+ * place/break/explode/burn events and the boss's own block edits mark the
+ * touched columns stale, and those are re-read from the world on their next
+ * lookup. Attacks and abilities that write blocks directly invalidate the
+ * columns they touch. As a safety net for changes nobody reports (pistons,
+ * falling blocks, other plugins), a chunk is re-read once it is older than
+ * performance.surface-cache-max-age. Server thread only.
+ */
+public class SurfaceCache implements Listener {
+
+    /** Column marked stale - read it from the world on the next lookup */
+    private static final int STALE = Integer.MIN_VALUE;
+
+    private final AITorquePlugin plugin;
+    private final Map<UUID, Map<Long, Entry>> worlds;
+
+    public SurfaceCache(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.worlds = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Y of the highest motion-blocking block in the column (same as World.getHighestBlockYAt)
+     */
+    public int getHighestY(World world, int x, int z) {
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+
+        // Never load a chunk just to cache it
+        if (!world.isChunkLoaded(chunkX, chunkZ)) {
+            return world.getHighestBlockYAt(x, z);
+        }
+
+        Map<Long, Entry> chunks = worlds.computeIfAbsent(world.getUID(), id -> new ConcurrentHashMap<>());
+        long key = BlockKey.chunk(chunkX, chunkZ);
+        long now = Bukkit.getCurrentTick();
+
+        Entry entry = chunks.get(key);
+        if (entry == null || now - entry.loadedTick > plugin.getConfigManager().getSurfaceCacheMaxAge()) {
+            entry = load(world, chunkX, chunkZ, now);
+            chunks.put(key, entry);
+        }
+
+        int column = ((x & 15) << 4) | (z & 15);
+        int height = entry.heights[column];
+        if (height == STALE) {
+            height = world.getHighestBlockYAt(x, z);
+            entry.heights[column] = height;
+        }
+        return height;
+    }
+
+    public int getHighestY(Location location) {
+        return getHighestY(location.getWorld(), location.getBlockX(), location.getBlockZ());
+    }
+
+    /**
+     * Mark one column stale
+     */
+    public void invalidate(World world, int x, int z) {
+        Entry entry = existing(world, x >> 4, z >> 4);
+        if (entry != null) {
+            entry.heights[((x & 15) << 4) | (z & 15)] = STALE;
+        }
+    }
+
+    /**
+     * Mark a whole chunk stale
+     */
+    public void invalidateChunk(World world, int chunkX, int chunkZ) {
+        Entry entry = existing(world, chunkX, chunkZ);
+        if (entry != null) {
+            Arrays.fill(entry.heights, STALE);
+        }
+    }
+
+    /**
+     * Cached chunks across all worlds
+     */
+    public int size() {
+        int count = 0;
+        for (Map<Long, Entry> chunks : worlds.values()) {
+            count += chunks.size();
+        }
+        return count;
+    }
+
+    public void clear() {
+        worlds.clear();
+    }
+
+    private Entry load(World world, int chunkX, int chunkZ, long now) {
+        ChunkSnapshot snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(true, false, false);
+        int[] heights = new int[256];
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                heights[(x << 4) | z] = snapshot.getHighestBlockYAt(x, z);
+            }
+        }
+        return new Entry(heights, now);
+    }
+
+    private Entry existing(World world, int chunkX, int chunkZ) {
+        Map<Long, Entry> chunks = worlds.get(world.getUID());
+        return chunks == null ? null : chunks.get(BlockKey.chunk(chunkX, chunkZ));
+    }
+
+    // ============================================
+    // EVENTS
+    // ============================================
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        invalidate(event.getBlockPlaced());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        invalidate(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        invalidate(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Map<Long, Entry> chunks = worlds.get(event.getWorld().getUID());
+        if (chunks != null) {
+            chunks.remove(BlockKey.chunk(event.getChunk().getX(), event.getChunk().getZ()));
+        }
+    }
+
+    private void invalidate(Block block) {
+        invalidate(block.getWorld(), block.getX(), block.getZ());
+    }
+
+    private void invalidate(List<Block> blocks) {
+        for (Block block : blocks) {
+            invalidate(block);
+        }
+    }
+
+    private static final class Entry {
+        private final int[] heights;
+        private final long loadedTick;
+
+        Entry(int[] heights, long loadedTick) {
+            this.heights = heights;
+            this.loadedTick = loadedTick;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.aitorque.world;
+
+import com.aitorque.AITorquePlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Terrain Cache - Shares chunk snapshots between block-heavy attacks
+ *
+ * Taking a ChunkSnapshot copies the chunk's sections, so snapshots are kept
+ * for a few seconds (performance.terrain-snapshot-max-age) and reused by any
+ * attack that needs the same chunk. Writes go through the live world and are
+ * re-checked there, so a slightly old snapshot only affects which blocks are
+ * picked, never what is changed.
+ */
+public class TerrainCache implements Listener {
+
+    private final AITorquePlugin plugin;
+    private final Map<UUID, Map<Long, Entry>> worlds;
+
+    public TerrainCache(AITorquePlugin plugin) {
+        this.plugin = plugin;
+        this.worlds = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Capture every loaded chunk within the horizontal radius (server thread only)
+     */
+    public TerrainSnapshot capture(Location center, int radius) {
+        World world = center.getWorld();
+        Map<Long, Entry> cached = worlds.computeIfAbsent(world.getUID(), id -> new ConcurrentHashMap<>());
+        long now = Bukkit.getCurrentTick();
+        int maxAge = plugin.getConfigManager().getTerrainSnapshotMaxAge();
+
+        int fromX = (center.getBlockX() - radius) >> 4;
+        int toX = (center.getBlockX() + radius) >> 4;
+        int fromZ = (center.getBlockZ() - radius) >> 4;
+        int toZ = (center.getBlockZ() + radius) >> 4;
+
+        Map<Long, ChunkSnapshot> chunks = new HashMap<>();
+        for (int chunkX = fromX; chunkX <= toX; chunkX++) {
+            for (int chunkZ = fromZ; chunkZ <= toZ; chunkZ++) {
+                if (!world.isChunkLoaded(chunkX, chunkZ)) continue;
+
+                long key = BlockKey.chunk(chunkX, chunkZ);
+                Entry entry = cached.get(key);
+                if (entry == null || now - entry.capturedTick > maxAge) {
+                    entry = new Entry(world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(true, false, false), now);
+                    cached.put(key, entry);
+                }
+                chunks.put(key, entry.snapshot);
+            }
+        }
+        return new TerrainSnapshot(world, chunks);
+    }
+
+    /**
+     * Cached chunk snapshots across all worlds
+     */
+    public int size() {
+        int count = 0;
+        for (Map<Long, Entry> chunks : worlds.values()) {
+            count += chunks.size();
+        }
+        return count;
+    }
+
+    public void clear() {
+        worlds.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Map<Long, Entry> chunks = worlds.get(event.getWorld().getUID());
+        if (chunks != null) {
+            chunks.remove(BlockKey.chunk(event.getChunk().getX(), event.getChunk().getZ()));
+        }
+    }
+
+    private static final class Entry {
+        private final ChunkSnapshot snapshot;
+        private final long capturedTick;
+
+        Entry(ChunkSnapshot snapshot, long capturedTick) {
+            this.snapshot = snapshot;
+            this.capturedTick = capturedTick;
+        }
+    }
+}
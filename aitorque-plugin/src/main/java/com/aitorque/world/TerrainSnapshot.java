@@ -0,0 +1,59 @@
+package com.aitorque.world;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import java.util.Map;
+
+/**
+ * Terrain Snapshot - Read-only copy of the chunks around a point
+ *
+ * Captured on the server thread by {@link TerrainCache} and safe to read from
+ * a compute worker. Positions in chunks that were not loaded (or lie outside
+ * the captured square) read as VOID_AIR so analyses skip them. Anything picked
+ * from a snapshot must be re-checked against the live world before it is
+ * changed, since the world may have moved on in the meantime.
+ */
+public final class TerrainSnapshot {
+
+    private final Map<Long, ChunkSnapshot> chunks;
+    private final int minY;
+    private final int maxY;
+
+    TerrainSnapshot(World world, Map<Long, ChunkSnapshot> chunks) {
+        this.chunks = chunks;
+        this.minY = world.getMinHeight();
+        this.maxY = world.getMaxHeight();
+    }
+
+    /**
+     * Whether the chunk was loaded and captured
+     */
+    public boolean hasChunk(int chunkX, int chunkZ) {
+        return chunks.containsKey(BlockKey.chunk(chunkX, chunkZ));
+    }
+
+    public Material getType(int x, int y, int z) {
+        if (y < minY || y >= maxY) return Material.VOID_AIR;
+
+        ChunkSnapshot chunk = chunks.get(BlockKey.chunk(x >> 4, z >> 4));
+        return chunk == null ? Material.VOID_AIR : chunk.getBlockType(x & 15, y, z & 15);
+    }
+
+    /**
+     * Y of the highest motion-blocking block, or the world minimum if unknown
+     */
+    public int getHighestY(int x, int z) {
+        ChunkSnapshot chunk = chunks.get(BlockKey.chunk(x >> 4, z >> 4));
+        return chunk == null ? minY : chunk.getHighestBlockYAt(x & 15, z & 15);
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+}